@@ -0,0 +1,205 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks shared by the map benchmarks: putting n keys into a new,
+ * empty map, so the time includes resizing; getting every key; getting n keys
+ * that are not in the map; and removing every key. Every map starts at its
+ * default capacity. Before any invocation that finds the map empty, which is
+ * only after a remove invocation, the keys are put back unmeasured.
+ *
+ * Scores are per n operations; {@link BenchmarkRunner} also prints them per
+ * operation.
+ *
+ * @author David Sweasey
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public abstract class AbstractMapBenchmark {
+
+	/** The seed used to generate every key, so runs are repeatable */
+	protected static final long SEED = 316L;
+
+	/** The number of keys */
+	@Param({ "10000", "100000", "1000000" })
+	public int n;
+
+	/** The map being measured */
+	private MapOperations map;
+
+	/**
+	 * Creates the n keys to put and the n keys that are not put
+	 */
+	protected abstract void createKeys();
+
+	/**
+	 * Returns a new, empty map
+	 *
+	 * @return the map's operations
+	 */
+	protected abstract MapOperations createMap();
+
+	/**
+	 * Creates the keys and fills a map with them
+	 */
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		createKeys();
+		map = createMap();
+		putAll();
+	}
+
+	/**
+	 * Puts the keys back into the map if a remove invocation emptied it
+	 */
+	@Setup(Level.Invocation)
+	public void refill() {
+		if (map.isEmpty()) {
+			putAll();
+		}
+	}
+
+	/**
+	 * Puts every key into the map
+	 *
+	 * @return the number of keys that were not already in the map
+	 */
+	private int putAll() {
+		int added = 0;
+		for (int i = 0; i < n; i++) {
+			if (map.put(i)) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Puts every key into a new, empty map
+	 *
+	 * @return the number of keys that were not already in the map
+	 */
+	@Benchmark
+	@PerElement
+	public int put() {
+		map = createMap();
+		return putAll();
+	}
+
+	/**
+	 * Gets every key
+	 *
+	 * @return the number of keys found
+	 */
+	@Benchmark
+	@PerElement
+	public int getHit() {
+		int found = 0;
+		for (int i = 0; i < n; i++) {
+			if (map.get(i)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Gets n keys that are not in the map
+	 *
+	 * @return the number of keys found
+	 */
+	@Benchmark
+	@PerElement
+	public int getMiss() {
+		int found = 0;
+		for (int i = 0; i < n; i++) {
+			if (map.getMiss(i)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Removes every key
+	 *
+	 * @return the number of keys removed; a repeated key is only removed once
+	 */
+	@Benchmark
+	@PerElement
+	public int remove() {
+		int removed = 0;
+		for (int i = 0; i < n; i++) {
+			if (map.remove(i)) {
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * The operations of a map on the key with a given index, each returning
+	 * whether it added, found, or removed the key
+	 *
+	 * @author David Sweasey
+	 */
+	protected interface MapOperations {
+
+		/**
+		 * Puts the key with an index
+		 *
+		 * @param i the index of the key
+		 * @return true if the key was not already in the map
+		 */
+		boolean put(int i);
+
+		/**
+		 * Gets the key with an index
+		 *
+		 * @param i the index of the key
+		 * @return true if the key was found
+		 */
+		boolean get(int i);
+
+		/**
+		 * Gets the key with an index among the keys that are never put
+		 *
+		 * @param i the index of the missing key
+		 * @return true if the key was found, which it never should be
+		 */
+		boolean getMiss(int i);
+
+		/**
+		 * Removes the key with an index
+		 *
+		 * @param i the index of the key
+		 * @return true if the key was removed
+		 */
+		boolean remove(int i);
+
+		/**
+		 * Returns whether the map is empty
+		 *
+		 * @return true if the map holds no keys
+		 */
+		boolean isEmpty();
+	}
+}
@@ -0,0 +1,126 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * The benchmark shared by the sorter benchmarks: each invocation sorts a fresh
+ * copy of the same input of n Students. The copy is made before the
+ * invocation, into an array allocated once, so neither its time nor its
+ * allocation is measured; only the sorter's own work is.
+ *
+ * @author David Sweasey
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public abstract class AbstractSorterBenchmark {
+
+	/** The sorter being measured */
+	private Sorter<Student> sorter;
+
+	/** The input, which is never sorted itself */
+	private Student[] input;
+
+	/** The array sorted by each invocation */
+	private Student[] data;
+
+	/**
+	 * Returns the sorter to measure
+	 *
+	 * @return the sorter
+	 */
+	protected abstract Sorter<Student> createSorter();
+
+	/**
+	 * Returns the input to sort
+	 *
+	 * @return the input
+	 */
+	protected abstract Student[] createInput();
+
+	/**
+	 * Creates the sorter and the input
+	 */
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sorter = createSorter();
+		input = createInput();
+		data = new Student[input.length];
+	}
+
+	/**
+	 * Copies the input into the array to sort
+	 */
+	@Setup(Level.Invocation)
+	public void copyInput() {
+		System.arraycopy(input, 0, data, 0, input.length);
+	}
+
+	/**
+	 * Sorts a copy of the input
+	 *
+	 * @return the sorted array
+	 */
+	@Benchmark
+	@PerElement
+	public Student[] sort() {
+		sorter.sort(data);
+		return data;
+	}
+
+	/**
+	 * The orders that Students are sorted in
+	 *
+	 * @author David Sweasey
+	 */
+	public enum Order {
+		/** Natural order: last name, first name, then id */
+		NATURAL(null),
+		/** StudentGPAComparator order: largest GPA first */
+		GPA(new StudentGPAComparator()),
+		/** StudentIDComparator order: smallest id first */
+		ID(new StudentIDComparator());
+
+		/** The comparator for the order, or null for natural order */
+		private Comparator<Student> comparator;
+
+		/**
+		 * Constructs an Order
+		 *
+		 * @param comparator the comparator for the order, or null for natural order
+		 */
+		Order(Comparator<Student> comparator) {
+			this.comparator = comparator;
+		}
+
+		/**
+		 * Returns the comparator for the order
+		 *
+		 * @return the comparator, or null for natural order
+		 */
+		public Comparator<Student> comparator() {
+			return comparator;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Locale;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * BenchmarkRunner runs JMH benchmarks exactly as org.openjdk.jmh.Main does,
+ * taking the same command line options, and then prints the results of every
+ * {@link PerElement} benchmark divided by its n parameter: the time per element
+ * and, when run with the GC profiler (-prof gc), the bytes allocated per
+ * element.
+ *
+ * Usage:
+ *
+ * <pre>
+ * gradle :jmh:jmh -PjmhArgs="[JMH options] [benchmark regexps]"
+ * java -jar jmh/build/libs/jmh-benchmarks.jar -prof gc [JMH options] [benchmark regexps]
+ * </pre>
+ *
+ * @author David Sweasey
+ */
+public class BenchmarkRunner {
+
+	/** The GC profiler's result for the bytes allocated per operation */
+	private static final String ALLOCATION_PER_OPERATION = "gc.alloc.rate.norm";
+
+	/** The GC profiler's result for the allocation rate */
+	private static final String ALLOCATION_RATE = "gc.alloc.rate";
+
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args JMH command line options
+	 * @throws Exception if the options are invalid or a benchmark cannot be run
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions options = new CommandLineOptions(args);
+		if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+				|| options.shouldListProfilers() || options.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+		Collection<RunResult> results = new Runner(options).run();
+
+		System.out.println();
+		System.out.println("benchmark,params,n,time/element,unit,bytes/element,MB/s allocated");
+		for (RunResult result : results) {
+			BenchmarkParams params = result.getParams();
+			if (params.getMode() != Mode.AverageTime || params.getParam("n") == null
+					|| !isPerElement(params.getBenchmark())) {
+				continue;
+			}
+			int n = Integer.parseInt(params.getParam("n"));
+			StringBuilder others = new StringBuilder();
+			for (String key : params.getParamsKeys()) {
+				if (!"n".equals(key)) {
+					others.append(others.length() == 0 ? "" : " ").append(key).append('=')
+							.append(params.getParam(key));
+				}
+			}
+			Result primary = result.getPrimaryResult();
+			Result bytes = result.getSecondaryResults().get(ALLOCATION_PER_OPERATION);
+			Result rate = result.getSecondaryResults().get(ALLOCATION_RATE);
+			System.out.println(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%s,%s,%s", params.getBenchmark(), others,
+					n, primary.getScore() / n, primary.getScoreUnit().replace("/op", "/element"),
+					bytes == null ? "" : String.format(Locale.ROOT, "%.2f", bytes.getScore() / n),
+					rate == null ? "" : String.format(Locale.ROOT, "%.1f", rate.getScore())));
+		}
+	}
+
+	/**
+	 * Returns whether a benchmark method is marked {@link PerElement}
+	 *
+	 * @param benchmark the fully qualified name of the benchmark method
+	 * @return true if each invocation of the benchmark works on n elements
+	 */
+	private static boolean isPerElement(String benchmark) {
+		int dot = benchmark.lastIndexOf('.');
+		try {
+			Method method = Class.forName(benchmark.substring(0, dot)).getMethod(benchmark.substring(dot + 1));
+			return method.isAnnotationPresent(PerElement.class);
+		} catch (ClassNotFoundException | NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
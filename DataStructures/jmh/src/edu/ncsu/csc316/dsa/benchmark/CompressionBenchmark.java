@@ -0,0 +1,76 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap.Compression;
+
+/**
+ * CompressionBenchmark compares the compression strategies of the hash maps,
+ * measuring each map with each strategy on the benchmarks of
+ * {@link AbstractMapBenchmark}. Keys are random; even keys are put and odd
+ * keys are the misses. Keys are boxed up front so that boxing is not measured.
+ *
+ * @author David Sweasey
+ */
+public class CompressionBenchmark extends AbstractMapBenchmark {
+
+	/** The map to measure */
+	@Param
+	public HashMapKind map;
+
+	/** The compression strategy */
+	@Param
+	public Compression compression;
+
+	/** The keys to put */
+	private Integer[] keys;
+
+	/** Keys that are not put */
+	private Integer[] misses;
+
+	@Override
+	protected void createKeys() {
+		Random random = new Random(SEED);
+		keys = new Integer[n];
+		misses = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = random.nextInt() & ~1;
+			misses[i] = random.nextInt() | 1;
+		}
+	}
+
+	@Override
+	protected MapOperations createMap() {
+		AbstractHashMap<Integer, Integer> hashMap = map.create();
+		hashMap.setCompression(compression);
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return hashMap.put(keys[i], i) == null;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return hashMap.get(keys[i]) != null;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return hashMap.get(misses[i]) != null;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return hashMap.remove(keys[i]) != null;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return hashMap.isEmpty();
+			}
+		};
+	}
+}
@@ -0,0 +1,316 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.FlatHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.RobinHoodHashMap;
+
+/**
+ * HashMapBenchmark measures the latency of individual puts into the hash maps,
+ * resizing all at once and incrementally, and the open-addressing maps under
+ * churn.
+ *
+ * {@link #put} samples the time of single puts into a map that grows from
+ * empty to n entries, over and over, so JMH reports the median, the 99th and
+ * 99.9th percentiles, and the slowest put. A map that resizes all at once has a
+ * few puts as slow as copying the whole table; an incrementally resized map
+ * spreads that work across the following puts.
+ *
+ * {@link #churn} and {@link #lookup} measure a map filled to just under its
+ * resize threshold, as in a session map: each churn round removes one entry and
+ * puts a new one, without the map ever growing, and lookups alternate between
+ * hits and misses. After each trial the mean, 99th percentile, and longest
+ * probe lengths of hits and misses are printed from the map's probe
+ * histograms. Deleted slots left by LinearProbingHashMap lengthen its misses;
+ * RobinHoodHashMap and FlatHashMap leave none.
+ *
+ * @author David Sweasey
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class HashMapBenchmark {
+
+	/** The seed used to generate every key, so runs are repeatable */
+	private static final long SEED = 316L;
+
+	/** Multiplying a counter by this odd constant gives distinct scattered keys */
+	private static final int SCATTER = 0x9E3779B9;
+
+	/**
+	 * Puts the next key into a growing map
+	 *
+	 * @param state the map and its keys
+	 * @return the value previously associated with the key, if any
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Integer put(Growing state) {
+		int i = state.next++;
+		return state.hashMap.put(state.keys[i], i);
+	}
+
+	/**
+	 * Removes a random entry and puts a new one
+	 *
+	 * @param state the full map
+	 * @return the value of the removed entry
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Integer churn(Churned state) {
+		int i = state.nextPick();
+		Integer removed = state.hashMap.remove(state.keys[i]);
+		state.keys[i] = state.next++ * SCATTER;
+		state.hashMap.put(state.keys[i], i);
+		return removed;
+	}
+
+	/**
+	 * Gets a random key that is in the map, or a key that is not, in turn
+	 *
+	 * @param state the full map
+	 * @return the value found, or null
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Integer lookup(Churned state) {
+		state.hit = !state.hit;
+		return state.hashMap.get(state.hit ? state.keys[state.nextPick()] : state.miss++ * SCATTER);
+	}
+
+	/**
+	 * A map that is refilled from empty each time it reaches n entries
+	 *
+	 * @author David Sweasey
+	 */
+	@State(Scope.Thread)
+	public static class Growing {
+
+		/** The map to measure */
+		@Param
+		public HashMapKind map;
+
+		/** Whether the map resizes incrementally */
+		@Param({ "false", "true" })
+		public boolean incremental;
+
+		/** The number of entries put before the map is replaced */
+		@Param({ "100000", "1000000", "10000000" })
+		public int n;
+
+		/** The keys to put */
+		private int[] keys;
+
+		/** The map being filled */
+		private AbstractHashMap<Integer, Integer> hashMap;
+
+		/** The index of the next key to put */
+		private int next;
+
+		/**
+		 * Creates the keys and an empty map
+		 */
+		@Setup(Level.Trial)
+		public void setUpTrial() {
+			keys = new Random(SEED).ints(n).toArray();
+			restart();
+		}
+
+		/**
+		 * Replaces the map with an empty one once every key has been put. Sampled
+		 * puts are timed individually anyway, so this adds nothing to them.
+		 */
+		@Setup(Level.Invocation)
+		public void restartIfFull() {
+			if (next == n) {
+				restart();
+			}
+		}
+
+		/**
+		 * Replaces the map with an empty one
+		 */
+		private void restart() {
+			hashMap = map.create();
+			hashMap.setIncrementalResize(incremental);
+			next = 0;
+		}
+	}
+
+	/**
+	 * A map filled to just under its resize threshold
+	 *
+	 * @author David Sweasey
+	 */
+	@State(Scope.Thread)
+	public static class Churned {
+
+		/** The map to measure and its load */
+		@Param
+		public ChurnedMap map;
+
+		/** The number of entries */
+		@Param({ "100000", "1000000", "10000000" })
+		public int n;
+
+		/** The key of each entry */
+		private int[] keys;
+
+		/** Random indexes of entries, used in turn */
+		private int[] picks;
+
+		/** The index in picks of the next entry to use */
+		private int pick;
+
+		/** The counter of the next key to put */
+		private int next;
+
+		/** The counter of the next key to miss */
+		private int miss;
+
+		/** Whether the last lookup was a hit */
+		private boolean hit;
+
+		/** The full map */
+		private AbstractHashMap<Integer, Integer> hashMap;
+
+		/**
+		 * Fills the map
+		 */
+		@Setup(Level.Trial)
+		public void setUpTrial() {
+			hashMap = map.create(n);
+			keys = new int[n];
+			for (int i = 0; i < n; i++) {
+				keys[i] = next++ * SCATTER;
+				hashMap.put(keys[i], i);
+			}
+			picks = new Random(SEED).ints(n, 0, n).toArray();
+			// Lookups never put, so misses can count far past the keys put by churn
+			miss = Integer.MIN_VALUE;
+		}
+
+		/**
+		 * Prints the probe lengths of hits and misses at the end of the trial
+		 */
+		@TearDown(Level.Trial)
+		public void printProbeLengths() {
+			int[] hits;
+			int[] misses;
+			if (hashMap instanceof LinearProbingHashMap) {
+				hits = ((LinearProbingHashMap<Integer, Integer>) hashMap).getProbeHistogram();
+				misses = ((LinearProbingHashMap<Integer, Integer>) hashMap).getMissProbeHistogram();
+			} else if (hashMap instanceof FlatHashMap) {
+				hits = ((FlatHashMap<Integer, Integer>) hashMap).getProbeHistogram();
+				misses = ((FlatHashMap<Integer, Integer>) hashMap).getMissProbeHistogram();
+			} else {
+				hits = ((RobinHoodHashMap<Integer, Integer>) hashMap).getProbeHistogram();
+				misses = ((RobinHoodHashMap<Integer, Integer>) hashMap).getMissProbeHistogram();
+			}
+			System.out.println();
+			System.out.println(String.format(Locale.ROOT, "%s load %.2f: hit probes %s; miss probes %s", map,
+					map.load, summary(hits), summary(misses)));
+		}
+
+		/**
+		 * Returns the index of a random entry
+		 *
+		 * @return the index
+		 */
+		private int nextPick() {
+			int i = picks[pick];
+			pick = pick + 1 == picks.length ? 0 : pick + 1;
+			return i;
+		}
+
+		/**
+		 * Returns the mean, 99th percentile, and longest probe length of a probe
+		 * histogram, where element i counts probes that inspect i + 1 slots
+		 *
+		 * @param histogram the histogram
+		 * @return the summary
+		 */
+		private static String summary(int[] histogram) {
+			long count = 0;
+			long total = 0;
+			for (int i = 0; i < histogram.length; i++) {
+				count += histogram[i];
+				total += (long) (i + 1) * histogram[i];
+			}
+			int p99 = 0;
+			long seen = 0;
+			while (p99 < histogram.length - 1 && (seen += histogram[p99]) < 0.99 * count) {
+				p99++;
+			}
+			return String.format(Locale.ROOT, "mean %.2f, p99 %d, max %d", (double) total / count, p99 + 1,
+					histogram.length);
+		}
+	}
+
+	/**
+	 * The open-addressing maps measured under churn, each at a load just under
+	 * the one that would make it resize
+	 *
+	 * @author David Sweasey
+	 */
+	public enum ChurnedMap {
+		/** LinearProbingHashMap, half full */
+		LINEAR_PROBING(HashMapKind.LINEAR_PROBING, 0.5),
+		/** FlatHashMap, half full */
+		FLAT(HashMapKind.FLAT, 0.5),
+		/** RobinHoodHashMap at the same load as linear probing */
+		ROBIN_HOOD(HashMapKind.ROBIN_HOOD, 0.5),
+		/** RobinHoodHashMap, nine tenths full */
+		ROBIN_HOOD_FULL(HashMapKind.ROBIN_HOOD, 0.9);
+
+		/** The kind of map */
+		private HashMapKind kind;
+
+		/** The load the map is filled to */
+		private double load;
+
+		/**
+		 * Constructs a ChurnedMap
+		 *
+		 * @param kind the kind of map
+		 * @param load the load the map is filled to
+		 */
+		ChurnedMap(HashMapKind kind, double load) {
+			this.kind = kind;
+			this.load = load;
+		}
+
+		/**
+		 * Returns an empty map with a capacity that n entries fill to just under
+		 * the load
+		 *
+		 * @param n the number of entries
+		 * @return the map
+		 */
+		public AbstractHashMap<Integer, Integer> create(int n) {
+			return kind.create((int) (n / load) + 1);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.FlatHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.RobinHoodHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.SeparateChainingHashMap;
+
+/**
+ * The hash maps compared by the hash map benchmarks
+ *
+ * @author David Sweasey
+ */
+public enum HashMapKind {
+
+	/** LinearProbingHashMap */
+	LINEAR_PROBING(LinearProbingHashMap::new, LinearProbingHashMap::new),
+
+	/** SeparateChainingHashMap */
+	SEPARATE_CHAINING(SeparateChainingHashMap::new, SeparateChainingHashMap::new),
+
+	/** FlatHashMap */
+	FLAT(FlatHashMap::new, FlatHashMap::new),
+
+	/** RobinHoodHashMap */
+	ROBIN_HOOD(RobinHoodHashMap::new, RobinHoodHashMap::new);
+
+	/** Creates an empty map with the default capacity */
+	private Supplier<AbstractHashMap<Integer, Integer>> maps;
+
+	/** Creates an empty map with a given capacity */
+	private IntFunction<AbstractHashMap<Integer, Integer>> sizedMaps;
+
+	/**
+	 * Constructs a HashMapKind
+	 *
+	 * @param maps creates an empty map with the default capacity
+	 * @param sizedMaps creates an empty map with a given capacity
+	 */
+	HashMapKind(Supplier<AbstractHashMap<Integer, Integer>> maps,
+			IntFunction<AbstractHashMap<Integer, Integer>> sizedMaps) {
+		this.maps = maps;
+		this.sizedMaps = sizedMaps;
+	}
+
+	/**
+	 * Returns a new, empty map with the default capacity
+	 *
+	 * @return the map
+	 */
+	public AbstractHashMap<Integer, Integer> create() {
+		return maps.get();
+	}
+
+	/**
+	 * Returns a new, empty map with a given capacity
+	 *
+	 * @param capacity the capacity of the map's table
+	 * @return the map
+	 */
+	public AbstractHashMap<Integer, Integer> create(int capacity) {
+		return sizedMaps.apply(capacity);
+	}
+}
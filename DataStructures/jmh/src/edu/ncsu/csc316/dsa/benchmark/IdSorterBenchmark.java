@@ -0,0 +1,52 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.sorter.CountingSorter;
+import edu.ncsu.csc316.dsa.sorter.RadixSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * IdSorterBenchmark measures the sorters that sort by id without comparisons
+ * over the same sizes and distributions as {@link SorterBenchmark}. Their
+ * scores compare with SorterBenchmark's scores in the id order.
+ *
+ * @author David Sweasey
+ */
+public class IdSorterBenchmark extends AbstractSorterBenchmark {
+
+	/** The number of Students to sort */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	public int n;
+
+	/** The shape of the input */
+	@Param
+	public InputDistribution distribution;
+
+	/** The sorter to measure */
+	@Param
+	public Algorithm sorter;
+
+	@Override
+	protected Sorter<Student> createSorter() {
+		return sorter == Algorithm.COUNTING ? new CountingSorter<Student>() : new RadixSorter<Student>();
+	}
+
+	@Override
+	protected Student[] createInput() {
+		return distribution.students(n);
+	}
+
+	/**
+	 * The sorters measured by IdSorterBenchmark
+	 *
+	 * @author David Sweasey
+	 */
+	public enum Algorithm {
+		/** CountingSorter */
+		COUNTING,
+		/** RadixSorter */
+		RADIX
+	}
+}
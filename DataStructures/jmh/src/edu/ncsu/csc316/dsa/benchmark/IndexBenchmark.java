@@ -0,0 +1,307 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.manager.StudentManager;
+
+/**
+ * IndexBenchmark measures the lookups of StudentManager on a random roster of n
+ * students: each kind of lookup through the indexes, the same lookup by
+ * scanning the roster as callers did before the indexes existed, and the time
+ * taken to build the indexes.
+ *
+ * @author David Sweasey
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IndexBenchmark {
+
+	/** The seed used to generate every roster and query, so runs are repeatable */
+	private static final long SEED = 316L;
+
+	/** The number of distinct queries of each kind, used in turn */
+	private static final int QUERIES = 1024;
+
+	/** Syllables that random names are built from */
+	private static final String[] SYLLABLES = { "an", "ber", "ca", "dan", "el", "fi", "gor", "ha", "is", "jo",
+			"ka", "li", "mar", "ne", "o", "pe", "qui", "ro", "sa", "ta", "u", "vi", "wen", "xa", "yo", "zu" };
+
+	/**
+	 * Finds a student by id through the index
+	 *
+	 * @param roster the roster and queries
+	 * @return the student found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Student findByID(Roster roster) {
+		return roster.manager.findByID(roster.ids[roster.nextQuery()]);
+	}
+
+	/**
+	 * Finds a student by id by scanning the roster
+	 *
+	 * @param roster the roster and queries
+	 * @return the student found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Student scanByID(Roster roster) {
+		int id = roster.ids[roster.nextQuery()];
+		for (Student s : roster.students) {
+			if (s.getId() == id) {
+				return s;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds a student by unity id through the index
+	 *
+	 * @param roster the roster and queries
+	 * @return the student found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Student findByUnityID(Roster roster) {
+		return roster.manager.findByUnityID(roster.unityIDs[roster.nextQuery()]);
+	}
+
+	/**
+	 * Finds a student by unity id by scanning the roster
+	 *
+	 * @param roster the roster and queries
+	 * @return the student found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Student scanByUnityID(Roster roster) {
+		String unityID = roster.unityIDs[roster.nextQuery()];
+		for (Student s : roster.students) {
+			if (s.getUnityID().equals(unityID)) {
+				return s;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the students whose last names start with a prefix through the index
+	 *
+	 * @param roster the roster and queries
+	 * @return the students found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public Student[] findByLastNamePrefix(Roster roster) {
+		return roster.manager.findByLastNamePrefix(roster.prefixes[roster.nextQuery()]);
+	}
+
+	/**
+	 * Counts the students whose last names start with a prefix by scanning the
+	 * roster
+	 *
+	 * @param roster the roster and queries
+	 * @return the number of students found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public int scanByLastNamePrefix(Roster roster) {
+		String prefix = roster.prefixes[roster.nextQuery()];
+		int found = 0;
+		for (Student s : roster.students) {
+			if (s.getLast().startsWith(prefix)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Builds the indexes of a freshly loaded roster with its first lookup
+	 *
+	 * @param unindexed the freshly loaded roster
+	 * @return the student found
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public Student buildIndexes(Unindexed unindexed) {
+		return unindexed.manager.findByID(unindexed.id);
+	}
+
+	/**
+	 * A roster with built indexes, and the queries made of it
+	 *
+	 * @author David Sweasey
+	 */
+	@State(Scope.Thread)
+	public static class Roster {
+
+		/** The number of students in the roster */
+		@Param({ "1000", "10000", "100000", "1000000" })
+		public int n;
+
+		/** The roster file */
+		private File file;
+
+		/** The manager of the roster, with its indexes built */
+		private StudentManager manager;
+
+		/** The students in the roster, in id order */
+		private Student[] students;
+
+		/** The ids queried */
+		private int[] ids;
+
+		/** The unity ids queried */
+		private String[] unityIDs;
+
+		/** The last name prefixes queried */
+		private String[] prefixes;
+
+		/** The index of the next query */
+		private int query;
+
+		/**
+		 * Writes and loads the roster, picks the queries, and builds the indexes
+		 */
+		@Setup(Level.Trial)
+		public void setUpTrial() {
+			file = writeRoster(n);
+			manager = new StudentManager(file.getPath());
+			students = manager.sortByID().clone();
+			Random random = new Random(SEED);
+			ids = new int[QUERIES];
+			unityIDs = new String[QUERIES];
+			prefixes = new String[QUERIES];
+			for (int i = 0; i < QUERIES; i++) {
+				Student s = students[random.nextInt(n)];
+				ids[i] = s.getId();
+				unityIDs[i] = s.getUnityID();
+				prefixes[i] = s.getLast().substring(0, Math.min(4, s.getLast().length()));
+			}
+			// The first lookup builds the indexes
+			manager.findByID(ids[0]);
+		}
+
+		/**
+		 * Deletes the roster file
+		 */
+		@TearDown(Level.Trial)
+		public void tearDownTrial() {
+			file.delete();
+		}
+
+		/**
+		 * Returns the index of the next query
+		 *
+		 * @return the index
+		 */
+		private int nextQuery() {
+			query = (query + 1) & (QUERIES - 1);
+			return query;
+		}
+	}
+
+	/**
+	 * A freshly loaded roster whose indexes have not been built
+	 *
+	 * @author David Sweasey
+	 */
+	@State(Scope.Thread)
+	public static class Unindexed {
+
+		/** The manager of the roster */
+		private StudentManager manager;
+
+		/** An id in the roster */
+		private int id;
+
+		/**
+		 * Loads the roster again before each build
+		 *
+		 * @param roster the roster
+		 */
+		@Setup(Level.Invocation)
+		public void load(Roster roster) {
+			manager = new StudentManager(roster.file.getPath());
+			id = roster.ids[0];
+		}
+	}
+
+	/**
+	 * Writes a student CSV file of random students with distinct ids and unity
+	 * ids to a temporary file
+	 *
+	 * @param n the number of students
+	 * @return the file
+	 */
+	private static File writeRoster(int n) {
+		Random random = new Random(SEED);
+		try {
+			File file = File.createTempFile("roster", ".csv");
+			try (BufferedWriter out = new BufferedWriter(new FileWriter(file))) {
+				out.write("FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS\n");
+				for (int i = 0; i < n; i++) {
+					String first = name(random);
+					String last = name(random);
+					out.write(first + "," + last + "," + last.toLowerCase(Locale.ROOT) + i + "," + (i + 1) + ","
+							+ String.format(Locale.ROOT, "%.2f", 4 * random.nextDouble()) + "," + random.nextInt(19)
+							+ "\n");
+				}
+			}
+			return file;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns a random capitalized name of two to four syllables
+	 *
+	 * @param random the source of randomness
+	 * @return the name
+	 */
+	private static String name(Random random) {
+		StringBuilder name = new StringBuilder();
+		int syllables = 2 + random.nextInt(3);
+		for (int i = 0; i < syllables; i++) {
+			name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+		}
+		name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+		return name.toString();
+	}
+}
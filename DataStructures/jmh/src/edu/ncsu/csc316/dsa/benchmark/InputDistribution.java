@@ -0,0 +1,139 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * The shapes of input used to benchmark sorters. Each distribution produces an
+ * array of n non-negative int keys, which {@link #students} turns into
+ * Students.
+ *
+ * @author David Sweasey
+ */
+public enum InputDistribution {
+
+	/** Distinct keys in random order */
+	RANDOM {
+		@Override
+		public int[] keys(int n, Random random) {
+			int[] keys = ASCENDING.keys(n, random);
+			for (int i = n - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				int temp = keys[i];
+				keys[i] = keys[j];
+				keys[j] = temp;
+			}
+			return keys;
+		}
+	},
+
+	/** Distinct keys already in ascending order */
+	ASCENDING {
+		@Override
+		public int[] keys(int n, Random random) {
+			int[] keys = new int[n];
+			for (int i = 0; i < n; i++) {
+				keys[i] = i;
+			}
+			return keys;
+		}
+	},
+
+	/** Distinct keys in descending order */
+	DESCENDING {
+		@Override
+		public int[] keys(int n, Random random) {
+			int[] keys = new int[n];
+			for (int i = 0; i < n; i++) {
+				keys[i] = n - 1 - i;
+			}
+			return keys;
+		}
+	},
+
+	/** Random keys drawn from only a handful of distinct values */
+	FEW_UNIQUE {
+		@Override
+		public int[] keys(int n, Random random) {
+			int[] keys = new int[n];
+			for (int i = 0; i < n; i++) {
+				keys[i] = random.nextInt(FEW_UNIQUE_VALUES);
+			}
+			return keys;
+		}
+	},
+
+	/** Keys that rise to a peak in the middle and fall again */
+	ORGAN_PIPE {
+		@Override
+		public int[] keys(int n, Random random) {
+			int[] keys = new int[n];
+			for (int i = 0; i < n; i++) {
+				keys[i] = Math.min(i, n - 1 - i);
+			}
+			return keys;
+		}
+	},
+
+	/**
+	 * Random keys where the key of rank r appears with probability proportional
+	 * to 1/r, so a few keys are very common and most are rare
+	 */
+	ZIPF {
+		@Override
+		public int[] keys(int n, Random random) {
+			int values = Math.max(1, Math.min(n, ZIPF_MAX_VALUES));
+			double[] cumulative = new double[values];
+			double total = 0;
+			for (int rank = 0; rank < values; rank++) {
+				total += 1.0 / (rank + 1);
+				cumulative[rank] = total;
+			}
+			int[] keys = new int[n];
+			for (int i = 0; i < n; i++) {
+				int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+				keys[i] = rank >= 0 ? rank : Math.min(-rank - 1, values - 1);
+			}
+			return keys;
+		}
+	};
+
+	/** The number of distinct keys in FEW_UNIQUE input */
+	private static final int FEW_UNIQUE_VALUES = 8;
+
+	/** The largest number of distinct keys in ZIPF input */
+	private static final int ZIPF_MAX_VALUES = 1 << 16;
+
+	/** The seed used to generate every input, so runs are repeatable */
+	private static final long SEED = 316L;
+
+	/**
+	 * Returns n keys with this distribution
+	 *
+	 * @param n the number of keys
+	 * @param random the source of randomness for distributions that need it
+	 * @return the keys
+	 */
+	public abstract int[] keys(int n, Random random);
+
+	/**
+	 * Returns n Students whose keys have this distribution. The key becomes the
+	 * id, and the GPA rises with the key, so each order sees the shape of the
+	 * distribution. Every Student shares the same names, which makes the natural
+	 * order follow the ids.
+	 *
+	 * @param n the number of Students
+	 * @return the Students
+	 */
+	public Student[] students(int n) {
+		int[] keys = keys(n, new Random(SEED));
+		Student[] students = new Student[n];
+		for (int i = 0; i < n; i++) {
+			double gpa = Math.round(400.0 * keys[i] / n) / 100.0;
+			students[i] = new Student("First", "Last", keys[i], 15, gpa, "unity");
+		}
+		return students;
+	}
+}
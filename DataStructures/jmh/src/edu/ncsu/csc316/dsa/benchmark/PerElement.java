@@ -0,0 +1,18 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a benchmark whose every invocation works on all n elements of its
+ * input, where n is the benchmark's "n" parameter, so that
+ * {@link BenchmarkRunner} can also report its time and allocation per element
+ *
+ * @author David Sweasey
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerElement {
+}
@@ -0,0 +1,310 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.ncsu.csc316.dsa.map.hashing.IntIntHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.IntObjectHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.LongObjectHashMap;
+
+/**
+ * PrimitiveHashMapBenchmark compares the primitive-keyed hash maps with
+ * LinearProbingHashMap holding boxed keys, on the benchmarks of
+ * {@link AbstractMapBenchmark}. Keys are random; even keys are put and odd
+ * keys are the misses. Keys are held as primitives, so the boxed maps box each
+ * key as they would in use.
+ *
+ * @author David Sweasey
+ */
+public class PrimitiveHashMapBenchmark extends AbstractMapBenchmark {
+
+	/** The value stored for every key in the maps with object values */
+	private static final String VALUE = "value";
+
+	/** The value IntIntHashMap returns for a missing key */
+	private static final int MISSING = -1;
+
+	/** The map to measure */
+	@Param
+	public Kind map;
+
+	/** The int keys to put */
+	private int[] keys;
+
+	/** Int keys that are not put */
+	private int[] misses;
+
+	/** The long keys to put */
+	private long[] longKeys;
+
+	/** Long keys that are not put */
+	private long[] longMisses;
+
+	@Override
+	protected void createKeys() {
+		Random random = new Random(SEED);
+		keys = new int[n];
+		misses = new int[n];
+		longKeys = new long[n];
+		longMisses = new long[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = random.nextInt() & ~1;
+			misses[i] = random.nextInt() | 1;
+			longKeys[i] = random.nextLong() & ~1L;
+			longMisses[i] = random.nextLong() | 1L;
+		}
+	}
+
+	@Override
+	protected MapOperations createMap() {
+		switch (map) {
+		case BOXED_INT_OBJECT:
+			return boxedIntObject(new LinearProbingHashMap<Integer, String>());
+		case INT_OBJECT:
+			return intObject(new IntObjectHashMap<String>());
+		case BOXED_INT_INT:
+			return boxedIntInt(new LinearProbingHashMap<Integer, Integer>());
+		case INT_INT:
+			return intInt(new IntIntHashMap(16, MISSING));
+		case BOXED_LONG_OBJECT:
+			return boxedLongObject(new LinearProbingHashMap<Long, String>());
+		default:
+			return longObject(new LongObjectHashMap<String>());
+		}
+	}
+
+	/**
+	 * Returns the operations of a LinearProbingHashMap with Integer keys and
+	 * String values
+	 *
+	 * @param boxed the map
+	 * @return the map's operations
+	 */
+	private MapOperations boxedIntObject(LinearProbingHashMap<Integer, String> boxed) {
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return boxed.put(keys[i], VALUE) == null;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return boxed.get(keys[i]) != null;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return boxed.get(misses[i]) != null;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return boxed.remove(keys[i]) != null;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return boxed.isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * Returns the operations of an IntObjectHashMap
+	 *
+	 * @param primitive the map
+	 * @return the map's operations
+	 */
+	private MapOperations intObject(IntObjectHashMap<String> primitive) {
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return primitive.put(keys[i], VALUE) == null;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return primitive.get(keys[i]) != null;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return primitive.get(misses[i]) != null;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return primitive.remove(keys[i]) != null;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return primitive.isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * Returns the operations of a LinearProbingHashMap with Integer keys and
+	 * Integer values
+	 *
+	 * @param boxed the map
+	 * @return the map's operations
+	 */
+	private MapOperations boxedIntInt(LinearProbingHashMap<Integer, Integer> boxed) {
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return boxed.put(keys[i], i) == null;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return boxed.get(keys[i]) != null;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return boxed.get(misses[i]) != null;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return boxed.remove(keys[i]) != null;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return boxed.isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * Returns the operations of an IntIntHashMap whose missing value is never
+	 * put
+	 *
+	 * @param primitive the map
+	 * @return the map's operations
+	 */
+	private MapOperations intInt(IntIntHashMap primitive) {
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return primitive.put(keys[i], i) == MISSING;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return primitive.get(keys[i]) != MISSING;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return primitive.get(misses[i]) != MISSING;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return primitive.remove(keys[i]) != MISSING;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return primitive.isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * Returns the operations of a LinearProbingHashMap with Long keys
+	 *
+	 * @param boxed the map
+	 * @return the map's operations
+	 */
+	private MapOperations boxedLongObject(LinearProbingHashMap<Long, String> boxed) {
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return boxed.put(longKeys[i], VALUE) == null;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return boxed.get(longKeys[i]) != null;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return boxed.get(longMisses[i]) != null;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return boxed.remove(longKeys[i]) != null;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return boxed.isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * Returns the operations of a LongObjectHashMap
+	 *
+	 * @param primitive the map
+	 * @return the map's operations
+	 */
+	private MapOperations longObject(LongObjectHashMap<String> primitive) {
+		return new MapOperations() {
+			@Override
+			public boolean put(int i) {
+				return primitive.put(longKeys[i], VALUE) == null;
+			}
+
+			@Override
+			public boolean get(int i) {
+				return primitive.get(longKeys[i]) != null;
+			}
+
+			@Override
+			public boolean getMiss(int i) {
+				return primitive.get(longMisses[i]) != null;
+			}
+
+			@Override
+			public boolean remove(int i) {
+				return primitive.remove(longKeys[i]) != null;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return primitive.isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * The maps measured by PrimitiveHashMapBenchmark
+	 *
+	 * @author David Sweasey
+	 */
+	public enum Kind {
+		/** LinearProbingHashMap with Integer keys and String values */
+		BOXED_INT_OBJECT,
+		/** IntObjectHashMap with String values */
+		INT_OBJECT,
+		/** LinearProbingHashMap with Integer keys and values */
+		BOXED_INT_INT,
+		/** IntIntHashMap */
+		INT_INT,
+		/** LinearProbingHashMap with Long keys and String values */
+		BOXED_LONG_OBJECT,
+		/** LongObjectHashMap with String values */
+		LONG_OBJECT
+	}
+}
@@ -0,0 +1,78 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Comparator;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.sorter.BubbleSorter;
+import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.sorter.SelectionSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * QuadraticSorterBenchmark measures the O(n^2) sorters over every
+ * {@link InputDistribution} and the natural, GPA, and id orders, like
+ * {@link SorterBenchmark}, but only up to 1e5 elements.
+ *
+ * @author David Sweasey
+ */
+public class QuadraticSorterBenchmark extends AbstractSorterBenchmark {
+
+	/** The number of Students to sort */
+	@Param({ "1000", "10000", "100000" })
+	public int n;
+
+	/** The shape of the input */
+	@Param
+	public InputDistribution distribution;
+
+	/** The order to sort in */
+	@Param
+	public Order comparator;
+
+	/** The sorter to measure */
+	@Param
+	public Algorithm sorter;
+
+	@Override
+	protected Sorter<Student> createSorter() {
+		return sorter.create(comparator.comparator());
+	}
+
+	@Override
+	protected Student[] createInput() {
+		return distribution.students(n);
+	}
+
+	/**
+	 * The sorters measured by QuadraticSorterBenchmark
+	 *
+	 * @author David Sweasey
+	 */
+	public enum Algorithm {
+		/** BubbleSorter */
+		BUBBLE,
+		/** InsertionSorter */
+		INSERTION,
+		/** SelectionSorter */
+		SELECTION;
+
+		/**
+		 * Returns a new sorter of this kind
+		 *
+		 * @param comparator the order to sort in, or null for natural order
+		 * @return the sorter
+		 */
+		public Sorter<Student> create(Comparator<Student> comparator) {
+			switch (this) {
+			case BUBBLE:
+				return new BubbleSorter<Student>(comparator);
+			case INSERTION:
+				return new InsertionSorter<Student>(comparator);
+			default:
+				return new SelectionSorter<Student>(comparator);
+			}
+		}
+	}
+}
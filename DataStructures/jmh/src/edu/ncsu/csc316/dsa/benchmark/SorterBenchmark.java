@@ -0,0 +1,122 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.util.Comparator;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelMergeSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
+
+/**
+ * SorterBenchmark measures the O(nlogn) comparison sorters, every QuickSorter
+ * pivot selector and partition scheme included, over input sizes from 1e3 to
+ * 1e7, every {@link InputDistribution}, and the natural, GPA, and id orders.
+ * The quadratic sorters are measured by {@link QuadraticSorterBenchmark}, and
+ * the sorters that only sort by id by {@link IdSorterBenchmark}.
+ *
+ * Scores are per sort; {@link BenchmarkRunner} also prints them per element.
+ * For example:
+ *
+ * <pre>
+ * gradle :jmh:jmh -PjmhArgs="SorterBenchmark -p n=1000,100000 -p distribution=RANDOM,ZIPF -p comparator=GPA"
+ * </pre>
+ *
+ * The first, last, and middle element selectors degrade to quadratic time on
+ * some distributions, so a full run at the largest sizes takes a long time;
+ * narrow the sizes or sorters with -p.
+ *
+ * @author David Sweasey
+ */
+public class SorterBenchmark extends AbstractSorterBenchmark {
+
+	/** The number of Students to sort */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	public int n;
+
+	/** The shape of the input */
+	@Param
+	public InputDistribution distribution;
+
+	/** The order to sort in */
+	@Param
+	public Order comparator;
+
+	/** The sorter to measure */
+	@Param
+	public Algorithm sorter;
+
+	@Override
+	protected Sorter<Student> createSorter() {
+		return sorter.create(comparator.comparator());
+	}
+
+	@Override
+	protected Student[] createInput() {
+		return distribution.students(n);
+	}
+
+	/**
+	 * The sorters measured by SorterBenchmark
+	 *
+	 * @author David Sweasey
+	 */
+	public enum Algorithm {
+		/** MergeSorter */
+		MERGE,
+		/** ParallelMergeSorter */
+		PARALLEL_MERGE,
+		/** TimSorter */
+		TIM,
+		/** QuickSorter choosing the first element as the pivot */
+		QUICK_FIRST,
+		/** QuickSorter choosing the last element as the pivot */
+		QUICK_LAST,
+		/** QuickSorter choosing the middle element as the pivot */
+		QUICK_MIDDLE,
+		/** QuickSorter choosing a random element as the pivot */
+		QUICK_RANDOM,
+		/** Introspective QuickSorter with Lomuto partitioning */
+		QUICK_INTROSPECTIVE,
+		/** Introspective QuickSorter with three-way partitioning */
+		QUICK_THREE_WAY,
+		/** Introspective QuickSorter with dual-pivot partitioning */
+		QUICK_DUAL_PIVOT;
+
+		/**
+		 * Returns a new sorter of this kind
+		 *
+		 * @param comparator the order to sort in, or null for natural order
+		 * @return the sorter
+		 */
+		public Sorter<Student> create(Comparator<Student> comparator) {
+			switch (this) {
+			case MERGE:
+				return new MergeSorter<Student>(comparator);
+			case PARALLEL_MERGE:
+				return new ParallelMergeSorter<Student>(comparator);
+			case TIM:
+				return new TimSorter<Student>(comparator);
+			case QUICK_FIRST:
+				return new QuickSorter<Student>(comparator, QuickSorter.FIRST_ELEMENT_SELECTOR);
+			case QUICK_LAST:
+				return new QuickSorter<Student>(comparator, QuickSorter.LAST_ELEMENT_SELECTOR);
+			case QUICK_MIDDLE:
+				return new QuickSorter<Student>(comparator, QuickSorter.MIDDLE_ELEMENT_SELECTOR);
+			case QUICK_RANDOM:
+				return new QuickSorter<Student>(comparator, QuickSorter.RANDOM_ELEMENT_SELECTOR);
+			case QUICK_INTROSPECTIVE:
+				return new QuickSorter<Student>(comparator, QuickSorter.MIDDLE_ELEMENT_SELECTOR, true);
+			case QUICK_THREE_WAY:
+				return new QuickSorter<Student>(comparator, QuickSorter.MIDDLE_ELEMENT_SELECTOR,
+						QuickSorter.PartitionScheme.THREE_WAY, true);
+			default:
+				return new QuickSorter<Student>(comparator, QuickSorter.MIDDLE_ELEMENT_SELECTOR,
+						QuickSorter.PartitionScheme.DUAL_PIVOT, true);
+			}
+		}
+	}
+}
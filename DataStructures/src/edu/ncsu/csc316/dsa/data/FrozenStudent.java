@@ -0,0 +1,257 @@
+package edu.ncsu.csc316.dsa.data;
+
+/**
+ * A FrozenStudent is a Student whose fields cannot change after it is
+ * constructed. Because its fields are fixed, it computes its hash code once and
+ * returns the cached value from every later call to hashCode, and it
+ * precomputes a sort key for its last name and one for its first name.
+ *
+ * Each sort key packs the first four characters of a name into a long, 16 bits
+ * per character, padded with zero characters if the name is shorter. Keys
+ * compare in the same order as the names they were made from, so when two
+ * FrozenStudents' keys differ they are ordered by comparing two longs without
+ * reading either name. Only names that share their first four characters are
+ * compared character by character. The resulting order is identical to
+ * {@link Student#compareTo(Student)}.
+ *
+ * A FrozenStudent is equal to, and has the same hash code as, a Student with
+ * the same values, so the two can be mixed in maps and sets.
+ *
+ * @author David Sweasey
+ *
+ */
+public class FrozenStudent extends Student {
+
+	/** The number of characters packed into a sort key */
+	private static final int KEY_CHARS = Long.SIZE / Character.SIZE;
+
+	/** The cached hash code */
+	private final int hash;
+
+	/** The sort key of the last name */
+	private final long lastKey;
+
+	/** The sort key of the first name */
+	private final long firstKey;
+
+	/** Whether construction has finished, after which the setters are disabled */
+	private final boolean frozen;
+
+	/**
+	 * Constructs a FrozenStudent
+	 *
+	 * @param first first name
+	 * @param last last name
+	 * @param id id number
+	 * @param creditHours number of credit hours
+	 * @param gpa the student's gpa
+	 * @param unityID unityID of student
+	 */
+	public FrozenStudent(String first, String last, int id, int creditHours, double gpa, String unityID) {
+		super(first, last, id, creditHours, gpa, unityID);
+		hash = super.hashCode();
+		lastKey = sortKey(last);
+		firstKey = sortKey(first);
+		frozen = true;
+	}
+
+	/**
+	 * Constructs a FrozenStudent holding the current values of a Student
+	 *
+	 * @param s the Student to copy
+	 */
+	public FrozenStudent(Student s) {
+		this(s.getFirst(), s.getLast(), s.getId(), s.getCreditHours(), s.getGpa(), s.getUnityID());
+	}
+
+	/**
+	 * Returns the sort key of a name: its first four characters packed into a
+	 * long, with the first character in the highest 16 bits. The sign bit is
+	 * flipped so that the keys of two names compare with Long.compare in the
+	 * same order as the names compare with String.compareTo, whenever the keys
+	 * differ. A null name has the same key as an empty one.
+	 *
+	 * @param name the name
+	 * @return the sort key of the name
+	 */
+	public static long sortKey(String name) {
+		long key = 0;
+		int length = name == null ? 0 : Math.min(name.length(), KEY_CHARS);
+		for (int i = 0; i < KEY_CHARS; i++) {
+			key = key << Character.SIZE | (i < length ? name.charAt(i) : 0);
+		}
+		return key ^ Long.MIN_VALUE;
+	}
+
+	/**
+	 * Returns the sort key of the last name
+	 *
+	 * @return the sort key of the last name
+	 */
+	public long getLastKey() {
+		return lastKey;
+	}
+
+	/**
+	 * Returns the sort key of the first name
+	 *
+	 * @return the sort key of the first name
+	 */
+	public long getFirstKey() {
+		return firstKey;
+	}
+
+	/**
+	 * Compares this student to another in the same order as Student. If the other
+	 * student is also a FrozenStudent, names are compared through their sort keys
+	 * first, and character by character only when their keys are equal.
+	 *
+	 * @param s the student to be compared to
+	 * @return 1, -1 or 0 depending on which student should come first
+	 */
+	@Override
+	public int compareTo(Student s) {
+		if (!(s instanceof FrozenStudent)) {
+			return super.compareTo(s);
+		}
+		FrozenStudent other = (FrozenStudent) s;
+		if (lastKey != other.lastKey) {
+			return lastKey > other.lastKey ? 1 : -1;
+		}
+		int cmp = compareNames(getLast(), other.getLast());
+		if (cmp != 0) {
+			return cmp;
+		}
+		if (firstKey != other.firstKey) {
+			return firstKey > other.firstKey ? 1 : -1;
+		}
+		cmp = compareNames(getFirst(), other.getFirst());
+		if (cmp != 0) {
+			return cmp;
+		}
+		if (getId() != other.getId()) {
+			return getId() > other.getId() ? 1 : -1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Compares two names whose sort keys are equal
+	 *
+	 * @param one the first name
+	 * @param two the second name
+	 * @return 1, -1 or 0 depending on which name comes first
+	 */
+	private static int compareNames(String one, String two) {
+		if (one == two) {
+			return 0;
+		}
+		int cmp = one.compareTo(two);
+		return cmp == 0 ? 0 : cmp > 0 ? 1 : -1;
+	}
+
+	/**
+	 * Returns the hash code computed when this student was constructed, which is
+	 * the same as the hash code of a Student with the same values
+	 *
+	 * @return the hash code
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Returns this student, which is already frozen
+	 *
+	 * @return this student
+	 */
+	@Override
+	public FrozenStudent freeze() {
+		return this;
+	}
+
+	/**
+	 * Not supported by a FrozenStudent
+	 *
+	 * @param first unused
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setFirst(String first) {
+		checkNotFrozen();
+		super.setFirst(first);
+	}
+
+	/**
+	 * Not supported by a FrozenStudent
+	 *
+	 * @param last unused
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setLast(String last) {
+		checkNotFrozen();
+		super.setLast(last);
+	}
+
+	/**
+	 * Not supported by a FrozenStudent
+	 *
+	 * @param id unused
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setId(int id) {
+		checkNotFrozen();
+		super.setId(id);
+	}
+
+	/**
+	 * Not supported by a FrozenStudent
+	 *
+	 * @param creditHours unused
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setCreditHours(int creditHours) {
+		checkNotFrozen();
+		super.setCreditHours(creditHours);
+	}
+
+	/**
+	 * Not supported by a FrozenStudent
+	 *
+	 * @param gpa unused
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setGpa(double gpa) {
+		checkNotFrozen();
+		super.setGpa(gpa);
+	}
+
+	/**
+	 * Not supported by a FrozenStudent
+	 *
+	 * @param unityID unused
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setUnityID(String unityID) {
+		checkNotFrozen();
+		super.setUnityID(unityID);
+	}
+
+	/**
+	 * Throws an exception once construction has finished. The Student constructor
+	 * sets every field through the setters, so they must work until then.
+	 *
+	 * @throws UnsupportedOperationException if construction has finished
+	 */
+	private void checkNotFrozen() {
+		if (frozen) {
+			throw new UnsupportedOperationException("A FrozenStudent cannot be changed");
+		}
+	}
+}
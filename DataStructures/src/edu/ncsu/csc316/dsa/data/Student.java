@@ -150,6 +150,17 @@ public class Student implements Comparable<Student>, Identifiable {
 		this.unityID = unityID;
 	}
 
+	/**
+	 * Returns a {@link FrozenStudent} holding the current values of this student.
+	 * A FrozenStudent cannot be changed, caches its hash code, and compares faster
+	 * than a Student while keeping the same order.
+	 * 
+	 * @return a frozen copy of this student
+	 */
+	public FrozenStudent freeze() {
+		return new FrozenStudent(this);
+	}
+
 	/**
 	 * Generates and returns a hashcode of a student object based on its fields
 	 * 
@@ -174,7 +185,8 @@ public class Student implements Comparable<Student>, Identifiable {
 	/**
 	 * Determines whether or not two objects are equal student objects. This is the
 	 * case if and only if both objects are student objects, and both objects have
-	 * identical values for first, last, and ID fields. Overridden to check equality
+	 * identical values for first, last, and ID fields. A {@link FrozenStudent} is
+	 * equal to a Student with the same values. Overridden to check equality
 	 * with student-specific fields.
 	 * 
 	 * @param obj the object to compare
@@ -186,7 +198,7 @@ public class Student implements Comparable<Student>, Identifiable {
 			return true;
 		if (obj == null)
 			return false;
-		if (getClass() != obj.getClass())
+		if (!(obj instanceof Student))
 			return false;
 		Student other = (Student) obj;
 		if (first == null) {
@@ -214,13 +226,19 @@ public class Student implements Comparable<Student>, Identifiable {
 	 * @return 1 or -1 depending on which student should come first
 	 */
 	public int compareTo(Student s) {
-		if (!last.equals(s.getLast())) {
-			if (last.compareTo(s.getLast()) > 0) return 1;
-			return -1;
+		// Names interned through a StringTable are shared, so the same instance
+		// needs no character comparison
+		if (last != s.last) {
+			int cmp = last.compareTo(s.last);
+			if (cmp != 0) {
+				return cmp > 0 ? 1 : -1;
+			}
 		}
-		if (!first.equals(s.getFirst())) {
-			if (first.compareTo(s.getFirst()) > 0) return 1;
-			return -1;
+		if (first != s.first) {
+			int cmp = first.compareTo(s.first);
+			if (cmp != 0) {
+				return cmp > 0 ? 1 : -1;
+			}
 		}
 		if (id != s.getId()) {
 			if (id > s.getId()) return 1;
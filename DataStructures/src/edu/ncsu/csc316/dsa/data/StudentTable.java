@@ -0,0 +1,478 @@
+package edu.ncsu.csc316.dsa.data;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * A StudentTable stores a roster column by column instead of as an array of
+ * Student objects. Ids, credit hours and GPAs are kept in primitive arrays, and
+ * first and last names are dictionary-encoded: each distinct name is stored
+ * once and every row holds an int code for it. Unity ids are unique, so they
+ * gain nothing from a dictionary and are kept in a plain String column. Names
+ * that repeat across rows are stored only once, and a row costs no Student
+ * object header or name references.
+ *
+ * While rows are added, a map from each name to its code finds repeated names.
+ * {@link #trimToSize()} releases that map and the unused capacity of every
+ * column once loading is done.
+ *
+ * Rows are read through their index or through a {@link Row}, a flyweight view
+ * that holds only a row index. Rows are Comparable in the same order as
+ * Students and Identifiable by student id, so a table can be sorted with any
+ * of the existing Sorters: the sorter orders an array of views, and the
+ * resulting permutation is then applied to every column at once.
+ *
+ * @author David Sweasey
+ *
+ */
+public class StudentTable {
+
+	/** Orders rows like StudentGPAComparator: largest GPA first, then natural order */
+	public static final Comparator<Row> GPA_ORDER = (one, two) -> {
+		if (one.getGpa() > two.getGpa()) return -1;
+		else if (one.getGpa() < two.getGpa()) return 1;
+		return one.compareTo(two);
+	};
+
+	/**
+	 * Orders rows by smallest id first, then natural order. Unlike
+	 * StudentIDComparator, equal ids fall back to natural order and a row
+	 * compares equal to itself.
+	 */
+	public static final Comparator<Row> ID_ORDER = (one, two) -> {
+		int id = Integer.compare(one.getId(), two.getId());
+		return id != 0 ? id : one.compareTo(two);
+	};
+
+	/** The initial number of rows a table can hold */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** The number of rows */
+	private int size;
+
+	/** The student id of each row */
+	private int[] ids;
+
+	/** The credit hours of each row */
+	private int[] creditHours;
+
+	/** The GPA of each row */
+	private double[] gpas;
+
+	/** The dictionary code of each row's first name */
+	private int[] firstCodes;
+
+	/** The dictionary code of each row's last name */
+	private int[] lastCodes;
+
+	/** The unity id of each row */
+	private String[] unityIDs;
+
+	/** Each distinct name in the table, indexed by its code */
+	private String[] dictionary;
+
+	/** The number of distinct names in the dictionary */
+	private int dictionarySize;
+
+	/** The code of each name in the dictionary, or null after trimToSize */
+	private Map<String, Integer> codes;
+
+	/**
+	 * Constructs an empty StudentTable that can hold the given number of rows
+	 * before growing
+	 *
+	 * @param capacity the initial number of rows the table can hold
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public StudentTable(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity cannot be negative");
+		}
+		ids = new int[capacity];
+		creditHours = new int[capacity];
+		gpas = new double[capacity];
+		firstCodes = new int[capacity];
+		lastCodes = new int[capacity];
+		unityIDs = new String[capacity];
+		dictionary = new String[DEFAULT_CAPACITY];
+		codes = new LinearProbingHashMap<String, Integer>();
+	}
+
+	/**
+	 * Constructs an empty StudentTable
+	 */
+	public StudentTable() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a StudentTable holding the given Students, in order, trimmed
+	 * to size
+	 *
+	 * @param students the Students to add
+	 */
+	public StudentTable(Student[] students) {
+		this(students.length);
+		for (Student s : students) {
+			add(s);
+		}
+		trimToSize();
+	}
+
+	/**
+	 * Adds a Student to the end of the table
+	 *
+	 * @param s the Student to add
+	 */
+	public void add(Student s) {
+		if (size == ids.length) {
+			int capacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+			ids = Arrays.copyOf(ids, capacity);
+			creditHours = Arrays.copyOf(creditHours, capacity);
+			gpas = Arrays.copyOf(gpas, capacity);
+			firstCodes = Arrays.copyOf(firstCodes, capacity);
+			lastCodes = Arrays.copyOf(lastCodes, capacity);
+			unityIDs = Arrays.copyOf(unityIDs, capacity);
+		}
+		ids[size] = s.getId();
+		creditHours[size] = s.getCreditHours();
+		gpas[size] = s.getGpa();
+		firstCodes[size] = encode(s.getFirst());
+		lastCodes[size] = encode(s.getLast());
+		unityIDs[size] = s.getUnityID();
+		size++;
+	}
+
+	/**
+	 * Shrinks every column to the number of rows and releases the map used to
+	 * find repeated names while adding rows. Rows can still be added afterwards;
+	 * the map is then rebuilt from the dictionary.
+	 */
+	public void trimToSize() {
+		ids = Arrays.copyOf(ids, size);
+		creditHours = Arrays.copyOf(creditHours, size);
+		gpas = Arrays.copyOf(gpas, size);
+		firstCodes = Arrays.copyOf(firstCodes, size);
+		lastCodes = Arrays.copyOf(lastCodes, size);
+		unityIDs = Arrays.copyOf(unityIDs, size);
+		dictionary = Arrays.copyOf(dictionary, Math.max(1, dictionarySize));
+		codes = null;
+	}
+
+	/**
+	 * Returns the number of rows in the table
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of distinct first and last names in the table
+	 *
+	 * @return the size of the dictionary
+	 */
+	public int dictionarySize() {
+		return dictionarySize;
+	}
+
+	/**
+	 * Returns the student id of row i
+	 *
+	 * @param i the index of the row
+	 * @return the student id
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public int getId(int i) {
+		return ids[checkIndex(i)];
+	}
+
+	/**
+	 * Returns the credit hours of row i
+	 *
+	 * @param i the index of the row
+	 * @return the credit hours
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public int getCreditHours(int i) {
+		return creditHours[checkIndex(i)];
+	}
+
+	/**
+	 * Returns the GPA of row i
+	 *
+	 * @param i the index of the row
+	 * @return the GPA
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public double getGpa(int i) {
+		return gpas[checkIndex(i)];
+	}
+
+	/**
+	 * Returns the first name of row i
+	 *
+	 * @param i the index of the row
+	 * @return the first name
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public String getFirst(int i) {
+		return dictionary[firstCodes[checkIndex(i)]];
+	}
+
+	/**
+	 * Returns the last name of row i
+	 *
+	 * @param i the index of the row
+	 * @return the last name
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public String getLast(int i) {
+		return dictionary[lastCodes[checkIndex(i)]];
+	}
+
+	/**
+	 * Returns the unity id of row i
+	 *
+	 * @param i the index of the row
+	 * @return the unity id
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public String getUnityID(int i) {
+		return unityIDs[checkIndex(i)];
+	}
+
+	/**
+	 * Returns a new Student holding the values of row i
+	 *
+	 * @param i the index of the row
+	 * @return the Student
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public Student toStudent(int i) {
+		return new Student(getFirst(i), getLast(i), getId(i), getCreditHours(i), getGpa(i), getUnityID(i));
+	}
+
+	/**
+	 * Returns a new Student for every row, in row order
+	 *
+	 * @return the Students
+	 */
+	public Student[] toArray() {
+		Student[] students = new Student[size];
+		for (int i = 0; i < size; i++) {
+			students[i] = toStudent(i);
+		}
+		return students;
+	}
+
+	/**
+	 * Returns a view of row i. A view refers to a position in the table, so
+	 * after the table is sorted it shows whichever row moved to that position.
+	 *
+	 * @param i the index of the row
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public Row row(int i) {
+		return new Row(checkIndex(i));
+	}
+
+	/**
+	 * Reorders the rows of the table with a sorter. The sorter sorts views of
+	 * the rows, and every column is then rearranged to match.
+	 *
+	 * @param sorter the sorter to order the rows with
+	 */
+	public void sort(Sorter<Row> sorter) {
+		Row[] rows = new Row[size];
+		for (int i = 0; i < size; i++) {
+			rows[i] = new Row(i);
+		}
+		sorter.sort(rows);
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = rows[i].index;
+		}
+		ids = permute(ids, order);
+		creditHours = permute(creditHours, order);
+		firstCodes = permute(firstCodes, order);
+		lastCodes = permute(lastCodes, order);
+		String[] sortedUnityIDs = new String[unityIDs.length];
+		for (int i = 0; i < size; i++) {
+			sortedUnityIDs[i] = unityIDs[order[i]];
+		}
+		unityIDs = sortedUnityIDs;
+		double[] sortedGpas = new double[gpas.length];
+		for (int i = 0; i < size; i++) {
+			sortedGpas[i] = gpas[order[i]];
+		}
+		gpas = sortedGpas;
+	}
+
+	/**
+	 * Returns a copy of a column with its first order.length values rearranged
+	 * so that position i holds the value from position order[i]
+	 *
+	 * @param column the column to rearrange
+	 * @param order the position each value comes from
+	 * @return the rearranged column
+	 */
+	private static int[] permute(int[] column, int[] order) {
+		int[] sorted = new int[column.length];
+		for (int i = 0; i < order.length; i++) {
+			sorted[i] = column[order[i]];
+		}
+		return sorted;
+	}
+
+	/**
+	 * Returns the dictionary code of a name, adding it to the dictionary if it
+	 * is new
+	 *
+	 * @param value the name to encode
+	 * @return the code of the name
+	 */
+	private int encode(String value) {
+		if (codes == null) {
+			codes = new LinearProbingHashMap<String, Integer>();
+			for (int code = 0; code < dictionarySize; code++) {
+				codes.put(dictionary[code], code);
+			}
+		}
+		Integer code = codes.get(value);
+		if (code != null) {
+			return code;
+		}
+		if (dictionarySize == dictionary.length) {
+			dictionary = Arrays.copyOf(dictionary, 2 * dictionarySize);
+		}
+		dictionary[dictionarySize] = value;
+		codes.put(value, dictionarySize);
+		return dictionarySize++;
+	}
+
+	/**
+	 * Checks that i is a valid row index
+	 *
+	 * @param i the index to check
+	 * @return i
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	private int checkIndex(int i) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException("Index is invalid: " + i + " (size=" + size + ")");
+		}
+		return i;
+	}
+
+	/**
+	 * A Row is a lightweight view of one position of a StudentTable. It holds only
+	 * the index of the position and reads every field from the table's columns.
+	 * Rows compare in the same order as Students: by last name, then first name,
+	 * then id. Names with the same dictionary code are known to be equal without
+	 * comparing their characters.
+	 *
+	 * @author David Sweasey
+	 *
+	 */
+	public class Row implements Comparable<Row>, Identifiable {
+
+		/** The position of the row in the table */
+		private int index;
+
+		/**
+		 * Constructs a view of a position in the table
+		 *
+		 * @param index the position of the row
+		 */
+		private Row(int index) {
+			this.index = index;
+		}
+
+		/**
+		 * Returns the position of the row in the table
+		 *
+		 * @return the position of the row
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		@Override
+		public int getId() {
+			return ids[index];
+		}
+
+		/**
+		 * Returns the credit hours of the row
+		 *
+		 * @return the credit hours
+		 */
+		public int getCreditHours() {
+			return creditHours[index];
+		}
+
+		/**
+		 * Returns the GPA of the row
+		 *
+		 * @return the GPA
+		 */
+		public double getGpa() {
+			return gpas[index];
+		}
+
+		/**
+		 * Returns the first name of the row
+		 *
+		 * @return the first name
+		 */
+		public String getFirst() {
+			return dictionary[firstCodes[index]];
+		}
+
+		/**
+		 * Returns the last name of the row
+		 *
+		 * @return the last name
+		 */
+		public String getLast() {
+			return dictionary[lastCodes[index]];
+		}
+
+		/**
+		 * Returns the unity id of the row
+		 *
+		 * @return the unity id
+		 */
+		public String getUnityID() {
+			return unityIDs[index];
+		}
+
+		@Override
+		public int compareTo(Row other) {
+			int last = lastCodes[index];
+			int otherLast = lastCodes[other.index];
+			if (last != otherLast) {
+				return dictionary[last].compareTo(dictionary[otherLast]);
+			}
+			int first = firstCodes[index];
+			int otherFirst = firstCodes[other.index];
+			if (first != otherFirst) {
+				return dictionary[first].compareTo(dictionary[otherFirst]);
+			}
+			return Integer.compare(ids[index], ids[other.index]);
+		}
+
+		@Override
+		public String toString() {
+			return "Row [index=" + index + ", first=" + getFirst() + ", last=" + getLast() + ", id=" + getId()
+					+ ", creditHours=" + getCreditHours() + ", gpa=" + getGpa() + ", unityID=" + getUnityID() + "]";
+		}
+	}
+}
@@ -2,7 +2,8 @@ package edu.ncsu.csc316.dsa.disjoint_set;
 
 import edu.ncsu.csc316.dsa.Position;
 import edu.ncsu.csc316.dsa.map.Map;
-import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap.Compression;
+import edu.ncsu.csc316.dsa.map.hashing.FlatHashMap;
 
 /**
  * The UpTreeDisjointSetForest is implemented as a forest of linked up-trees.
@@ -33,7 +34,9 @@ public class UpTreeDisjointSetForest<E> implements DisjointSetForest<E> {
      */
     public UpTreeDisjointSetForest() {
         // Use an efficient map!
-        map = new LinearProbingHashMap<E, UpTreeNode<E>>();
+        FlatHashMap<E, UpTreeNode<E>> hashMap = new FlatHashMap<E, UpTreeNode<E>>();
+        hashMap.setCompression(Compression.MULTIPLY_SHIFT);
+        map = hashMap;
     }
 
     /**
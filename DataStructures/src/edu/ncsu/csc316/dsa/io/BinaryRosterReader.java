@@ -0,0 +1,245 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * BinaryRosterReader gives random access to a roster written by
+ * {@link BinaryRosterWriter}. The file is memory-mapped when the reader is
+ * constructed and nothing else is read up front, so opening a roster takes the
+ * same time however many rows it has; each field of each row is read from the
+ * mapping only when asked for.
+ *
+ * The format stores each numeric field in its own fixed-width column and every
+ * name in a shared string heap, located through a column of offsets:
+ *
+ * <pre>
+ * int      MAGIC
+ * int      VERSION
+ * int      row count n
+ * int      heap length h
+ * double[n] GPAs
+ * int[n]    student ids
+ * int[n]    credit hours
+ * int[3n+1] string offsets into the heap
+ * byte[h]   string heap
+ * </pre>
+ *
+ * Row i's first name, last name and unity id are strings 3i, 3i+1 and 3i+2;
+ * string k is the UTF-8 bytes of the heap from offset k up to offset k+1.
+ *
+ * @author David Sweasey
+ */
+public class BinaryRosterReader {
+
+	/** Identifies a binary roster file */
+	static final int MAGIC = 0x53545552;
+
+	/** The version of the format written by BinaryRosterWriter */
+	static final int VERSION = 1;
+
+	/** The size of the file header in bytes */
+	static final int HEADER_SIZE = 16;
+
+	/** The number of string fields in each row */
+	static final int STRINGS_PER_ROW = 3;
+
+	/** The mapped file */
+	private ByteBuffer buffer;
+
+	/** The number of rows */
+	private int size;
+
+	/** The position of the id column */
+	private int idColumn;
+
+	/** The position of the credit hours column */
+	private int creditHoursColumn;
+
+	/** The position of the string offset column */
+	private int offsetColumn;
+
+	/** The position of the string heap */
+	private int heap;
+
+	/**
+	 * Opens a binary roster file
+	 *
+	 * @param filePath the path to the binary roster file
+	 * @throws IllegalArgumentException if the file does not exist or is not a
+	 *                                  binary roster
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	public BinaryRosterReader(String filePath) {
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Not a binary roster: " + filePath);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+		} catch (NoSuchFileException e) {
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IllegalArgumentException("Not a binary roster: " + filePath);
+		}
+		size = buffer.getInt(8);
+		int heapLength = buffer.getInt(12);
+		if (size < 0 || heapLength < 0 || heapPosition(size) + heapLength != buffer.capacity()) {
+			throw new IllegalArgumentException("Not a binary roster: " + filePath);
+		}
+		idColumn = HEADER_SIZE + Double.BYTES * size;
+		creditHoursColumn = idColumn + Integer.BYTES * size;
+		offsetColumn = creditHoursColumn + Integer.BYTES * size;
+		heap = (int) heapPosition(size);
+	}
+
+	/**
+	 * Returns the number of rows in the roster
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a new Student holding row i
+	 *
+	 * @param i the index of the row
+	 * @return the Student in row i
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public Student get(int i) {
+		return new Student(getFirst(i), getLast(i), getId(i), getCreditHours(i), getGpa(i), getUnityID(i));
+	}
+
+	/**
+	 * Returns the student id in row i
+	 *
+	 * @param i the index of the row
+	 * @return the student id
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public int getId(int i) {
+		return buffer.getInt(idColumn + Integer.BYTES * checkIndex(i));
+	}
+
+	/**
+	 * Returns the credit hours in row i
+	 *
+	 * @param i the index of the row
+	 * @return the credit hours
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public int getCreditHours(int i) {
+		return buffer.getInt(creditHoursColumn + Integer.BYTES * checkIndex(i));
+	}
+
+	/**
+	 * Returns the GPA in row i
+	 *
+	 * @param i the index of the row
+	 * @return the GPA
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public double getGpa(int i) {
+		return buffer.getDouble(HEADER_SIZE + Double.BYTES * checkIndex(i));
+	}
+
+	/**
+	 * Returns the first name in row i
+	 *
+	 * @param i the index of the row
+	 * @return the first name
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public String getFirst(int i) {
+		return string(STRINGS_PER_ROW * checkIndex(i));
+	}
+
+	/**
+	 * Returns the last name in row i
+	 *
+	 * @param i the index of the row
+	 * @return the last name
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public String getLast(int i) {
+		return string(STRINGS_PER_ROW * checkIndex(i) + 1);
+	}
+
+	/**
+	 * Returns the unity id in row i
+	 *
+	 * @param i the index of the row
+	 * @return the unity id
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	public String getUnityID(int i) {
+		return string(STRINGS_PER_ROW * checkIndex(i) + 2);
+	}
+
+	/**
+	 * Returns every row as an array of Students
+	 *
+	 * @return the Students in row order
+	 */
+	public Student[] toArray() {
+		Student[] students = new Student[size];
+		for (int i = 0; i < size; i++) {
+			students[i] = get(i);
+		}
+		return students;
+	}
+
+	/**
+	 * Returns the position of the string heap in a roster with the given number
+	 * of rows
+	 *
+	 * @param rows the number of rows
+	 * @return the position of the heap
+	 */
+	static long heapPosition(int rows) {
+		return HEADER_SIZE + (long) rows * (Double.BYTES + 2 * Integer.BYTES)
+				+ Integer.BYTES * (STRINGS_PER_ROW * (long) rows + 1);
+	}
+
+	/**
+	 * Decodes string k of the heap
+	 *
+	 * @param k the index of the string
+	 * @return the string
+	 */
+	private String string(int k) {
+		int start = buffer.getInt(offsetColumn + Integer.BYTES * k);
+		int end = buffer.getInt(offsetColumn + Integer.BYTES * (k + 1));
+		byte[] bytes = new byte[end - start];
+		buffer.get(heap + start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Checks that i is a valid row index
+	 *
+	 * @param i the index to check
+	 * @return i
+	 * @throws IndexOutOfBoundsException if i is not a valid row index
+	 */
+	private int checkIndex(int i) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException("Index is invalid: " + i + " (size=" + size + ")");
+		}
+		return i;
+	}
+}
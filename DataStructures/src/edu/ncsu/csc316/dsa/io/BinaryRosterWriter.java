@@ -0,0 +1,183 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * BinaryRosterWriter writes rosters in the binary format read by
+ * {@link BinaryRosterReader}. A roster can be written from an array of
+ * Students, or converted from a student CSV file once so that later runs can
+ * open the binary file instead of parsing the CSV again.
+ *
+ * The whole file is sized before it is written, so the output is
+ * memory-mapped and every column is filled in place.
+ *
+ * @author David Sweasey
+ */
+public class BinaryRosterWriter {
+
+	/**
+	 * Writes an array of Students to a binary roster file, replacing any existing
+	 * file
+	 *
+	 * @param students the Students to write, in row order
+	 * @param filePath the path to the binary roster file
+	 * @throws IllegalArgumentException if the roster is too large for the format
+	 * @throws UncheckedIOException if writing the file fails
+	 */
+	public static void write(Student[] students, String filePath) {
+		long heapLength = 0;
+		for (Student s : students) {
+			heapLength += heapBytes(s);
+		}
+		RowWriter writer = new RowWriter(filePath, students.length, heapLength);
+		for (Student s : students) {
+			writer.add(s);
+		}
+		writer.finish();
+	}
+
+	/**
+	 * Converts a student CSV file to a binary roster file, replacing any existing
+	 * file. The CSV file is streamed twice, once to size the output and once to
+	 * fill it, so the roster is never held in memory.
+	 *
+	 * @param csvPath the path to the input student CSV file
+	 * @param filePath the path to the binary roster file
+	 * @return the number of Students converted
+	 * @throws IllegalArgumentException if the CSV file does not exist or is
+	 *                                  invalid, or the roster is too large for
+	 *                                  the format
+	 * @throws UncheckedIOException if writing the file fails
+	 */
+	public static int convert(String csvPath, String filePath) {
+		long[] heapLength = new long[1];
+		long rows = StudentReader.readInput(csvPath, s -> heapLength[0] += heapBytes(s));
+		if (rows > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Roster is too large: " + rows + " rows");
+		}
+		RowWriter writer = new RowWriter(filePath, (int) rows, heapLength[0]);
+		StudentReader.readInput(csvPath, writer::add);
+		writer.finish();
+		return (int) rows;
+	}
+
+	/**
+	 * Returns the number of bytes a Student's strings take in the heap
+	 *
+	 * @param s the Student
+	 * @return the number of heap bytes
+	 */
+	private static int heapBytes(Student s) {
+		return s.getFirst().getBytes(StandardCharsets.UTF_8).length
+				+ s.getLast().getBytes(StandardCharsets.UTF_8).length
+				+ s.getUnityID().getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/**
+	 * Fills a memory-mapped binary roster file one row at a time
+	 *
+	 * @author David Sweasey
+	 */
+	private static class RowWriter {
+
+		/** The mapped output file */
+		private MappedByteBuffer buffer;
+
+		/** The number of rows the file holds */
+		private int rows;
+
+		/** The index of the next row to write */
+		private int row;
+
+		/** The position of the string offset column */
+		private int offsetColumn;
+
+		/** The position of the string heap */
+		private int heap;
+
+		/** The offset in the heap of the next string to write */
+		private int heapOffset;
+
+		/**
+		 * Creates the output file, sized for the given rows and heap, and writes its
+		 * header
+		 *
+		 * @param filePath the path to the binary roster file
+		 * @param rows the number of rows
+		 * @param heapLength the total bytes of every string
+		 */
+		RowWriter(String filePath, int rows, long heapLength) {
+			long length = BinaryRosterReader.heapPosition(rows) + heapLength;
+			if (length > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Roster is too large: " + length + " bytes");
+			}
+			try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			this.rows = rows;
+			heap = (int) BinaryRosterReader.heapPosition(rows);
+			offsetColumn = heap - Integer.BYTES * (BinaryRosterReader.STRINGS_PER_ROW * rows + 1);
+			buffer.putInt(0, BinaryRosterReader.MAGIC);
+			buffer.putInt(4, BinaryRosterReader.VERSION);
+			buffer.putInt(8, rows);
+			buffer.putInt(12, (int) heapLength);
+			buffer.putInt(offsetColumn, 0);
+		}
+
+		/**
+		 * Writes the next row
+		 *
+		 * @param s the Student in the row
+		 */
+		void add(Student s) {
+			if (row == rows) {
+				throw new IllegalStateException("Roster has changed since it was sized");
+			}
+			int gpaColumn = BinaryRosterReader.HEADER_SIZE;
+			int idColumn = gpaColumn + Double.BYTES * rows;
+			int creditHoursColumn = idColumn + Integer.BYTES * rows;
+			buffer.putDouble(gpaColumn + Double.BYTES * row, s.getGpa());
+			buffer.putInt(idColumn + Integer.BYTES * row, s.getId());
+			buffer.putInt(creditHoursColumn + Integer.BYTES * row, s.getCreditHours());
+			int string = BinaryRosterReader.STRINGS_PER_ROW * row;
+			putString(string, s.getFirst());
+			putString(string + 1, s.getLast());
+			putString(string + 2, s.getUnityID());
+			row++;
+		}
+
+		/**
+		 * Appends string k to the heap and records where it ends
+		 *
+		 * @param k the index of the string
+		 * @param text the string
+		 */
+		private void putString(int k, String text) {
+			byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+			buffer.put(heap + heapOffset, bytes);
+			heapOffset += bytes.length;
+			buffer.putInt(offsetColumn + Integer.BYTES * (k + 1), heapOffset);
+		}
+
+		/**
+		 * Checks that every row was written and flushes the file to disk
+		 */
+		void finish() {
+			if (row != rows) {
+				throw new IllegalStateException("Roster has changed since it was sized");
+			}
+			buffer.force();
+		}
+	}
+}
@@ -0,0 +1,410 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * ExternalStudentSorter sorts student CSV files that may be too large to fit in
+ * memory. The input is read in chunks of at most a fixed number of students;
+ * each chunk is sorted with the configured Sorter and written to a temporary
+ * file as a sorted run in a compact binary format. The runs are then merged
+ * k ways through a HeapPriorityQueue, either into an output CSV file or lazily
+ * through an Iterator. If there are more runs than can be merged at once, the
+ * runs are first merged in groups into longer runs.
+ *
+ * Memory use depends only on the chunk size and the number of runs merged at
+ * once, not on the size of the input. Input files use the same format as
+ * {@link StudentReader}, and output files use the same format with the same header.
+ *
+ * The Sorter must sort students in the order given by the comparator, which is
+ * used to merge the runs. Students that are equal under the comparator but come
+ * from different chunks may appear in either order.
+ *
+ * @author David Sweasey
+ */
+public class ExternalStudentSorter {
+
+	/** The default number of students sorted in memory at once */
+	public static final int DEFAULT_CHUNK_SIZE = 100000;
+
+	/** The maximum number of runs merged at once */
+	private static final int MAX_FAN_IN = 64;
+
+	/** The header line of student CSV files */
+	private static final String HEADER = "FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS";
+
+	/** Sorts each chunk */
+	private Sorter<Student> sorter;
+
+	/** The order produced by the sorter, used to merge runs */
+	private Comparator<Student> order;
+
+	/** The maximum number of students held in memory while sorting chunks */
+	private int chunkSize;
+
+	/** The directory temporary run files are written to, or null for the system default */
+	private File tempDirectory;
+
+	/**
+	 * Constructs an ExternalStudentSorter
+	 *
+	 * @param sorter the sorter used to sort each chunk
+	 * @param order the order produced by the sorter; if null, the natural order is used
+	 * @param chunkSize the maximum number of students to hold in memory while sorting
+	 * @param tempDirectory the directory for temporary run files; if null, the
+	 *                      system default is used
+	 * @throws IllegalArgumentException if sorter is null or chunkSize is less than 1
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> order, int chunkSize,
+			File tempDirectory) {
+		if (sorter == null) {
+			throw new IllegalArgumentException("Sorter cannot be null");
+		}
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Chunk size must be at least 1");
+		}
+		this.sorter = sorter;
+		this.order = order == null ? Comparator.naturalOrder() : order;
+		this.chunkSize = chunkSize;
+		this.tempDirectory = tempDirectory;
+	}
+
+	/**
+	 * Constructs an ExternalStudentSorter that holds DEFAULT_CHUNK_SIZE students in
+	 * memory and writes runs to the system temporary directory
+	 *
+	 * @param sorter the sorter used to sort each chunk
+	 * @param order the order produced by the sorter; if null, the natural order is used
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> order) {
+		this(sorter, order, DEFAULT_CHUNK_SIZE, null);
+	}
+
+	/**
+	 * Sorts the students in the input CSV file and writes them to the output CSV file
+	 *
+	 * @param inputPath the path to the input CSV file
+	 * @param outputPath the path to the output CSV file
+	 * @throws IllegalArgumentException if the input file does not exist
+	 * @throws UncheckedIOException if reading or writing a file fails
+	 */
+	public void sort(String inputPath, String outputPath) {
+		try (MergeIterator merged = new MergeIterator(createRuns(inputPath));
+				Writer out = new BufferedWriter(
+						new OutputStreamWriter(new FileOutputStream(outputPath), StandardCharsets.UTF_8))) {
+			out.write(HEADER);
+			out.write('\n');
+			while (merged.hasNext()) {
+				Student s = merged.next();
+				out.write(s.getFirst() + "," + s.getLast() + "," + s.getUnityID() + "," + s.getId() + ","
+						+ s.getGpa() + "," + s.getCreditHours());
+				out.write('\n');
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Sorts the students in the input CSV file and returns an iterator over them in
+	 * sorted order. The students are merged lazily as the iterator advances. The
+	 * temporary files are deleted once the iterator is exhausted or closed, so an
+	 * iterator that is abandoned early must be closed.
+	 *
+	 * @param inputPath the path to the input CSV file
+	 * @return an iterator over the sorted students
+	 * @throws IllegalArgumentException if the input file does not exist
+	 * @throws UncheckedIOException if reading or writing a file fails
+	 */
+	public MergeIterator iterator(String inputPath) {
+		return new MergeIterator(createRuns(inputPath));
+	}
+
+	/**
+	 * Reads the input in chunks, sorts each chunk, and writes each one to a run
+	 * file, then merges groups of runs until at most MAX_FAN_IN remain
+	 *
+	 * @param inputPath the path to the input CSV file
+	 * @return the run files
+	 */
+	private List<File> createRuns(String inputPath) {
+		List<File> runs = new ArrayBasedList<File>();
+		try (BufferedReader in = new BufferedReader(
+				new InputStreamReader(new FileInputStream(inputPath), StandardCharsets.UTF_8))) {
+			in.readLine(); // SKIP HEADER LINE
+			Student[] chunk = new Student[Math.min(chunkSize, 1024)];
+			int size = 0;
+			String line = in.readLine();
+			while (line != null) {
+				if (!line.isEmpty()) {
+					if (size == chunk.length) {
+						if (size == chunkSize) {
+							runs.addLast(writeRun(chunk, size));
+							size = 0;
+						} else {
+							chunk = Arrays.copyOf(chunk, (int) Math.min(chunkSize, 2L * chunk.length));
+						}
+					}
+					chunk[size++] = StudentReader.processLine(line);
+				}
+				line = in.readLine();
+			}
+			if (size > 0) {
+				runs.addLast(writeRun(chunk, size));
+			}
+		} catch (FileNotFoundException e) {
+			deleteAll(runs);
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			deleteAll(runs);
+			throw new UncheckedIOException(e);
+		}
+
+		while (runs.size() > MAX_FAN_IN) {
+			List<File> merged = new ArrayBasedList<File>();
+			for (int start = 0; start < runs.size(); start += MAX_FAN_IN) {
+				List<File> group = new ArrayBasedList<File>();
+				for (int i = start; i < Math.min(start + MAX_FAN_IN, runs.size()); i++) {
+					group.addLast(runs.get(i));
+				}
+				merged.addLast(mergeRuns(group));
+			}
+			runs = merged;
+		}
+		return runs;
+	}
+
+	/**
+	 * Sorts the first size students of the chunk and writes them to a new run file
+	 *
+	 * @param chunk the students read so far
+	 * @param size the number of students in the chunk
+	 * @return the run file
+	 */
+	private File writeRun(Student[] chunk, int size) {
+		Student[] run = size == chunk.length ? chunk : Arrays.copyOf(chunk, size);
+		sorter.sort(run);
+		File file = createTempFile();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			for (int i = 0; i < size; i++) {
+				writeStudent(out, run[i]);
+				chunk[i] = null;
+			}
+		} catch (IOException e) {
+			file.delete();
+			throw new UncheckedIOException(e);
+		}
+		return file;
+	}
+
+	/**
+	 * Merges a group of runs into one new run file and deletes the group
+	 *
+	 * @param group the run files to merge
+	 * @return the merged run file
+	 */
+	private File mergeRuns(List<File> group) {
+		File file = createTempFile();
+		try (MergeIterator merged = new MergeIterator(group);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			while (merged.hasNext()) {
+				writeStudent(out, merged.next());
+			}
+		} catch (IOException e) {
+			file.delete();
+			throw new UncheckedIOException(e);
+		}
+		return file;
+	}
+
+	/**
+	 * Creates a new temporary run file. Run files are deleted as soon as they are
+	 * merged rather than when the JVM exits, so that repeated sorts in a long-running
+	 * process do not accumulate paths to delete at exit.
+	 *
+	 * @return the new file
+	 */
+	private File createTempFile() {
+		try {
+			return File.createTempFile("students", ".run", tempDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Deletes every file in the list
+	 *
+	 * @param files the files to delete
+	 */
+	private static void deleteAll(List<File> files) {
+		for (File file : files) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Writes a student to a run file
+	 *
+	 * @param out the run file's stream
+	 * @param s the student to write
+	 * @throws IOException if writing fails
+	 */
+	private static void writeStudent(DataOutputStream out, Student s) throws IOException {
+		out.writeUTF(s.getFirst());
+		out.writeUTF(s.getLast());
+		out.writeUTF(s.getUnityID());
+		out.writeInt(s.getId());
+		out.writeDouble(s.getGpa());
+		out.writeInt(s.getCreditHours());
+	}
+
+	/**
+	 * Reads the next student from a run file
+	 *
+	 * @param in the run file's stream
+	 * @return the next student, or null at the end of the file
+	 * @throws IOException if reading fails
+	 */
+	private static Student readStudent(DataInputStream in) throws IOException {
+		String first;
+		try {
+			first = in.readUTF();
+		} catch (EOFException e) {
+			return null;
+		}
+		String last = in.readUTF();
+		String unityID = in.readUTF();
+		int id = in.readInt();
+		double gpa = in.readDouble();
+		int creditHours = in.readInt();
+		return new Student(first, last, id, creditHours, gpa, unityID);
+	}
+
+	/**
+	 * MergeIterator merges sorted run files. The priority queue holds the next
+	 * student from each run that is not exhausted, keyed by the student, with the
+	 * index of the run as the value. Each run file is closed and deleted once it
+	 * is exhausted, and {@link #close()} closes and deletes every run that remains.
+	 *
+	 * @author David Sweasey
+	 */
+	public class MergeIterator implements Iterator<Student>, Closeable {
+
+		/** The run files being merged */
+		private List<File> runs;
+
+		/** A stream for each run file, or null once the run is exhausted */
+		private DataInputStream[] streams;
+
+		/** The next student from each run that is not exhausted */
+		private PriorityQueue<Student, Integer> heads;
+
+		/**
+		 * Opens each run file and reads its first student
+		 *
+		 * @param runs the run files to merge
+		 */
+		MergeIterator(List<File> runs) {
+			this.runs = runs;
+			this.streams = new DataInputStream[runs.size()];
+			this.heads = new HeapPriorityQueue<Student, Integer>(order);
+			try {
+				for (int i = 0; i < runs.size(); i++) {
+					streams[i] = new DataInputStream(new BufferedInputStream(new FileInputStream(runs.get(i))));
+					advance(i);
+				}
+			} catch (IOException e) {
+				close();
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !heads.isEmpty();
+		}
+
+		@Override
+		public Student next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			PriorityQueue.Entry<Student, Integer> min = heads.deleteMin();
+			try {
+				advance(min.getValue());
+			} catch (IOException e) {
+				close();
+				throw new UncheckedIOException(e);
+			}
+			return min.getKey();
+		}
+
+		/**
+		 * Reads the next student from a run into the priority queue, or closes and
+		 * deletes the run if it is exhausted
+		 *
+		 * @param run the index of the run
+		 * @throws IOException if reading fails
+		 */
+		private void advance(int run) throws IOException {
+			Student next = readStudent(streams[run]);
+			if (next != null) {
+				heads.insert(next, run);
+			} else {
+				streams[run].close();
+				streams[run] = null;
+				runs.get(run).delete();
+			}
+		}
+
+		/**
+		 * Closes every open run and deletes every run file. Afterwards the iterator
+		 * has no more students. Closing an iterator more than once has no effect.
+		 */
+		@Override
+		public void close() {
+			for (int i = 0; i < streams.length; i++) {
+				if (streams[i] != null) {
+					try {
+						streams[i].close();
+					} catch (IOException e) {
+						// The file is deleted next, so a failed close loses nothing
+					}
+					streams[i] = null;
+				}
+			}
+			deleteAll(runs);
+			while (!heads.isEmpty()) {
+				heads.deleteMin();
+			}
+		}
+	}
+}
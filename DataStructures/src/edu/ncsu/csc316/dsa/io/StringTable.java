@@ -0,0 +1,153 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A StringTable maps UTF-8 byte sequences to one canonical String each, so that
+ * text repeated across many records is decoded and stored only once. Looking
+ * up bytes that are already in the table returns the existing String without
+ * decoding or allocating anything; Strings returned for equal bytes are the
+ * same instance, so comparing them with equals succeeds on the reference check.
+ *
+ * The table is an open-addressing hash table with linear probing over a
+ * power-of-two number of slots, which doubles whenever it becomes half full.
+ * It also counts lookups, so the effect of deduplication can be reported
+ * through {@link #getDedupRatio()}.
+ *
+ * A StringTable is not safe for use by multiple threads at once.
+ *
+ * @author David Sweasey
+ */
+public class StringTable {
+
+	/** The initial number of slots */
+	private static final int DEFAULT_CAPACITY = 256;
+
+	/** The bytes of the String in each slot, or null if the slot is empty */
+	private byte[][] keys;
+
+	/** The canonical String in each slot */
+	private String[] values;
+
+	/** The hash of the bytes in each slot */
+	private int[] hashes;
+
+	/** The number of distinct Strings in the table */
+	private int size;
+
+	/** The number of lookups made */
+	private long lookups;
+
+	/**
+	 * Constructs an empty StringTable
+	 */
+	public StringTable() {
+		keys = new byte[DEFAULT_CAPACITY][];
+		values = new String[DEFAULT_CAPACITY];
+		hashes = new int[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Returns the canonical String for a range of UTF-8 bytes, decoding and
+	 * adding it if these bytes have not been seen before
+	 *
+	 * @param bytes the array holding the bytes
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes
+	 * @return the canonical String for the bytes
+	 */
+	public String intern(byte[] bytes, int offset, int length) {
+		lookups++;
+		int hash = hash(bytes, offset, length);
+		int mask = keys.length - 1;
+		int slot = hash & mask;
+		while (keys[slot] != null) {
+			if (hashes[slot] == hash
+					&& Arrays.equals(keys[slot], 0, keys[slot].length, bytes, offset, offset + length)) {
+				return values[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+		keys[slot] = Arrays.copyOfRange(bytes, offset, offset + length);
+		values[slot] = value;
+		hashes[slot] = hash;
+		size++;
+		if (2 * size > keys.length) {
+			resize();
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the number of distinct Strings in the table
+	 *
+	 * @return the number of distinct Strings
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of lookups made through intern
+	 *
+	 * @return the number of lookups
+	 */
+	public long getLookups() {
+		return lookups;
+	}
+
+	/**
+	 * Returns the number of lookups per distinct String: how many Strings would
+	 * have been allocated without the table for each one that was. A ratio of 1
+	 * means nothing repeated. Returns 1 if nothing has been looked up.
+	 *
+	 * @return the deduplication ratio
+	 */
+	public double getDedupRatio() {
+		return size == 0 ? 1 : (double) lookups / size;
+	}
+
+	/**
+	 * Doubles the number of slots and reinserts every String
+	 */
+	private void resize() {
+		byte[][] oldKeys = keys;
+		String[] oldValues = values;
+		int[] oldHashes = hashes;
+		keys = new byte[2 * oldKeys.length][];
+		values = new String[keys.length];
+		hashes = new int[keys.length];
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = oldHashes[i] & mask;
+				while (keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				hashes[slot] = oldHashes[i];
+			}
+		}
+	}
+
+	/**
+	 * Returns a well-mixed hash of a range of bytes
+	 *
+	 * @param bytes the array holding the bytes
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes
+	 * @return the hash
+	 */
+	private static int hash(byte[] bytes, int offset, int length) {
+		int hash = 1;
+		for (int i = offset; i < offset + length; i++) {
+			hash = 31 * hash + bytes[i];
+		}
+		// Spread the high bits into the low bits used to pick a slot
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
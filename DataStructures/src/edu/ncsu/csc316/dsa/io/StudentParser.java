@@ -0,0 +1,291 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * StudentParser reads Student records directly from the bytes of a range of a
+ * buffer, without decoding lines into Strings or splitting them. Only the name
+ * and unity id fields become Strings; ids, credit hours and GPAs are parsed
+ * from their digits by hand.
+ *
+ * Records use the format described in {@link StudentReader}. Lines may end in
+ * "\n" or "\r\n", empty lines are skipped, and any fields after the credit
+ * hours are ignored.
+ *
+ * @author David Sweasey
+ *
+ */
+class StudentParser {
+
+	/** Exact powers of ten; dividing by one of these rounds correctly */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/** The most digits a hand-parsed GPA may have and still be exact */
+	private static final int MAX_EXACT_DIGITS = 15;
+
+	/** The buffer holding the records */
+	private ByteBuffer buffer;
+
+	/** The index of the next byte to read */
+	private int position;
+
+	/** One past the index of the last byte to read */
+	private int limit;
+
+	/** The index of the first byte of the record being parsed */
+	private int recordStart;
+
+	/** Holds the bytes of a text field while it is decoded */
+	private byte[] scratch = new byte[32];
+
+	/** Deduplicates first and last names, or null to decode every name */
+	private StringTable names;
+
+	/**
+	 * Constructs a StudentParser for the bytes of buffer from start up to end. The
+	 * range should begin at the start of a line.
+	 *
+	 * @param buffer the buffer holding the records
+	 * @param start the index of the first byte to read
+	 * @param end one past the index of the last byte to read
+	 */
+	StudentParser(ByteBuffer buffer, int start, int end) {
+		this(buffer, start, end, null);
+	}
+
+	/**
+	 * Constructs a StudentParser for the bytes of buffer from start up to end
+	 * that takes first and last names from a StringTable, so that repeated names
+	 * share one String. Unity ids are unique, so they are always decoded.
+	 *
+	 * @param buffer the buffer holding the records
+	 * @param start the index of the first byte to read
+	 * @param end one past the index of the last byte to read
+	 * @param names deduplicates first and last names, or null to decode every name
+	 */
+	StudentParser(ByteBuffer buffer, int start, int end, StringTable names) {
+		this.buffer = buffer;
+		this.position = start;
+		this.limit = end;
+		this.names = names;
+	}
+
+	/**
+	 * Skips past the end of the current line, such as a header line
+	 */
+	void skipLine() {
+		while (position < limit && buffer.get(position++) != '\n') {
+			// Skipping
+		}
+	}
+
+	/**
+	 * Returns true if another record remains, skipping any empty lines before it
+	 *
+	 * @return true if another record remains
+	 */
+	boolean hasNext() {
+		while (position < limit) {
+			byte b = buffer.get(position);
+			if (b == '\n') {
+				position++;
+			} else if (b == '\r' && (position + 1 == limit || buffer.get(position + 1) == '\n')) {
+				position++;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parses the next record. Callers must check hasNext first.
+	 *
+	 * @return the Student described by the record
+	 * @throws IllegalArgumentException if the record is malformed
+	 */
+	Student next() {
+		recordStart = position;
+		String first = nextText(names);
+		String last = nextText(names);
+		String unityID = nextText(null);
+		int studentID = nextInt();
+		endField(true);
+		double gpa = nextDouble();
+		endField(true);
+		int creditHours = nextInt();
+		endField(false);
+		skipLine();
+		return new Student(first, last, studentID, creditHours, gpa, unityID);
+	}
+
+	/**
+	 * Reads a text field and the comma after it
+	 *
+	 * @param table the table to take the text from, or null to decode it
+	 * @return the text of the field
+	 */
+	private String nextText(StringTable table) {
+		int start = position;
+		while (position < limit) {
+			byte b = buffer.get(position);
+			if (b == ',') {
+				break;
+			}
+			if (b == '\n') {
+				throw invalid();
+			}
+			position++;
+		}
+		if (position == limit) {
+			throw invalid();
+		}
+		int length = position - start;
+		position++;
+		if (length > scratch.length) {
+			scratch = new byte[Math.max(length, 2 * scratch.length)];
+		}
+		buffer.get(start, scratch, 0, length);
+		if (table != null) {
+			return table.intern(scratch, 0, length);
+		}
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the digits of an int field, with an optional leading minus sign
+	 *
+	 * @return the value of the field
+	 */
+	private int nextInt() {
+		boolean negative = position < limit && buffer.get(position) == '-';
+		if (negative) {
+			position++;
+		}
+		int start = position;
+		long value = 0;
+		while (position < limit) {
+			int digit = buffer.get(position) - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			value = value * 10 + digit;
+			if (value > Integer.MAX_VALUE + 1L) {
+				throw invalid();
+			}
+			position++;
+		}
+		if (position == start) {
+			throw invalid();
+		}
+		value = negative ? -value : value;
+		if (value > Integer.MAX_VALUE) {
+			throw invalid();
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Reads a decimal field. Plain decimals of up to 15 digits are parsed by hand,
+	 * which gives the same result as Double.parseDouble; anything else, such as
+	 * an exponent, is handed to Double.parseDouble.
+	 *
+	 * @return the value of the field
+	 */
+	private double nextDouble() {
+		int start = position;
+		boolean negative = position < limit && buffer.get(position) == '-';
+		if (negative) {
+			position++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean point = false;
+		while (position < limit) {
+			byte b = buffer.get(position);
+			if (b >= '0' && b <= '9') {
+				mantissa = mantissa * 10 + (b - '0');
+				if (mantissa != 0) {
+					digits++;
+				}
+				if (point) {
+					scale++;
+				}
+			} else if (b == '.' && !point) {
+				point = true;
+			} else {
+				break;
+			}
+			position++;
+		}
+		boolean atDelimiter = position == limit || buffer.get(position) == ',' || buffer.get(position) == '\n'
+				|| buffer.get(position) == '\r';
+		boolean hasDigits = position > start + (negative ? 1 : 0) + (point ? 1 : 0);
+		if (atDelimiter && hasDigits && digits <= MAX_EXACT_DIGITS && scale < POWERS_OF_TEN.length) {
+			double value = mantissa / POWERS_OF_TEN[scale];
+			return negative ? -value : value;
+		}
+		return slowDouble(start);
+	}
+
+	/**
+	 * Parses the decimal field starting at start with Double.parseDouble
+	 *
+	 * @param start the index of the first byte of the field
+	 * @return the value of the field
+	 */
+	private double slowDouble(int start) {
+		position = start;
+		while (position < limit) {
+			byte b = buffer.get(position);
+			if (b == ',' || b == '\n' || b == '\r') {
+				break;
+			}
+			position++;
+		}
+		byte[] field = new byte[position - start];
+		buffer.get(start, field);
+		try {
+			return Double.parseDouble(new String(field, StandardCharsets.US_ASCII));
+		} catch (NumberFormatException e) {
+			throw invalid();
+		}
+	}
+
+	/**
+	 * Checks that a field ended where its value did, and steps past the comma
+	 * that separates it from the next field
+	 *
+	 * @param more whether another field must follow
+	 */
+	private void endField(boolean more) {
+		if (position < limit && buffer.get(position) == ',') {
+			position++;
+			return;
+		}
+		if (more || position < limit && buffer.get(position) != '\n' && buffer.get(position) != '\r') {
+			throw invalid();
+		}
+	}
+
+	/**
+	 * Returns an exception describing the record being parsed
+	 *
+	 * @return the exception to throw
+	 */
+	private IllegalArgumentException invalid() {
+		int end = recordStart;
+		while (end < limit && buffer.get(end) != '\n') {
+			end++;
+		}
+		byte[] line = new byte[end - recordStart];
+		buffer.get(recordStart, line);
+		return new IllegalArgumentException(
+				"Invalid student record: " + new String(line, StandardCharsets.UTF_8).trim());
+	}
+}
@@ -1,70 +1,404 @@
 package edu.ncsu.csc316.dsa.io;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
 import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
 
 /**
  * StudentReader processes input CSV files that contain
  * student information.
- * 
+ *
  * Input CSV files should be in the following format:
- * 
+ *
  *    FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS
- * 
+ *
+ * Files are memory-mapped and parsed straight from their bytes, so no line is
+ * ever decoded into a String or split. Large files can be parsed on several
+ * threads at once, or streamed one Student at a time without being collected,
+ * and counters report how many Students have been read and how quickly.
+ *
  * @author Dr. King
  * @author David Sweasey
  *
  */
 public class StudentReader {
+
+	/** The most bytes of a file mapped at once; a mapping cannot exceed 2GB */
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+	/** The initial capacity of the array of Students being read */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** The number of byte ranges given to each thread when parsing in parallel */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	/** The fewest bytes in a range parsed on its own thread */
+	private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+	/** The number of Students read since the counters were reset */
+	private static final AtomicLong ROWS_READ = new AtomicLong();
+
+	/** The number of bytes read since the counters were reset */
+	private static final AtomicLong BYTES_READ = new AtomicLong();
+
+	/** The time spent reading since the counters were reset, in nanoseconds */
+	private static final AtomicLong NANOS_READING = new AtomicLong();
+
 	/**
 	 * Returns the input CSV file as an array of Student objects
 	 * @param filePath - the path to the input CSV file
 	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist or a line is
+	 *         not a valid student record
 	 */
 	public static Student[] readInputAsArray(String filePath)
 	{
-		Student[] list = new Student[10];
-		try(Scanner scan = new Scanner(new FileInputStream(filePath), "UTF8"))
+		return readInputAsArray(filePath, 1);
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects, parsing it on
+	 * the given number of threads. Each mapped segment of the file is split into
+	 * byte ranges that end on newlines, the ranges are parsed concurrently, and
+	 * their Students are concatenated in file order.
+	 * @param filePath - the path to the input CSV file
+	 * @param parallelism - the number of threads to parse with; 1 parses on the
+	 *        calling thread
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if parallelism is less than 1, the file
+	 *         does not exist, or a line is not a valid student record
+	 */
+	public static Student[] readInputAsArray(String filePath, int parallelism)
+	{
+		if(parallelism < 1)
+		{
+			throw new IllegalArgumentException("Parallelism must be at least 1");
+		}
+		List<Student[]> parts = new ArrayBasedList<Student[]>();
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		long total;
+		try
+		{
+			total = readSegments(filePath, (segment, start, end) -> {
+				Student[] part = pool == null ? parseRange(segment, start, end, null)
+						: parseParallel(pool, parallelism, segment, start, end);
+				parts.addLast(part);
+				return part.length;
+			});
+		} finally {
+			if(pool != null)
+			{
+				pool.shutdown();
+			}
+		}
+		return concatenate(parts, total);
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects, taking first and
+	 * last names from a StringTable so that every repeated name is one shared
+	 * String. The table may be reused across files; its dedup ratio reports how
+	 * many names were shared.
+	 * @param filePath - the path to the input CSV file
+	 * @param names - the table that deduplicates first and last names
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist or a line is
+	 *         not a valid student record
+	 */
+	public static Student[] readInputAsArray(String filePath, StringTable names)
+	{
+		List<Student[]> parts = new ArrayBasedList<Student[]>();
+		long total = readSegments(filePath, (segment, start, end) -> {
+			Student[] part = parseRange(segment, start, end, names);
+			parts.addLast(part);
+			return part.length;
+		});
+		return concatenate(parts, total);
+	}
+
+	/**
+	 * Reads the input CSV file one Student at a time, passing each to an action
+	 * in file order. Students are parsed lazily and never collected, so memory
+	 * use does not grow with the size of the file.
+	 * @param filePath - the path to the input CSV file
+	 * @param action - the action to perform on each Student
+	 * @return the number of Students read
+	 * @throws IllegalArgumentException if the file does not exist or a line is
+	 *         not a valid student record
+	 */
+	public static long readInput(String filePath, Consumer<? super Student> action)
+	{
+		return readSegments(filePath, (segment, start, end) -> {
+			StudentParser parser = new StudentParser(segment, start, end);
+			int count = 0;
+			while(parser.hasNext())
+			{
+				action.accept(parser.next());
+				count++;
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * Returns the total number of Students read by readInputAsArray and
+	 * readInput since the counters were last reset
+	 * @return the number of Students read
+	 */
+	public static long getRowsRead()
+	{
+		return ROWS_READ.get();
+	}
+
+	/**
+	 * Returns the total size of the files read by readInputAsArray and readInput
+	 * since the counters were last reset
+	 * @return the number of bytes read
+	 */
+	public static long getBytesRead()
+	{
+		return BYTES_READ.get();
+	}
+
+	/**
+	 * Returns the number of Students read per second of time spent reading since
+	 * the counters were last reset, or 0 if nothing has been read
+	 * @return the throughput in Students per second
+	 */
+	public static double getRowsPerSecond()
+	{
+		long nanos = NANOS_READING.get();
+		return nanos == 0 ? 0 : ROWS_READ.get() * 1e9 / nanos;
+	}
+
+	/**
+	 * Resets the counters behind getRowsRead, getBytesRead and getRowsPerSecond
+	 */
+	public static void resetCounters()
+	{
+		ROWS_READ.set(0);
+		BYTES_READ.set(0);
+		NANOS_READING.set(0);
+	}
+
+	/**
+	 * Returns the Students of every part in one array, in order
+	 * @param parts - the arrays of Students to join
+	 * @param total - the total number of Students in the parts
+	 * @return the joined array
+	 */
+	private static Student[] concatenate(List<Student[]> parts, long total)
+	{
+		if(parts.size() == 1)
+		{
+			return parts.get(0);
+		}
+		Student[] list = new Student[(int) total];
+		int index = 0;
+		for(Student[] part : parts)
+		{
+			System.arraycopy(part, 0, list, index, part.length);
+			index += part.length;
+		}
+		return list;
+	}
+
+	/**
+	 * Parses the records in a range of a buffer on the calling thread
+	 * @param buffer - the buffer holding the records
+	 * @param start - the index of the first byte of the range, at the start of a line
+	 * @param end - one past the index of the last byte of the range
+	 * @param names - deduplicates first and last names, or null to decode every name
+	 * @return the Students in the range, in order
+	 */
+	private static Student[] parseRange(ByteBuffer buffer, int start, int end, StringTable names)
+	{
+		Student[] list = new Student[INITIAL_CAPACITY];
+		int index = 0;
+		StudentParser parser = new StudentParser(buffer, start, end, names);
+		while(parser.hasNext())
 		{
-			scan.nextLine(); // SKIP HEADER LINE
-			int index = 0;
-			while(scan.hasNextLine())
+			if(index >= list.length)
 			{
-				if(index >= list.length)
+				list = Arrays.copyOf(list, list.length * 2);
+			}
+			list[index] = parser.next();
+			index++;
+		}
+		return Arrays.copyOf(list, index);
+	}
+
+	/**
+	 * Parses the records in a range of a buffer on a pool of threads. The range
+	 * is cut into pieces of at least MIN_CHUNK_SIZE bytes, a few per thread so
+	 * that uneven pieces balance out, and every cut is moved forward to just
+	 * past a newline.
+	 * @param pool - the pool to parse on
+	 * @param parallelism - the number of threads in the pool
+	 * @param buffer - the buffer holding the records
+	 * @param start - the index of the first byte of the range, at the start of a line
+	 * @param end - one past the index of the last byte of the range
+	 * @return the Students in the range, in order
+	 */
+	private static Student[] parseParallel(ForkJoinPool pool, int parallelism, ByteBuffer buffer, int start, int end)
+	{
+		int chunks = (int) Math.max(1, Math.min((long) parallelism * CHUNKS_PER_THREAD,
+				(end - start) / MIN_CHUNK_SIZE));
+		List<ForkJoinTask<Student[]>> tasks = new ArrayBasedList<ForkJoinTask<Student[]>>();
+		int chunkStart = start;
+		for(int i = 1; i <= chunks && chunkStart < end; i++)
+		{
+			int chunkEnd = i == chunks ? end
+					: lineEnd(buffer, Math.max(chunkStart, start + (int) ((long) (end - start) * i / chunks)), end);
+			int from = chunkStart;
+			tasks.addLast(pool.submit(() -> parseRange(buffer, from, chunkEnd, null)));
+			chunkStart = chunkEnd;
+		}
+		int total = 0;
+		Student[][] parts = new Student[tasks.size()][];
+		for(int i = 0; i < parts.length; i++)
+		{
+			parts[i] = tasks.get(i).join();
+			total += parts[i].length;
+		}
+		Student[] list = new Student[total];
+		int index = 0;
+		for(Student[] part : parts)
+		{
+			System.arraycopy(part, 0, list, index, part.length);
+			index += part.length;
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the index just past the first newline at or after start, or end
+	 * if there is none
+	 * @param buffer - the buffer to search
+	 * @param start - the index to search from
+	 * @param end - one past the index of the last byte to search
+	 * @return the index of the start of the next line
+	 */
+	private static int lineEnd(ByteBuffer buffer, int start, int end)
+	{
+		int index = start;
+		while(index < end && buffer.get(index) != '\n')
+		{
+			index++;
+		}
+		return Math.min(index + 1, end);
+	}
+
+	/**
+	 * Maps the input CSV file one segment at a time and hands the records of
+	 * each segment, past the header line, to a handler. Also updates the
+	 * throughput counters.
+	 * @param filePath - the path to the input CSV file
+	 * @param handler - parses the records of each segment
+	 * @return the total number of Students the handler parsed
+	 * @throws IllegalArgumentException if the file does not exist
+	 */
+	private static long readSegments(String filePath, SegmentHandler handler)
+	{
+		long startTime = System.nanoTime();
+		long total = 0;
+		long size = 0;
+		try(FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ))
+		{
+			size = channel.size();
+			long offset = 0;
+			boolean header = true;
+			while(offset < size)
+			{
+				MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+						Math.min(size - offset, MAX_SEGMENT_SIZE));
+				int end = segmentEnd(segment, offset + segment.capacity() == size);
+				int start = 0;
+				if(header)
 				{
-					list = Arrays.copyOf(list, list.length * 2 + 1);
+					start = lineEnd(segment, 0, end); // SKIP HEADER LINE
+					header = false;
 				}
-				list[index] = processLine(scan.nextLine());
-				index++;
+				total += handler.parse(segment, start, end);
+				offset += end;
 			}
-			list = Arrays.copyOf(list, index);
-		} catch (FileNotFoundException e) {
+		} catch (NoSuchFileException e) {
 			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
-		return list;
+		ROWS_READ.addAndGet(total);
+		BYTES_READ.addAndGet(size);
+		NANOS_READING.addAndGet(System.nanoTime() - startTime);
+		return total;
+	}
+
+	/**
+	 * Returns where parsing of a mapped segment should stop: the end of the
+	 * segment if it is the last one, or otherwise just past its last newline, so
+	 * that no line is split between segments
+	 * @param segment - the mapped segment
+	 * @param last - whether the segment reaches the end of the file
+	 * @return one past the index of the last byte to parse
+	 */
+	private static int segmentEnd(ByteBuffer segment, boolean last)
+	{
+		int end = segment.capacity();
+		if(last)
+		{
+			return end;
+		}
+		while(end > 0 && segment.get(end - 1) != '\n')
+		{
+			end--;
+		}
+		if(end == 0)
+		{
+			throw new IllegalArgumentException("Line is longer than " + MAX_SEGMENT_SIZE + " bytes");
+		}
+		return end;
 	}
 
 	/**
 	 * Processes a single line from the input file to construct a Student.
 	 * @param line - the input line from the input file
 	 * @return a Student representation of the input line
+	 * @throws IllegalArgumentException if the line is not a valid student record
 	 */
-	private static Student processLine(String line) {
-		Scanner process = new Scanner(line);
-		process.useDelimiter(",");
-		
-		String first = process.next();
-		String last = process.next();
-		String unityID = process.next();
-		int studentID = process.nextInt();
-		double gpa = process.nextDouble();
-		int creditHours = process.nextInt();
-		
-		process.close();
-		
-		return new Student(first, last, studentID, creditHours, gpa, unityID);
+	static Student processLine(String line) {
+		byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+		return new StudentParser(ByteBuffer.wrap(bytes), 0, bytes.length).next();
+	}
+
+	/**
+	 * Parses the records in one mapped segment of a file
+	 *
+	 * @author David Sweasey
+	 */
+	private interface SegmentHandler {
+
+		/**
+		 * Parses the records in a range of a segment
+		 * @param segment - the mapped segment
+		 * @param start - the index of the first byte of the first record
+		 * @param end - one past the index of the last byte to parse
+		 * @return the number of Students parsed
+		 */
+		int parse(ByteBuffer segment, int start, int end);
 	}
 }
@@ -1,18 +1,66 @@
 package edu.ncsu.csc316.dsa.manager;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import edu.ncsu.csc316.dsa.data.FrozenStudent;
 import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentTable;
 import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.Map.Entry;
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap.Compression;
+import edu.ncsu.csc316.dsa.map.hashing.IntObjectHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.map.search_tree.BinarySearchTreeMap;
+import edu.ncsu.csc316.dsa.map.search_tree.RedBlackTreeMap;
+import edu.ncsu.csc316.dsa.sorter.AbstractComparisonSorter;
 import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.sorter.KeySorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSelector;
 import edu.ncsu.csc316.dsa.sorter.Sorter;
 
 /**
  * StudentManager manages Student information. StudentManager
- * can sort a Student roster.
+ * can sort a Student roster, and can answer simple queries over
+ * a student CSV file in one pass without building a roster.
+ * 
+ * Students in the roster can be looked up by id, by unity id, and
+ * by a range or prefix of last names. The first lookup builds an
+ * index for each: hash maps on id and unity id, and a red-black
+ * tree ordered like the roster's natural order for names. The time
+ * taken to build the indexes and to answer lookups is recorded.
+ * 
+ * Students can be added, updated, and removed one at a time. Changes
+ * are kept aside and merged into the roster when it is next needed,
+ * and the indexes are kept current as each change is made. If the
+ * roster was last sorted by a comparison sorter, sort() merges the
+ * changes into the sorted roster instead of sorting it again: each
+ * added Student is placed by binary search and each removed Student is
+ * found by binary search, so k changes cost O(k log n) comparisons.
  * @author Dr. King
  *
  */
 public class StudentManager {
 
+	/**
+	 * Sorts students by id, smallest first, on a primitive int key
+	 */
+	private static final Sorter<Student> ID_SORTER = KeySorter.byInt(Student::getId);
+	
+	/**
+	 * Sorts students by GPA, largest first, on a primitive double key, breaking
+	 * ties by natural order like StudentGPAComparator. Adding 0.0 turns a GPA of
+	 * -0.0 into 0.0, since KeySorter orders -0.0 before 0.0 but the comparator
+	 * treats them as equal.
+	 */
+	private static final Sorter<Student> GPA_SORTER = KeySorter.byDouble(s -> s.getGpa() + 0.0, true,
+			Comparator.naturalOrder());
+
 	/**
 	 * A roster of students in the system
 	 */
@@ -23,6 +71,73 @@ public class StudentManager {
 	 */
 	private Sorter<Student> sorter;
 	
+	/**
+	 * The sorter as a comparison sorter, whose order changes can be
+	 * merged into, or null if it is not one
+	 */
+	private AbstractComparisonSorter<Student> comparisonSorter;
+	
+	/**
+	 * Whether the roster is in the sorter's order
+	 */
+	private boolean sorted;
+	
+	/**
+	 * Students added since the roster was last rebuilt
+	 */
+	private List<Student> added;
+	
+	/**
+	 * The positions in the roster of Students removed since it was last
+	 * rebuilt, in the order they were removed
+	 */
+	private List<Integer> removed;
+	
+	/**
+	 * Whether each position in the roster has been removed, or null if
+	 * none has been since the roster was last rebuilt
+	 */
+	private boolean[] isRemoved;
+	
+	/**
+	 * Students by id, or null until the indexes are built
+	 */
+	private IntObjectHashMap<Student> idIndex;
+	
+	/**
+	 * Students by unity id, or null until the indexes are built
+	 */
+	private Map<String, Student> unityIDIndex;
+	
+	/**
+	 * Students in natural order, keyed by frozen copies so that their
+	 * keys cannot change while in the tree, or null until the indexes
+	 * are built
+	 */
+	private BinarySearchTreeMap<Student, Student> nameIndex;
+	
+	/**
+	 * Students in the roster that some index does not hold because another
+	 * Student with the same key was indexed after them, or null until the
+	 * indexes are built
+	 */
+	private List<Student> shadowed;
+	
+	/**
+	 * The time taken to build the indexes, in nanoseconds
+	 */
+	private long indexBuildTime;
+	
+	/**
+	 * The number of indexed lookups answered
+	 */
+	private long queryCount;
+	
+	/**
+	 * The total time taken by indexed lookups, in nanoseconds
+	 */
+	private long queryTime;
+	
 	/**
 	 * Initializes a StudentManager
 	 * @param pathToFile - the path to the input student CSV file
@@ -32,6 +147,11 @@ public class StudentManager {
 	{
 		roster = StudentReader.readInputAsArray(pathToFile);
 		this.sorter = sorter;
+		if (sorter instanceof AbstractComparisonSorter) {
+			comparisonSorter = (AbstractComparisonSorter<Student>) sorter;
+		}
+		added = new ArrayBasedList<Student>();
+		removed = new ArrayBasedList<Integer>();
 	}
 	
 	/**
@@ -44,14 +164,681 @@ public class StudentManager {
 	}
 		
     /**
-     * Returns a sorted array of Students
+     * Returns a sorted array of Students. If the roster is already sorted,
+     * Students added, updated, or removed since are merged into it rather
+     * than sorting it again. Students must be changed through update, not
+     * through their setters, for the roster to stay in order.
      *
      * @return the sorted array of Students
      */
 	public Student[] sort()
 	{
-		sorter.sort(roster);
+		if (sorted && !hasChanges()) {
+			return roster;
+		}
+		if (sorted && comparisonSorter != null) {
+			merge();
+		} else {
+			rebuild();
+			sorter.sort(roster);
+			sorted = true;
+		}
 		return roster;
 	}
-
+	
+    /**
+     * Adds a Student to the roster
+     *
+     * @param s the Student to add
+     */
+	public void add(Student s)
+	{
+		added.addLast(s);
+		if (idIndex != null) {
+			index(s);
+		}
+	}
+	
+    /**
+     * Removes a Student equal to the given Student from the roster
+     *
+     * @param s the Student to remove
+     * @return true if a Student was removed, or false if none is equal to s
+     */
+	public boolean remove(Student s)
+	{
+		for (int i = 0; i < added.size(); i++) {
+			if (added.get(i).equals(s)) {
+				unindex(added.remove(i));
+				return true;
+			}
+		}
+		int position = find(s);
+		if (position < 0) {
+			return false;
+		}
+		if (isRemoved == null) {
+			isRemoved = new boolean[roster.length];
+		}
+		isRemoved[position] = true;
+		removed.addLast(position);
+		unindex(roster[position]);
+		return true;
+	}
+	
+    /**
+     * Replaces a Student equal to the given Student with another
+     *
+     * @param current the Student to replace
+     * @param replacement the Student to replace it with
+     * @return true if a Student was replaced, or false if none is equal to
+     *         current
+     */
+	public boolean update(Student current, Student replacement)
+	{
+		if (!remove(current)) {
+			return false;
+		}
+		add(replacement);
+		return true;
+	}
+	
+    /**
+     * Returns the number of Students in the roster
+     *
+     * @return the number of Students
+     */
+	public int size()
+	{
+		return roster.length - removed.size() + added.size();
+	}
+	
+    /**
+     * Returns the array of Students sorted by id, smallest first. Equal ids keep
+     * their current order. Ids are sorted as primitives rather than through a
+     * Comparator.
+     *
+     * @return the array of Students sorted by id
+     */
+	public Student[] sortByID()
+	{
+		rebuild();
+		sorted = false;
+		ID_SORTER.sort(roster);
+		return roster;
+	}
+	
+    /**
+     * Returns the array of Students sorted in the same order as
+     * StudentGPAComparator: largest GPA first, with ties in natural order. GPAs
+     * are sorted as primitives rather than through a Comparator.
+     *
+     * @return the array of Students sorted by GPA
+     */
+	public Student[] sortByGPA()
+	{
+		rebuild();
+		sorted = false;
+		GPA_SORTER.sort(roster);
+		return roster;
+	}
+	
+    /**
+     * Returns the k smallest Students in the given order, smallest first, without
+     * sorting the whole roster. The roster is rearranged so that these Students
+     * come first.
+     *
+     * @param k the number of Students to return
+     * @param comparator the order to rank Students by, or null for natural order
+     * @return the first k Students in sorted order
+     * @throws IndexOutOfBoundsException if k is negative or larger than the roster
+     */
+	public Student[] top(int k, Comparator<Student> comparator)
+	{
+		rebuild();
+		sorted = false;
+		new QuickSelector<Student>(comparator).partialSort(roster, k);
+		return Arrays.copyOf(roster, k);
+	}
+	
+    /**
+     * Returns the Student with the given id. If several Students share the
+     * id, one of them is returned.
+     *
+     * @param id the id to look up
+     * @return the Student with the id, or null if there is none
+     */
+	public Student findByID(int id)
+	{
+		long start = startQuery();
+		Student student = idIndex.get(id);
+		endQuery(start);
+		return student;
+	}
+	
+    /**
+     * Returns the Student with the given unity id. If several Students share
+     * the unity id, one of them is returned.
+     *
+     * @param unityID the unity id to look up
+     * @return the Student with the unity id, or null if there is none
+     */
+	public Student findByUnityID(String unityID)
+	{
+		long start = startQuery();
+		Student student = unityIDIndex.get(unityID);
+		endQuery(start);
+		return student;
+	}
+	
+    /**
+     * Returns the Students whose last names are at least from and come
+     * before to, in natural order. Of Students with the same last name,
+     * first name, and id, only one is returned.
+     *
+     * @param from the smallest last name to include, or null for no lower bound
+     * @param to the last name after the largest to include, or null for no
+     *           upper bound
+     * @return the Students in the range, in natural order
+     */
+	public Student[] findByLastName(String from, String to)
+	{
+		long start = startQuery();
+		Student[] students = range(from, to);
+		endQuery(start);
+		return students;
+	}
+	
+    /**
+     * Returns the Students whose last names start with the given prefix, in
+     * natural order. Of Students with the same last name, first name, and id,
+     * only one is returned.
+     *
+     * @param prefix the start of the last names to include
+     * @return the Students whose last names start with the prefix, in natural
+     *         order
+     */
+	public Student[] findByLastNamePrefix(String prefix)
+	{
+		long start = startQuery();
+		// Every name with the prefix comes before the prefix with its last
+		// character incremented; trailing Character.MAX_VALUEs cannot be
+		// incremented, so they are dropped first
+		int end = prefix.length();
+		while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+			end--;
+		}
+		String to = end == 0 ? null : prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+		Student[] students = range(prefix, to);
+		endQuery(start);
+		return students;
+	}
+	
+    /**
+     * Returns the time taken to build the indexes, in nanoseconds, or 0 if no
+     * lookup has built them yet
+     *
+     * @return the time taken to build the indexes
+     */
+	public long getIndexBuildTime()
+	{
+		return indexBuildTime;
+	}
+	
+    /**
+     * Returns the number of lookups answered through the indexes
+     *
+     * @return the number of lookups
+     */
+	public long getQueryCount()
+	{
+		return queryCount;
+	}
+	
+    /**
+     * Returns the average time taken by a lookup, in nanoseconds, not counting
+     * the time taken to build the indexes, or 0 if there have been no lookups
+     *
+     * @return the average time taken by a lookup
+     */
+	public double getAverageQueryTime()
+	{
+		return queryCount == 0 ? 0 : (double) queryTime / queryCount;
+	}
+	
+    /**
+     * Builds the indexes if they have not been built, and returns the time a
+     * lookup starts
+     *
+     * @return the time the lookup starts, in nanoseconds
+     */
+	private long startQuery()
+	{
+		if (idIndex == null) {
+			long start = System.nanoTime();
+			// Apply pending changes so the roster holds every Student to
+			// index, keeping it in order if it is sorted
+			if (sorted && comparisonSorter != null) {
+				merge();
+			} else {
+				rebuild();
+			}
+			// Sized so that the hash maps never resize while being built
+			idIndex = new IntObjectHashMap<Student>(2 * roster.length);
+			LinearProbingHashMap<String, Student> byUnityID = new LinearProbingHashMap<String, Student>(2 * roster.length + 1);
+			byUnityID.setCompression(Compression.MULTIPLY_SHIFT);
+			unityIDIndex = byUnityID;
+			nameIndex = new RedBlackTreeMap<Student, Student>();
+			shadowed = new ArrayBasedList<Student>();
+			for (Student s : roster) {
+				index(s);
+			}
+			indexBuildTime = System.nanoTime() - start;
+		}
+		return System.nanoTime();
+	}
+	
+    /**
+     * Adds a Student to the indexes. A Student already indexed under one of
+     * its keys is kept aside, to be indexed again if s is removed.
+     *
+     * @param s the Student to add
+     */
+	private void index(Student s)
+	{
+		shadow(idIndex.put(s.getId(), s));
+		shadow(unityIDIndex.put(s.getUnityID(), s));
+		shadow(nameIndex.put(s.freeze(), s));
+	}
+	
+    /**
+     * Keeps aside a Student that an index no longer holds
+     *
+     * @param s the Student replaced in an index, or null if none was
+     */
+	private void shadow(Student s)
+	{
+		if (s != null && indexOf(shadowed, s) < 0) {
+			shadowed.addLast(s);
+		}
+	}
+	
+    /**
+     * Removes a Student from the indexes, if they have been built. Where it
+     * is the Student an index holds for its key, a kept-aside Student with
+     * the same key takes its place.
+     *
+     * @param s the Student to remove
+     */
+	private void unindex(Student s)
+	{
+		if (idIndex == null) {
+			return;
+		}
+		int position = indexOf(shadowed, s);
+		if (position >= 0) {
+			shadowed.remove(position);
+		}
+		int id = s.getId();
+		if (idIndex.get(id) == s) {
+			idIndex.remove(id);
+			Student other = findShadowed(t -> t.getId() == id);
+			if (other != null) {
+				idIndex.put(id, other);
+			}
+		}
+		String unityID = s.getUnityID();
+		if (unityIDIndex.get(unityID) == s) {
+			unityIDIndex.remove(unityID);
+			Student other = findShadowed(t -> unityID.equals(t.getUnityID()));
+			if (other != null) {
+				unityIDIndex.put(unityID, other);
+			}
+		}
+		FrozenStudent key = s.freeze();
+		if (nameIndex.get(key) == s) {
+			nameIndex.remove(key);
+			Student other = findShadowed(t -> key.compareTo(t) == 0);
+			if (other != null) {
+				nameIndex.put(key, other);
+			}
+		}
+	}
+	
+    /**
+     * Returns the most recently kept-aside Student matching a condition
+     *
+     * @param condition the condition
+     * @return the Student, or null if none matches
+     */
+	private Student findShadowed(Predicate<Student> condition)
+	{
+		for (int i = shadowed.size() - 1; i >= 0; i--) {
+			if (condition.test(shadowed.get(i))) {
+				return shadowed.get(i);
+			}
+		}
+		return null;
+	}
+	
+    /**
+     * Returns the position of a Student in a list, comparing by identity
+     *
+     * @param list the list to search
+     * @param s the Student to find
+     * @return the position of s, or -1 if it is not in the list
+     */
+	private static int indexOf(List<Student> list, Student s)
+	{
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i) == s) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+    /**
+     * Returns whether Students have been added or removed since the roster
+     * was last rebuilt
+     *
+     * @return true if there are changes to apply to the roster
+     */
+	private boolean hasChanges()
+	{
+		return added.size() > 0 || removed.size() > 0;
+	}
+	
+    /**
+     * Returns the position in the roster of a Student equal to s that has
+     * not been removed. If the roster is sorted by a comparison sorter, the
+     * Students that compare equal to s are found by binary search first.
+     *
+     * @param s the Student to find
+     * @return the position of the Student, or -1 if there is none
+     */
+	private int find(Student s)
+	{
+		if (sorted && comparisonSorter != null) {
+			int low = 0;
+			int high = roster.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (comparisonSorter.compare(roster[mid], s) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			for (int i = low; i < roster.length && comparisonSorter.compare(roster[i], s) == 0; i++) {
+				if (!isRemoved(i) && roster[i].equals(s)) {
+					return i;
+				}
+			}
+		}
+		// A Student can be equal to s without comparing equal to it, for
+		// example if it has a different GPA and the order is by GPA
+		for (int i = 0; i < roster.length; i++) {
+			if (!isRemoved(i) && roster[i].equals(s)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+    /**
+     * Returns whether the Student at a position in the roster has been removed
+     *
+     * @param position the position in the roster
+     * @return true if the Student has been removed
+     */
+	private boolean isRemoved(int position)
+	{
+		return isRemoved != null && isRemoved[position];
+	}
+	
+    /**
+     * Applies the changes to the roster without ordering them: removed
+     * Students are dropped and added Students are appended, after which the
+     * roster is no longer sorted
+     */
+	private void rebuild()
+	{
+		if (!hasChanges()) {
+			return;
+		}
+		if (added.size() > 0) {
+			sorted = false;
+		}
+		Student[] rebuilt = new Student[size()];
+		int out = 0;
+		for (int i = 0; i < roster.length; i++) {
+			if (!isRemoved(i)) {
+				rebuilt[out++] = roster[i];
+			}
+		}
+		for (Student s : added) {
+			rebuilt[out++] = s;
+		}
+		roster = rebuilt;
+		clearChanges();
+	}
+	
+    /**
+     * Merges the changes into the sorted roster. The added Students are
+     * sorted among themselves, and each is then placed after the Students
+     * that do not come after it by binary search. The Students between
+     * those places are block-copied, skipping removed positions.
+     */
+	private void merge()
+	{
+		Student[] additions = new Student[added.size()];
+		for (int i = 0; i < additions.length; i++) {
+			additions[i] = added.get(i);
+		}
+		sorter.sort(additions);
+		int[] gone = new int[removed.size()];
+		for (int i = 0; i < gone.length; i++) {
+			gone[i] = removed.get(i);
+		}
+		Arrays.sort(gone);
+		
+		Student[] merged = new Student[size()];
+		int next = 0;
+		int out = 0;
+		int g = 0;
+		for (int a = 0; a <= additions.length; a++) {
+			int end = a < additions.length ? upperBound(additions[a], next) : roster.length;
+			while (next < end) {
+				int stop = g < gone.length && gone[g] < end ? gone[g] : end;
+				System.arraycopy(roster, next, merged, out, stop - next);
+				out += stop - next;
+				next = stop;
+				if (next < end) {
+					// Skip the removed Student
+					next++;
+					g++;
+				}
+			}
+			if (a < additions.length) {
+				merged[out++] = additions[a];
+			}
+		}
+		roster = merged;
+		clearChanges();
+	}
+	
+    /**
+     * Returns the first position at or after low in the sorted roster whose
+     * Student comes after s
+     *
+     * @param s the Student to place
+     * @param low the first position to consider
+     * @return the position of the first Student after s, or the length of the
+     *         roster if there is none
+     */
+	private int upperBound(Student s, int low)
+	{
+		int high = roster.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (comparisonSorter.compare(roster[mid], s) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+	
+    /**
+     * Forgets the changes once they have been applied to the roster
+     */
+	private void clearChanges()
+	{
+		added = new ArrayBasedList<Student>();
+		removed = new ArrayBasedList<Integer>();
+		isRemoved = null;
+	}
+	
+    /**
+     * Records that a lookup has finished
+     *
+     * @param start the time the lookup started, in nanoseconds
+     */
+	private void endQuery(long start)
+	{
+		queryTime += System.nanoTime() - start;
+		queryCount++;
+	}
+	
+    /**
+     * Returns the Students in the name index whose last names are at least
+     * from and come before to, in natural order
+     *
+     * @param from the smallest last name to include, or null for no lower bound
+     * @param to the last name after the largest to include, or null for no
+     *           upper bound
+     * @return the Students in the range
+     */
+	private Student[] range(String from, String to)
+	{
+		// No Student with a last name comes before one with that last name,
+		// an empty first name, and the smallest id
+		Student fromKey = from == null ? null : new FrozenStudent("", from, Integer.MIN_VALUE, 0, 0, "");
+		Student toKey = to == null ? null : new FrozenStudent("", to, Integer.MIN_VALUE, 0, 0, "");
+		List<Student> matches = new ArrayBasedList<Student>();
+		for (Entry<Student, Student> entry : nameIndex.subMap(fromKey, toKey)) {
+			matches.addLast(entry.getValue());
+		}
+		Student[] students = new Student[matches.size()];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = matches.get(i);
+		}
+		return students;
+	}
+	
+    /**
+     * Returns the number of Students in a CSV file, reading it one Student at a
+     * time without building the roster
+     *
+     * @param pathToFile - the path to the input student CSV file
+     * @return the number of Students in the file
+     */
+	public static long count(String pathToFile)
+	{
+		return StudentReader.readInput(pathToFile, s -> { });
+	}
+	
+    /**
+     * Passes each Student in a CSV file whose credit hours are between
+     * minCreditHours and maxCreditHours, inclusive, to an action in file order,
+     * reading the file one Student at a time without building the roster
+     *
+     * @param pathToFile - the path to the input student CSV file
+     * @param minCreditHours - the fewest credit hours a Student may have
+     * @param maxCreditHours - the most credit hours a Student may have
+     * @param action - the action to perform on each matching Student
+     * @return the number of matching Students
+     */
+	public static long filterByCreditHours(String pathToFile, int minCreditHours, int maxCreditHours,
+			Consumer<? super Student> action)
+	{
+		long[] matches = new long[1];
+		StudentReader.readInput(pathToFile, s -> {
+			if (s.getCreditHours() >= minCreditHours && s.getCreditHours() <= maxCreditHours) {
+				action.accept(s);
+				matches[0]++;
+			}
+		});
+		return matches[0];
+	}
+	
+    /**
+     * Returns the Student with the lowest GPA in a CSV file, reading the file one
+     * Student at a time without building the roster. Of Students with equal
+     * GPAs, the first in the file is returned.
+     *
+     * @param pathToFile - the path to the input student CSV file
+     * @return the Student with the lowest GPA, or null if the file has none
+     */
+	public static Student minGPA(String pathToFile)
+	{
+		Student[] min = new Student[1];
+		StudentReader.readInput(pathToFile, s -> {
+			if (min[0] == null || s.getGpa() < min[0].getGpa()) {
+				min[0] = s;
+			}
+		});
+		return min[0];
+	}
+	
+    /**
+     * Returns the Student with the highest GPA in a CSV file, reading the file
+     * one Student at a time without building the roster. Of Students with equal
+     * GPAs, the first in the file is returned.
+     *
+     * @param pathToFile - the path to the input student CSV file
+     * @return the Student with the highest GPA, or null if the file has none
+     */
+	public static Student maxGPA(String pathToFile)
+	{
+		Student[] max = new Student[1];
+		StudentReader.readInput(pathToFile, s -> {
+			if (max[0] == null || s.getGpa() > max[0].getGpa()) {
+				max[0] = s;
+			}
+		});
+		return max[0];
+	}
+	
+    /**
+     * Reads a CSV file into a columnar StudentTable, one Student at a time,
+     * without building an array of Students. The table is trimmed to size
+     * once the whole file has been read.
+     *
+     * @param pathToFile - the path to the input student CSV file
+     * @return the table of Students in file order
+     */
+	public static StudentTable readTable(String pathToFile)
+	{
+		StudentTable table = new StudentTable();
+		StudentReader.readInput(pathToFile, table::add);
+		table.trimToSize();
+		return table;
+	}
+	
+    /**
+     * Reads a CSV file into a columnar StudentTable and sorts its rows
+     *
+     * @param pathToFile - the path to the input student CSV file
+     * @param sorter - the sorting algorithm to order the rows with
+     * @return the sorted table
+     */
+	public static StudentTable sortTable(String pathToFile, Sorter<StudentTable.Row> sorter)
+	{
+		StudentTable table = readTable(pathToFile);
+		table.sort(sorter);
+		return table;
+	}
 }
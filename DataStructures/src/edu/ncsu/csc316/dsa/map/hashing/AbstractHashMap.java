@@ -12,6 +12,24 @@ import edu.ncsu.csc316.dsa.map.AbstractMap;
  * that can be implemented the same no matter what specific type of concrete
  * hash table data structure is used to implement the map abstract data type.
  * 
+ * By default the table is resized all at once, inside the put that pushes the
+ * load factor past 0.5, which makes that put take time proportional to the
+ * size of the map. In incremental mode (see {@link #setIncrementalResize}) the
+ * put that crosses the load factor instead moves the current table aside into
+ * a second map and starts a new, larger table. While both tables exist, every
+ * put, get, and remove first moves the entries of a few buckets of the old
+ * table into the new one, new entries always go into the new table, and
+ * lookups consult the new table and then the old one. Each operation does a
+ * bounded amount of resizing work, and the old table is emptied well before
+ * the new one needs to grow.
+ * 
+ * By default keys are compressed with the multiply-add-divide (MAD) method,
+ * which takes two divisions per operation, and the table grows from capacity c
+ * to 2c + 1. The multiply-shift method (see {@link #setCompression}) instead
+ * keeps the capacity a power of two, multiplies a key's hash code by a random
+ * odd number, and keeps the top bits of the product, which takes a
+ * multiplication and a shift.
+ * 
  * @author Dr. King
  * @author David Sweasey
  *
@@ -53,12 +71,37 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
     /** The prime number to use for compression strategy */
     private int prime;
 
+    /** The odd multiplier for multiply-shift compression */
+    private int multiplier;
+
+    /** The compression strategy in use */
+    private Compression compression;
+
+    /** 2^32 divided by the golden ratio, rounded to an odd number */
+    private static final int FIBONACCI_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * The number of buckets of the old table moved into the new table by each
+     * operation during an incremental resize
+     */
+    private static final int BUCKETS_PER_STEP = 4;
+
+    /** Whether the table is resized incrementally */
+    private boolean incremental;
+
+    /** The map holding the old table during an incremental resize, or null */
+    private AbstractHashMap<K, V> resizing;
+
+    /** The next bucket of the old table to move during an incremental resize */
+    private int nextBucket;
+
     /**
      * Initializes the abstract hash map state with values to use when calculating
      * hash functions. You can use the isTesting flag (set to true) to.
      * 
      * In TESTING MODE only, alpha=1, beta=1, and prime=7 to help ensure a
-     * repeatable sequence of prime numbers and hash functions
+     * repeatable sequence of prime numbers and hash functions, and the
+     * multiply-shift multiplier is 2^32 divided by the golden ratio
      * 
      * @param capacity  the initial capacity of the hash table array
      * @param isTesting if true, controls the testing environment with a predictable
@@ -69,43 +112,214 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
             alpha = 1;
             beta = 1;
             prime = 7;
+            multiplier = FIBONACCI_MULTIPLIER;
         } else {
             Random rand = new Random();
             alpha = rand.nextInt(DEFAULT_PRIME - 1) + 1;
             beta = rand.nextInt(DEFAULT_PRIME);
             prime = DEFAULT_PRIME;
+            multiplier = rand.nextInt() | 1;
         }
+        compression = Compression.MAD;
         createTable(capacity);
     }
 
     /**
-     * Returns the hash function for a given key using multiply-and-divide
-     * compression
+     * Initializes the abstract hash map state with the same hash function as
+     * another map, without creating a table. Used by subclasses to hold the old
+     * table during an incremental resize.
+     * 
+     * @param hashing the map whose hash function to use
+     */
+    protected AbstractHashMap(AbstractHashMap<K, V> hashing) {
+        alpha = hashing.alpha;
+        beta = hashing.beta;
+        prime = hashing.prime;
+        multiplier = hashing.multiplier;
+        compression = hashing.compression;
+    }
+
+    /**
+     * Sets the compression strategy used to find a key's bucket. Switching to
+     * {@link Compression#MULTIPLY_SHIFT} rounds the capacity up to a power of
+     * two. Any resize in progress is finished, and every entry is moved into a
+     * new table.
+     * 
+     * @param compression the compression strategy
+     * @throws IllegalArgumentException if the compression strategy is null
+     */
+    public void setCompression(Compression compression) {
+        if (compression == null) {
+            throw new IllegalArgumentException("Compression strategy must not be null.");
+        }
+        while (resizing != null) {
+            migrate();
+        }
+        if (compression != this.compression) {
+            this.compression = compression;
+            int newCapacity = capacity();
+            if (compression == Compression.MULTIPLY_SHIFT) {
+                newCapacity = 2;
+                while (newCapacity < capacity()) {
+                    newCapacity <<= 1;
+                }
+            }
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Returns the compression strategy used to find a key's bucket
+     * 
+     * @return the compression strategy
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets whether the hash table is resized incrementally, spreading the work
+     * of each resize over the operations that follow it, instead of all at once.
+     * Turning incremental resizing off finishes any resize in progress.
+     * 
+     * @param incremental true to resize incrementally
+     */
+    public void setIncrementalResize(boolean incremental) {
+        this.incremental = incremental;
+        if (!incremental) {
+            while (resizing != null) {
+                migrate();
+            }
+        }
+    }
+
+    /**
+     * Returns whether an incremental resize is in progress
+     * 
+     * @return true if entries remain in the old table
+     */
+    public boolean isResizing() {
+        return resizing != null;
+    }
+
+    /**
+     * Returns the hash function for a given key, compressed with the map's
+     * selected {@link Compression} strategy
      * 
      * @param key the key for which to calculate the hash function
      * @return the compressed hash function for the provided key
      */
-    private int compress(K key) {
-        return (int) ((Math.abs(key.hashCode() * alpha + beta) % prime) % capacity());
+    protected int compress(K key) {
+        return compressHash(key.hashCode());
+    }
+
+    /**
+     * Returns the hash function for a key with the given hash code, compressed
+     * with multiply-add-divide or multiply-shift as selected by
+     * {@link #setCompression}. Subclasses that keep the hash codes of
+     * their keys can use this to find an entry's bucket without the key.
+     * 
+     * @param hashCode the hash code of the key
+     * @return the compressed hash function for a key with the hash code
+     */
+    protected int compressHash(int hashCode) {
+        if (compression == Compression.MULTIPLY_SHIFT) {
+            // For a capacity of 2^k, keep the top k bits of the product
+            return (hashCode * multiplier) >>> (Integer.numberOfLeadingZeros(capacity()) + 1);
+        }
+        return (int) ((Math.abs(hashCode * alpha + beta) % prime) % capacity());
     }
 
     @Override
     public V put(K key, V value) {
+        V previous = null;
+        if (resizing != null) {
+            migrate();
+            // A key still in the old table moves to the new one
+            previous = resizing == null ? null : resizing.remove(key);
+        }
         V ret = bucketPut(compress(key), key, value);
-        if ((double) size() / capacity() > MAX_LOAD_FACTOR) {
-            resize(2 * capacity() + 1);
+        if ((double) size() / capacity() > maxLoadFactor()) {
+            int newCapacity = compression == Compression.MULTIPLY_SHIFT ? 2 * capacity() : 2 * capacity() + 1;
+            if (incremental) {
+                while (resizing != null) {
+                    migrate();
+                }
+                resizing = detachTable(newCapacity);
+                nextBucket = 0;
+            } else {
+                resize(newCapacity);
+            }
         }
-        return ret;
+        return ret != null ? ret : previous;
     }
 
     @Override
     public V get(K key) {
-        return bucketGet(compress(key), key);
+        if (resizing != null) {
+            migrate();
+        }
+        V ret = bucketGet(compress(key), key);
+        if (ret == null && resizing != null) {
+            ret = resizing.get(key);
+        }
+        return ret;
     }
 
     @Override
     public V remove(K key) {
-        return bucketRemove(compress(key), key);
+        if (resizing != null) {
+            migrate();
+        }
+        V ret = bucketRemove(compress(key), key);
+        if (ret == null && resizing != null) {
+            ret = resizing.remove(key);
+        }
+        return ret;
+    }
+
+    @Override
+    public int size() {
+        return tableSize() + (resizing == null ? 0 : resizing.tableSize());
+    }
+
+    @Override
+    public Iterable<Entry<K, V>> entrySet() {
+        if (resizing == null) {
+            return tableEntrySet();
+        }
+        EntryCollection collection = new EntryCollection();
+        for (Entry<K, V> entry : tableEntrySet()) {
+            collection.add(entry);
+        }
+        for (Entry<K, V> entry : resizing.tableEntrySet()) {
+            collection.add(entry);
+        }
+        return collection;
+    }
+
+    /**
+     * Moves the entries of the next few buckets of the old table into the new
+     * table, and discards the old table once it is empty
+     */
+    private void migrate() {
+        int end = Math.min(nextBucket + BUCKETS_PER_STEP, resizing.capacity());
+        while (nextBucket < end) {
+            boolean moved = false;
+            for (Entry<K, V> entry : resizing.bucketEntries(nextBucket)) {
+                K key = entry.getKey();
+                bucketPut(compress(key), key, resizing.remove(key));
+                moved = true;
+            }
+            // Removing an entry can shift a later entry back into this
+            // bucket, so the bucket is only done once it is found empty
+            if (!moved) {
+                nextBucket++;
+            }
+        }
+        if (nextBucket == resizing.capacity()) {
+            resizing = null;
+        }
     }
 
     /**
@@ -124,6 +338,52 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
         }
     }
 
+    /**
+     * Returns the largest load factor the hash table may reach before it is
+     * resized. Subclasses whose probe sequences stay short at higher loads may
+     * allow more.
+     * 
+     * @return the maximum load factor
+     */
+    protected double maxLoadFactor() {
+        return MAX_LOAD_FACTOR;
+    }
+
+    /**
+     * Returns the number of entries in the current hash table array
+     * 
+     * @return the number of entries in the table
+     */
+    protected abstract int tableSize();
+
+    /**
+     * Returns an Iterable collection of the entries in the current hash table
+     * array
+     * 
+     * @return the entries in the table
+     */
+    protected abstract Iterable<Entry<K, V>> tableEntrySet();
+
+    /**
+     * Returns a collection of the entries in one bucket of the hash table array.
+     * The collection must not change if entries are later removed from the map,
+     * though removing them may move other entries into the bucket.
+     * 
+     * @param index the index of the bucket
+     * @return the entries in the bucket
+     */
+    protected abstract Iterable<Entry<K, V>> bucketEntries(int index);
+
+    /**
+     * Moves the current hash table array into a new map of the same kind that
+     * uses the same hash function, and replaces it with a new, empty table of the
+     * given capacity
+     * 
+     * @param newCapacity the capacity of the new hash table array
+     * @return the map now holding the old table
+     */
+    protected abstract AbstractHashMap<K, V> detachTable(int newCapacity);
+
     /**
      * Returns the current capacity of the current hash table array
      * 
@@ -170,4 +430,22 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
      *         table
      */
     protected abstract V bucketRemove(int hash, K key);
+
+    /**
+     * The strategies for compressing a key's hash code into a bucket index
+     * 
+     * @author David Sweasey
+     */
+    public enum Compression {
+        /**
+         * Multiply-add-divide: ((alpha * hashCode + beta) % prime) % capacity,
+         * for any capacity
+         */
+        MAD,
+        /**
+         * Multiply-shift: the top k bits of multiplier * hashCode, for a capacity
+         * of 2^k
+         */
+        MULTIPLY_SHIFT
+    }
 }
\ No newline at end of file
@@ -0,0 +1,210 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * A skeletal implementation of a linear probing hash table whose keys are a
+ * primitive type, so that keys are stored in a primitive array and never boxed.
+ * Subclasses hold the key and value arrays; this class tracks which slots are
+ * in use, the size, and the shape of the table.
+ *
+ * The table's capacity is always a power of two, so a key's home bucket is the
+ * low bits of a mixed hash of the key, found with a mask instead of a modulo.
+ * Whether a slot is in use is recorded separately from the key stored there,
+ * so every key value, including 0, can be stored. Removal shifts the later
+ * entries of a cluster back into the emptied slot instead of leaving a deleted
+ * marker. The table doubles when the load factor exceeds 0.5.
+ *
+ * @author David Sweasey
+ */
+public abstract class AbstractPrimitiveHashMap {
+
+    /** The default initial capacity of the hash table arrays */
+    protected static final int DEFAULT_CAPACITY = 16;
+
+    /** The maximum load factor to allow before resizing the hash table */
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    /** The odd 32-bit constant nearest 2^32 divided by the golden ratio */
+    private static final int GOLDEN_INT = 0x9E3779B9;
+
+    /** The odd 64-bit constant nearest 2^64 divided by the golden ratio */
+    private static final long GOLDEN_LONG = 0x9E3779B97F4A7C15L;
+
+    /** Whether each slot holds an entry */
+    private boolean[] used;
+
+    /** The capacity minus one, which masks a mixed hash to a bucket */
+    private int mask;
+
+    /** The number of entries in the map */
+    private int size;
+
+    /**
+     * Initializes the map with a table of at least the given capacity, rounded up
+     * to a power of two
+     *
+     * @param capacity the initial capacity of the hash table
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public AbstractPrimitiveHashMap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+        int tableCapacity = 2;
+        while (tableCapacity < capacity) {
+            tableCapacity <<= 1;
+        }
+        used = new boolean[tableCapacity];
+        mask = tableCapacity - 1;
+        createTable(tableCapacity);
+    }
+
+    /**
+     * Returns the number of entries in the map
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the map has no entries
+     *
+     * @return true if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the capacity of the hash table
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return used.length;
+    }
+
+    /**
+     * Returns the home bucket of an int key
+     *
+     * @param key the key
+     * @return the index of the key's home bucket
+     */
+    protected int bucket(int key) {
+        int h = key * GOLDEN_INT;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the home bucket of a long key
+     *
+     * @param key the key
+     * @return the index of the key's home bucket
+     */
+    protected int bucket(long key) {
+        long h = key * GOLDEN_LONG;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Returns the slot after the given one, wrapping around to the start
+     *
+     * @param index the index of a slot
+     * @return the index of the next slot
+     */
+    protected int next(int index) {
+        return (index + 1) & mask;
+    }
+
+    /**
+     * Returns whether a slot holds an entry
+     *
+     * @param index the index of the slot
+     * @return true if the slot is in use
+     */
+    protected boolean isUsed(int index) {
+        return used[index];
+    }
+
+    /**
+     * Records that a new entry was stored in an empty slot, and doubles the table
+     * if the load factor is exceeded
+     *
+     * @param index the index of the slot
+     */
+    protected void occupy(int index) {
+        used[index] = true;
+        size++;
+        if (size > MAX_LOAD_FACTOR * used.length) {
+            int oldCapacity = used.length;
+            boolean[] oldUsed = used;
+            used = new boolean[2 * oldCapacity];
+            mask = used.length - 1;
+            size = 0;
+            rehash(oldUsed, used.length);
+        }
+    }
+
+    /**
+     * Empties a slot, moving each later entry of its cluster whose search would
+     * pass the emptied slot back into it
+     *
+     * @param index the index of the slot to empty
+     */
+    protected void vacate(int index) {
+        int empty = index;
+        int j = next(index);
+        while (used[j]) {
+            int home = homeOf(j);
+            if (((j - home) & mask) >= ((j - empty) & mask)) {
+                move(j, empty);
+                empty = j;
+            }
+            j = next(j);
+        }
+        used[empty] = false;
+        clear(empty);
+        size--;
+    }
+
+    /**
+     * Creates the key and value arrays of a new hash table
+     *
+     * @param capacity the capacity of the table
+     */
+    protected abstract void createTable(int capacity);
+
+    /**
+     * Replaces the key and value arrays with new arrays of the given capacity and
+     * puts every entry of the old arrays into them. The used slots of the old
+     * arrays are given; the new table is already marked empty.
+     *
+     * @param oldUsed     whether each slot of the old arrays holds an entry
+     * @param newCapacity the capacity of the new table
+     */
+    protected abstract void rehash(boolean[] oldUsed, int newCapacity);
+
+    /**
+     * Returns the home bucket of the key in a used slot
+     *
+     * @param index the index of the slot
+     * @return the home bucket of the slot's key
+     */
+    protected abstract int homeOf(int index);
+
+    /**
+     * Copies the key and value in one slot into another
+     *
+     * @param from the index of the slot to copy from
+     * @param to   the index of the slot to copy into
+     */
+    protected abstract void move(int from, int to);
+
+    /**
+     * Releases anything the value array holds for a slot that is now empty
+     *
+     * @param index the index of the slot
+     */
+    protected abstract void clear(int index);
+}
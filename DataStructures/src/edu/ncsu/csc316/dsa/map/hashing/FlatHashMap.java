@@ -0,0 +1,285 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * The FlatHashMap is implemented as a hash table that uses linear probing for
+ * collision resolution, like {@link LinearProbingHashMap}, but stores the
+ * table in parallel arrays instead of as an array of entry objects.
+ *
+ * Slot i holds a key in keys[i], its value in values[i], and the key's hash
+ * code in hashes[i]. A probe reads neighboring elements of the arrays instead
+ * of following a reference to an entry for every slot, compares cached hash
+ * codes before calling equals, and a put allocates nothing. Removal shifts the
+ * later entries of a cluster back into the emptied slot instead of leaving a
+ * deleted marker, so removals never lengthen later searches. Entries are only
+ * created when iterating over {@link #entrySet()}; they are copies, and
+ * setting the value of one does not change the map.
+ *
+ * Hash codes are compressed with the strategy selected by
+ * {@link AbstractHashMap#setCompression}: multiply-add-divide by default, or
+ * multiply-shift. The hash map ensures expected O(1) performance of
+ * {@link Map#put}, {@link Map#get}, and {@link Map#remove}. The hash table
+ * resizes if the load factor exceeds 0.5, either all at once or incrementally
+ * (see {@link AbstractHashMap}).
+ *
+ * @author David Sweasey
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class FlatHashMap<K, V> extends AbstractHashMap<K, V> {
+
+    /** The key in each slot, or null if the slot is empty */
+    private Object[] keys;
+
+    /** The value in each slot */
+    private Object[] values;
+
+    /** The hash code of the key in each slot */
+    private int[] hashes;
+
+    /** The size of the hash map */
+    private int size;
+
+    /**
+     * Constructs a new flat hash map. The created hash table uses the
+     * {@link AbstractHashMap#DEFAULT_CAPACITY}
+     */
+    public FlatHashMap() {
+        this(AbstractHashMap.DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * FOR TESTING PURPOSES ONLY! Constructs a new flat hash map. The created hash
+     * table uses the {@link AbstractHashMap#DEFAULT_CAPACITY}
+     *
+     * @param isTesting if true, the hash table uses a predictable series of random
+     *                  values for deterministic and repeatable testing
+     */
+    public FlatHashMap(boolean isTesting) {
+        this(AbstractHashMap.DEFAULT_CAPACITY, isTesting);
+    }
+
+    /**
+     * Constructs a new flat hash map. The created hash table is initialized to
+     * have the provided capacity.
+     *
+     * @param capacity the initial capacity of the hash table
+     */
+    public FlatHashMap(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * FOR TESTING PURPOSES ONLY! Constructs a new flat hash map. The created hash
+     * table is initialized to have the provided capacity.
+     *
+     * @param capacity  the initial capacity of the hash table
+     * @param isTesting if true, the hash table uses a predictable series of random
+     *                  values for deterministic and repeatable testing
+     */
+    public FlatHashMap(int capacity, boolean isTesting) {
+        super(capacity, isTesting);
+    }
+
+    /**
+     * Constructs a flat hash map with no table that uses the same hash function
+     * as another map
+     *
+     * @param hashing the map whose hash function to use
+     */
+    private FlatHashMap(FlatHashMap<K, V> hashing) {
+        super(hashing);
+    }
+
+    @Override
+    protected void createTable(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected V bucketGet(int hash, K key) {
+        int index = findBucket(hash, key);
+        if (index < 0) {
+            return null;
+        }
+        return (V) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected V bucketPut(int hash, K key, V value) {
+        int index = findBucket(hash, key);
+        if (index >= 0) {
+            V original = (V) values[index];
+            values[index] = value;
+            return original;
+        }
+        index = -(index + 1);
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = key.hashCode();
+        size++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected V bucketRemove(int hash, K key) {
+        int index = findBucket(hash, key);
+        if (index < 0) {
+            return null;
+        }
+        V original = (V) values[index];
+        // Move each later entry of the cluster whose search would pass the
+        // emptied slot into it, until reaching an empty slot
+        int empty = index;
+        int j = (index + 1) % keys.length;
+        while (keys[j] != null) {
+            int home = compressHash(hashes[j]);
+            if ((j - home + keys.length) % keys.length >= (j - empty + keys.length) % keys.length) {
+                keys[empty] = keys[j];
+                values[empty] = values[j];
+                hashes[empty] = hashes[j];
+                empty = j;
+            }
+            j = (j + 1) % keys.length;
+        }
+        keys[empty] = null;
+        values[empty] = null;
+        size--;
+        return original;
+    }
+
+    /**
+     * Searches for the slot holding a key, stopping at the first empty slot
+     *
+     * @param hash the home bucket of the key
+     * @param key  the key to find
+     * @return the index of the slot holding the key, or -(i + 1) if the key is
+     *         not in the table, where i is the empty slot at which the search
+     *         stopped
+     */
+    private int findBucket(int hash, K key) {
+        int code = key.hashCode();
+        int j = hash;
+        while (keys[j] != null) {
+            if (hashes[j] == code && keys[j].equals(key)) {
+                return j;
+            }
+            j = (j + 1) % keys.length;
+        }
+        return -(j + 1);
+    }
+
+    /**
+     * Returns a histogram of the number of slots a successful lookup inspects:
+     * element i is the number of entries found on inspecting i + 1 slots
+     *
+     * @return the histogram of probe lengths for keys in the table
+     */
+    public int[] getProbeHistogram() {
+        int[] lengths = new int[keys.length];
+        int longest = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                lengths[i] = (i - compressHash(hashes[i]) + keys.length) % keys.length;
+                longest = Math.max(longest, lengths[i]);
+            }
+        }
+        int[] histogram = new int[longest + 1];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                histogram[lengths[i]]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns a histogram of the number of slots an unsuccessful lookup inspects,
+     * over every possible home bucket: element i is the number of home buckets
+     * from which a lookup of a missing key inspects i + 1 slots
+     *
+     * @return the histogram of probe lengths for keys not in the table
+     */
+    public int[] getMissProbeHistogram() {
+        // A lookup from home bucket h passes every slot up to the next empty
+        // one, and the load factor keeps at least one slot empty
+        int empty = 0;
+        while (keys[empty] != null) {
+            empty++;
+        }
+        int[] lengths = new int[keys.length];
+        int longest = 0;
+        int run = 0;
+        for (int k = 1; k <= keys.length; k++) {
+            int i = (empty - k + keys.length) % keys.length;
+            run = keys[i] == null ? 0 : run + 1;
+            lengths[i] = run;
+            longest = Math.max(longest, run);
+        }
+        int[] histogram = new int[longest + 1];
+        for (int length : lengths) {
+            histogram[length]++;
+        }
+        return histogram;
+    }
+
+    @Override
+    protected Iterable<Entry<K, V>> tableEntrySet() {
+        EntryCollection collection = new EntryCollection();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                collection.add(entry(i));
+            }
+        }
+        return collection;
+    }
+
+    @Override
+    protected int tableSize() {
+        return size;
+    }
+
+    @Override
+    protected Iterable<Entry<K, V>> bucketEntries(int index) {
+        EntryCollection collection = new EntryCollection();
+        if (keys[index] != null) {
+            collection.add(entry(index));
+        }
+        return collection;
+    }
+
+    /**
+     * Creates an entry holding the key and value in a slot
+     *
+     * @param index the index of the slot
+     * @return a new entry with the slot's key and value
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<K, V> entry(int index) {
+        return new MapEntry<K, V>((K) keys[index], (V) values[index]);
+    }
+
+    @Override
+    protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+        FlatHashMap<K, V> old = new FlatHashMap<K, V>(this);
+        old.keys = keys;
+        old.values = values;
+        old.hashes = hashes;
+        old.size = size;
+        createTable(newCapacity);
+        return old;
+    }
+
+    @Override
+    protected int capacity() {
+        return keys.length;
+    }
+}
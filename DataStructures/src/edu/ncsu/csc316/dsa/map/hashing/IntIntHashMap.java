@@ -0,0 +1,195 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * The IntIntHashMap maps int keys to int values without boxing either. Keys
+ * and values are stored in parallel int arrays in a linear probing hash table
+ * (see {@link AbstractPrimitiveHashMap}). Any int, including 0, may be a key.
+ *
+ * Since a missing key has no value to return, {@link #get}, {@link #put}, and
+ * {@link #remove} return the map's missing value, chosen when the map is
+ * constructed, when the key is not in the map. Use {@link #containsKey} when
+ * the missing value could also be a value in the map.
+ *
+ * The hash map ensures expected O(1) performance of {@link #put}, {@link #get},
+ * and {@link #remove}.
+ *
+ * @author David Sweasey
+ */
+public class IntIntHashMap extends AbstractPrimitiveHashMap {
+
+    /** The key in each used slot */
+    private int[] keys;
+
+    /** The value in each used slot */
+    private int[] values;
+
+    /** The value returned for a key that is not in the map */
+    private int missingValue;
+
+    /**
+     * Constructs a new, empty map whose missing value is 0
+     */
+    public IntIntHashMap() {
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    /**
+     * Constructs a new, empty map whose hash table has at least the given capacity
+     *
+     * @param capacity     the initial capacity of the hash table
+     * @param missingValue the value returned for a key that is not in the map
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IntIntHashMap(int capacity, int missingValue) {
+        super(capacity);
+        this.missingValue = missingValue;
+    }
+
+    /**
+     * Returns the value returned for a key that is not in the map
+     *
+     * @return the missing value
+     */
+    public int getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Returns the value associated with a key
+     *
+     * @param key the key
+     * @return the value associated with the key, or the missing value if the key
+     *         is not in the map
+     */
+    public int get(int key) {
+        int index = find(key);
+        return index < 0 ? missingValue : values[index];
+    }
+
+    /**
+     * Returns whether the map holds a key
+     *
+     * @param key the key
+     * @return true if the key is in the map
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Associates a value with a key, replacing any value already associated with
+     * the key
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value previously associated with the key, or the missing value
+     *         if the key was not in the map
+     */
+    public int put(int key, int value) {
+        int index = find(key);
+        if (index >= 0) {
+            int original = values[index];
+            values[index] = value;
+            return original;
+        }
+        index = -(index + 1);
+        keys[index] = key;
+        values[index] = value;
+        occupy(index);
+        return missingValue;
+    }
+
+    /**
+     * Adds an amount to the value associated with a key, treating a key that is
+     * not in the map as associated with 0
+     *
+     * @param key    the key
+     * @param amount the amount to add
+     * @return the new value associated with the key
+     */
+    public int increment(int key, int amount) {
+        int index = find(key);
+        if (index >= 0) {
+            values[index] += amount;
+            return values[index];
+        }
+        index = -(index + 1);
+        keys[index] = key;
+        values[index] = amount;
+        occupy(index);
+        return amount;
+    }
+
+    /**
+     * Removes a key and its value from the map
+     *
+     * @param key the key
+     * @return the value that was associated with the key, or the missing value if
+     *         the key was not in the map
+     */
+    public int remove(int key) {
+        int index = find(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        int original = values[index];
+        vacate(index);
+        return original;
+    }
+
+    /**
+     * Searches for the slot holding a key, stopping at the first empty slot
+     *
+     * @param key the key to find
+     * @return the index of the slot holding the key, or -(i + 1) if the key is
+     *         not in the table, where i is the empty slot at which the search
+     *         stopped
+     */
+    private int find(int key) {
+        int j = bucket(key);
+        while (isUsed(j)) {
+            if (keys[j] == key) {
+                return j;
+            }
+            j = next(j);
+        }
+        return -(j + 1);
+    }
+
+    @Override
+    protected void createTable(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+    }
+
+    @Override
+    protected void rehash(boolean[] oldUsed, int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        createTable(newCapacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int index = -(find(oldKeys[i]) + 1);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                occupy(index);
+            }
+        }
+    }
+
+    @Override
+    protected int homeOf(int index) {
+        return bucket(keys[index]);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clear(int index) {
+        // Nothing to release
+    }
+}
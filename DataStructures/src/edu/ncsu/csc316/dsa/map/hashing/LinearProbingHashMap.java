@@ -1,16 +1,20 @@
 package edu.ncsu.csc316.dsa.map.hashing;
 
+import java.util.Arrays;
+
 import edu.ncsu.csc316.dsa.map.Map;
 
 /**
  * The LinearProbingHashMap is implemented as a hash table that uses linear
  * probing for collision resolution.
  * 
- * The hash map uses a multiply-and-divide compression strategy for calculating
- * hash functions. The hash map ensures expected O(1) performance of
- * {@link Map#put}, {@link Map#get}, and {@link Map#remove}.
+ * The hash map compresses hash codes with the multiply-add-divide method by
+ * default, or with the multiply-shift method once selected with
+ * {@link AbstractHashMap#setCompression}. The hash map ensures expected O(1)
+ * performance of {@link Map#put}, {@link Map#get}, and {@link Map#remove}.
  * 
- * The hash table resizes if the load factor exceeds 0.5.
+ * The hash table resizes if the load factor exceeds 0.5, either all at once or
+ * incrementally (see {@link AbstractHashMap}).
  * 
  * The LinearProbingHashMap class is based on the implementation developed for
  * use with the textbook:
@@ -77,8 +81,18 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
         size = 0;
     }
 
+    /**
+     * Constructs a linear probing hash map with no table that uses the same hash
+     * function as another map
+     * 
+     * @param hashing the map whose hash function to use
+     */
+    private LinearProbingHashMap(LinearProbingHashMap<K, V> hashing) {
+        super(hashing);
+    }
+
     @Override
-    public Iterable<Entry<K, V>> entrySet() {
+    protected Iterable<Entry<K, V>> tableEntrySet() {
     	EntryCollection collection = new EntryCollection();
         for (int i = 0; i < table.length; i++) {
             if (!isAvailable(i)) {
@@ -152,11 +166,91 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
         return toRtn;
     }
 
+    /**
+     * Returns a histogram of the number of slots a successful lookup inspects:
+     * element i is the number of entries found on inspecting i + 1 slots
+     *
+     * @return the histogram of probe lengths for keys in the table
+     */
+    public int[] getProbeHistogram() {
+        int[] lengths = new int[table.length];
+        int longest = 0;
+        for (int i = 0; i < table.length; i++) {
+            if (!isAvailable(i)) {
+                lengths[i] = (i - compress(table[i].getKey()) + table.length) % table.length;
+                longest = Math.max(longest, lengths[i]);
+            }
+        }
+        int[] histogram = new int[longest + 1];
+        for (int i = 0; i < table.length; i++) {
+            if (!isAvailable(i)) {
+                histogram[lengths[i]]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns a histogram of the number of slots an unsuccessful lookup inspects,
+     * over every possible home bucket: element i is the number of home buckets
+     * from which a lookup of a missing key inspects i + 1 slots. Deleted slots
+     * do not end a lookup, so they lengthen these probes until the next resize.
+     *
+     * @return the histogram of probe lengths for keys not in the table
+     */
+    public int[] getMissProbeHistogram() {
+        // A lookup from home bucket h passes every slot up to the next empty one
+        int[] lengths = new int[table.length];
+        int empty = -1;
+        for (int i = 0; i < table.length && empty < 0; i++) {
+            if (table[i] == null) {
+                empty = i;
+            }
+        }
+        int longest = 0;
+        if (empty < 0) {
+            // With no empty slot a lookup wraps all the way around
+            Arrays.fill(lengths, table.length - 1);
+            longest = table.length - 1;
+        } else {
+            int run = 0;
+            for (int k = 1; k <= table.length; k++) {
+                int i = (empty - k + table.length) % table.length;
+                run = table[i] == null ? 0 : run + 1;
+                lengths[i] = run;
+                longest = Math.max(longest, run);
+            }
+        }
+        int[] histogram = new int[longest + 1];
+        for (int length : lengths) {
+            histogram[length]++;
+        }
+        return histogram;
+    }
+
     @Override
-    public int size() {
+    protected int tableSize() {
         return size;
     }
 
+    @Override
+    protected Iterable<Entry<K, V>> bucketEntries(int index) {
+        EntryCollection collection = new EntryCollection();
+        if (!isAvailable(index)) {
+            collection.add(table[index]);
+        }
+        return collection;
+    }
+
+    @Override
+    protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+        LinearProbingHashMap<K, V> old = new LinearProbingHashMap<K, V>(this);
+        old.table = table;
+        old.size = size;
+        createTable(newCapacity);
+        return old;
+    }
+
     @Override
     protected int capacity() {
         return table.length;
@@ -0,0 +1,166 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * The LongObjectHashMap maps long keys to values without boxing the keys. Keys
+ * are stored in a long array and values in a parallel Object array, in a
+ * linear probing hash table (see {@link AbstractPrimitiveHashMap}). Any long,
+ * including 0, may be a key; values may not be null, since null is returned
+ * for a key that is not in the map.
+ *
+ * The hash map ensures expected O(1) performance of {@link #put}, {@link #get},
+ * and {@link #remove}.
+ *
+ * @author David Sweasey
+ *
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class LongObjectHashMap<V> extends AbstractPrimitiveHashMap {
+
+    /** The key in each used slot */
+    private long[] keys;
+
+    /** The value in each used slot, or null */
+    private Object[] values;
+
+    /**
+     * Constructs a new, empty map
+     */
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty map whose hash table has at least the given capacity
+     *
+     * @param capacity the initial capacity of the hash table
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public LongObjectHashMap(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Returns the value associated with a key
+     *
+     * @param key the key
+     * @return the value associated with the key, or null if the key is not in the
+     *         map
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = find(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Returns whether the map holds a key
+     *
+     * @param key the key
+     * @return true if the key is in the map
+     */
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Associates a value with a key, replacing any value already associated with
+     * the key
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the value previously associated with the key, or null if the key was
+     *         not in the map
+     * @throws IllegalArgumentException if the value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Values must not be null.");
+        }
+        int index = find(key);
+        if (index >= 0) {
+            V original = (V) values[index];
+            values[index] = value;
+            return original;
+        }
+        index = -(index + 1);
+        keys[index] = key;
+        values[index] = value;
+        occupy(index);
+        return null;
+    }
+
+    /**
+     * Removes a key and its value from the map
+     *
+     * @param key the key
+     * @return the value that was associated with the key, or null if the key was
+     *         not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = find(key);
+        if (index < 0) {
+            return null;
+        }
+        V original = (V) values[index];
+        vacate(index);
+        return original;
+    }
+
+    /**
+     * Searches for the slot holding a key, stopping at the first empty slot
+     *
+     * @param key the key to find
+     * @return the index of the slot holding the key, or -(i + 1) if the key is
+     *         not in the table, where i is the empty slot at which the search
+     *         stopped
+     */
+    private int find(long key) {
+        int j = bucket(key);
+        while (isUsed(j)) {
+            if (keys[j] == key) {
+                return j;
+            }
+            j = next(j);
+        }
+        return -(j + 1);
+    }
+
+    @Override
+    protected void createTable(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    @Override
+    protected void rehash(boolean[] oldUsed, int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        createTable(newCapacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int index = -(find(oldKeys[i]) + 1);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                occupy(index);
+            }
+        }
+    }
+
+    @Override
+    protected int homeOf(int index) {
+        return bucket(keys[index]);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clear(int index) {
+        values[index] = null;
+    }
+}
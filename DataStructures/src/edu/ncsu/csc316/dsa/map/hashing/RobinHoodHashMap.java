@@ -0,0 +1,285 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * The RobinHoodHashMap is implemented as a hash table that uses linear probing
+ * with Robin Hood insertion for collision resolution.
+ *
+ * Each slot records its entry's probe distance: how many slots past its home
+ * bucket the entry sits. An entry being inserted takes the slot of any entry
+ * closer to its own home than the new entry is, and that entry moves on in its
+ * place, so probe distances stay short and even. Because entries along a probe
+ * sequence never have smaller distances than the search has travelled, a
+ * lookup for a missing key stops as soon as it meets an entry closer to home
+ * than the key would be. Removal shifts the following entries of the cluster
+ * back one slot instead of leaving a deleted marker, so removals never lengthen
+ * later searches.
+ *
+ * Hash codes are compressed with multiply-add-divide unless multiply-shift is
+ * selected with {@link AbstractHashMap#setCompression}; probe distances are
+ * measured from whichever home bucket the selected strategy gives. The hash
+ * map ensures expected O(1) performance of {@link Map#put}, {@link Map#get},
+ * and {@link Map#remove}. Probe sequences stay short at higher loads than
+ * plain linear probing, so the hash table resizes only if the load factor
+ * exceeds 0.9.
+ *
+ * @author David Sweasey
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class RobinHoodHashMap<K, V> extends AbstractHashMap<K, V> {
+
+    /** The maximum load factor to allow before resizing the hash table */
+    private static final double MAX_LOAD_FACTOR = 0.9;
+
+    /** The entry in each slot, or null if the slot is empty */
+    private MapEntry<K, V>[] table;
+
+    /** The probe distance of the entry in each slot */
+    private int[] distances;
+
+    /** The size of the hash map */
+    private int size;
+
+    /**
+     * Constructs a new Robin Hood hash map. The created hash table uses the
+     * {@link AbstractHashMap#DEFAULT_CAPACITY}
+     */
+    public RobinHoodHashMap() {
+        this(AbstractHashMap.DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * FOR TESTING PURPOSES ONLY! Constructs a new Robin Hood hash map. The created
+     * hash table uses the {@link AbstractHashMap#DEFAULT_CAPACITY}
+     *
+     * @param isTesting if true, the hash table uses a predictable series of random
+     *                  values for deterministic and repeatable testing
+     */
+    public RobinHoodHashMap(boolean isTesting) {
+        this(AbstractHashMap.DEFAULT_CAPACITY, isTesting);
+    }
+
+    /**
+     * Constructs a new Robin Hood hash map. The created hash table is initialized
+     * to have the provided capacity.
+     *
+     * @param capacity the initial capacity of the hash table
+     */
+    public RobinHoodHashMap(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * FOR TESTING PURPOSES ONLY! Constructs a new Robin Hood hash map. The created
+     * hash table is initialized to have the provided capacity.
+     *
+     * @param capacity  the initial capacity of the hash table
+     * @param isTesting if true, the hash table uses a predictable series of random
+     *                  values for deterministic and repeatable testing
+     */
+    public RobinHoodHashMap(int capacity, boolean isTesting) {
+        super(capacity, isTesting);
+    }
+
+    /**
+     * Constructs a Robin Hood hash map with no table that uses the same hash
+     * function as another map
+     *
+     * @param hashing the map whose hash function to use
+     */
+    private RobinHoodHashMap(RobinHoodHashMap<K, V> hashing) {
+        super(hashing);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    protected void createTable(int capacity) {
+        table = (MapEntry<K, V>[]) new MapEntry[capacity];
+        distances = new int[capacity];
+        size = 0;
+    }
+
+    @Override
+    protected V bucketGet(int hash, K key) {
+        int index = findBucket(hash, key);
+        if (index < 0) {
+            return null;
+        }
+        return table[index].getValue();
+    }
+
+    @Override
+    protected V bucketPut(int hash, K key, V value) {
+        int index = findBucket(hash, key);
+        if (index >= 0) {
+            V original = table[index].getValue();
+            table[index].setValue(value);
+            return original;
+        }
+        // The search stopped at the slot the new entry belongs in
+        int j = -(index + 1);
+        MapEntry<K, V> entry = new MapEntry<K, V>(key, value);
+        int distance = (j - hash + table.length) % table.length;
+        while (table[j] != null) {
+            if (distances[j] < distance) {
+                // Take the slot from the entry closer to its home, and carry
+                // that entry on instead
+                MapEntry<K, V> displaced = table[j];
+                int displacedDistance = distances[j];
+                table[j] = entry;
+                distances[j] = distance;
+                entry = displaced;
+                distance = displacedDistance;
+            }
+            j = (j + 1) % table.length;
+            distance++;
+        }
+        table[j] = entry;
+        distances[j] = distance;
+        size++;
+        return null;
+    }
+
+    @Override
+    protected V bucketRemove(int hash, K key) {
+        int index = findBucket(hash, key);
+        if (index < 0) {
+            return null;
+        }
+        V original = table[index].getValue();
+        // Shift the rest of the cluster back one slot, stopping at an empty slot
+        // or at an entry already in its home bucket
+        int j = index;
+        int next = (j + 1) % table.length;
+        while (table[next] != null && distances[next] > 0) {
+            table[j] = table[next];
+            distances[j] = distances[next] - 1;
+            j = next;
+            next = (j + 1) % table.length;
+        }
+        table[j] = null;
+        distances[j] = 0;
+        size--;
+        return original;
+    }
+
+    /**
+     * Searches for the slot holding a key. The search stops at an empty slot, or
+     * at an entry closer to its home bucket than the key would be at that slot,
+     * since Robin Hood insertion would have placed the key there.
+     *
+     * @param hash the home bucket of the key
+     * @param key  the key to find
+     * @return the index of the slot holding the key, or -(i + 1) if the key is
+     *         not in the table, where i is the slot at which the search stopped
+     */
+    private int findBucket(int hash, K key) {
+        int j = hash;
+        int distance = 0;
+        while (table[j] != null && distances[j] >= distance) {
+            if (distances[j] == distance && table[j].getKey().equals(key)) {
+                return j;
+            }
+            j = (j + 1) % table.length;
+            distance++;
+        }
+        return -(j + 1);
+    }
+
+    /**
+     * Returns a histogram of the number of slots a successful lookup inspects:
+     * element i is the number of entries found on inspecting i + 1 slots
+     *
+     * @return the histogram of probe lengths for keys in the table
+     */
+    public int[] getProbeHistogram() {
+        int longest = 0;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != null) {
+                longest = Math.max(longest, distances[i]);
+            }
+        }
+        int[] histogram = new int[longest + 1];
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != null) {
+                histogram[distances[i]]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns a histogram of the number of slots an unsuccessful lookup inspects,
+     * over every possible home bucket: element i is the number of home buckets
+     * from which a lookup of a missing key inspects i + 1 slots
+     *
+     * @return the histogram of probe lengths for keys not in the table
+     */
+    public int[] getMissProbeHistogram() {
+        int[] lengths = new int[table.length];
+        int longest = 0;
+        for (int home = 0; home < table.length; home++) {
+            int j = home;
+            int distance = 0;
+            while (table[j] != null && distances[j] >= distance) {
+                j = (j + 1) % table.length;
+                distance++;
+            }
+            lengths[home] = distance;
+            longest = Math.max(longest, distance);
+        }
+        int[] histogram = new int[longest + 1];
+        for (int length : lengths) {
+            histogram[length]++;
+        }
+        return histogram;
+    }
+
+    @Override
+    protected double maxLoadFactor() {
+        return MAX_LOAD_FACTOR;
+    }
+
+    @Override
+    protected Iterable<Entry<K, V>> tableEntrySet() {
+        EntryCollection collection = new EntryCollection();
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != null) {
+                collection.add(table[i]);
+            }
+        }
+        return collection;
+    }
+
+    @Override
+    protected int tableSize() {
+        return size;
+    }
+
+    @Override
+    protected Iterable<Entry<K, V>> bucketEntries(int index) {
+        EntryCollection collection = new EntryCollection();
+        if (table[index] != null) {
+            collection.add(table[index]);
+        }
+        return collection;
+    }
+
+    @Override
+    protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+        RobinHoodHashMap<K, V> old = new RobinHoodHashMap<K, V>(this);
+        old.table = table;
+        old.distances = distances;
+        old.size = size;
+        createTable(newCapacity);
+        return old;
+    }
+
+    @Override
+    protected int capacity() {
+        return table.length;
+    }
+}
@@ -7,9 +7,10 @@ import edu.ncsu.csc316.dsa.map.search_tree.AVLTreeMap;
  * The SeparateChainingHashMap is implemented as a hash table that uses separate
  * chaining for collision resolution.
  * 
- * The hash map uses a multiply-and-divide compression strategy for calculating
- * hash functions. The hash map ensures expected O(1) performance of
- * {@see Map#put}, {@see Map#get}, and {@see Map#remove}.
+ * The hash map compresses hash codes with the multiply-add-divide method by
+ * default, or with the multiply-shift method once selected with
+ * {@link AbstractHashMap#setCompression}. The hash map ensures expected O(1)
+ * performance of {@see Map#put}, {@see Map#get}, and {@see Map#remove}.
  * 
  * The secondary map that appears within each bucket (with separate chaining)
  * supports worst-case O(logn) runtime for {@see Map#put}, {@see Map#get}, and
@@ -80,8 +81,18 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
         size = 0;
     }
 
+    /**
+     * Constructs a separate chaining hash map with no table that uses the same
+     * hash function as another map
+     * 
+     * @param hashing the map whose hash function to use
+     */
+    private SeparateChainingHashMap(SeparateChainingHashMap<K, V> hashing) {
+        super(hashing);
+    }
+
     @Override
-    public Iterable<Entry<K, V>> entrySet() {
+    protected Iterable<Entry<K, V>> tableEntrySet() {
         EntryCollection collection = new EntryCollection();
         for (int i = 0; i < table.length; i++) {
             if (table[i] != null) {
@@ -148,10 +159,29 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
     }
 
     @Override
-    public int size() {
+    protected int tableSize() {
         return size;
     }
 
+    @Override
+    protected Iterable<Entry<K, V>> bucketEntries(int index) {
+        if (table[index] == null) {
+            return new EntryCollection();
+        }
+        // The bucket's entry set is a copy, so it does not change as the
+        // entries are removed
+        return table[index].entrySet();
+    }
+
+    @Override
+    protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+        SeparateChainingHashMap<K, V> old = new SeparateChainingHashMap<K, V>(this);
+        old.table = table;
+        old.size = size;
+        createTable(newCapacity);
+        return old;
+    }
+
     @Override
     protected int capacity() {
         return table.length;
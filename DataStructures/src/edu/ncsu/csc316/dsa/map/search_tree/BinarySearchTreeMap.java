@@ -212,6 +212,52 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
         return collection;
     }
 
+    /**
+     * Returns the entries whose keys are at least fromKey and less than toKey, in
+     * key order. Only the subtrees that can hold keys in the range are visited, so
+     * in a balanced tree the range is found in O(log n + m) time for m matching
+     * entries.
+     *
+     * @param fromKey the smallest key to include, or null for no lower bound
+     * @param toKey   the key after the largest key to include, or null for no
+     *                upper bound
+     * @return the entries in the range, in key order
+     */
+    public Iterable<Entry<K, V>> subMap(K fromKey, K toKey) {
+        EntryCollection collection = new EntryCollection();
+        subMap(root(), fromKey, toKey, collection);
+        return collection;
+    }
+
+    /**
+     * Adds the entries of the subtree rooted at p whose keys are in a range to a
+     * collection, in key order
+     *
+     * @param p          the root of the subtree
+     * @param fromKey    the smallest key to include, or null for no lower bound
+     * @param toKey      the key after the largest key to include, or null for no
+     *                   upper bound
+     * @param collection the collection to add entries to
+     */
+    private void subMap(Position<Entry<K, V>> p, K fromKey, K toKey, EntryCollection collection) {
+        if (isLeaf(p)) {
+            return;
+        }
+        K key = p.getElement().getKey();
+        boolean afterFrom = fromKey == null || compare(key, fromKey) >= 0;
+        boolean beforeTo = toKey == null || compare(key, toKey) < 0;
+        // Smaller keys are only to the left, and larger keys only to the right
+        if (afterFrom) {
+            subMap(left(p), fromKey, toKey, collection);
+        }
+        if (afterFrom && beforeTo) {
+            collection.add(p.getElement());
+        }
+        if (beforeTo) {
+            subMap(right(p), fromKey, toKey, collection);
+        }
+    }
+
     @Override
     public String toString() {
         return tree.toString();
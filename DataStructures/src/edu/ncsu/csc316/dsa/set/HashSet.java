@@ -3,7 +3,8 @@ package edu.ncsu.csc316.dsa.set;
 import java.util.Iterator;
 
 import edu.ncsu.csc316.dsa.map.Map;
-import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.map.hashing.AbstractHashMap.Compression;
+import edu.ncsu.csc316.dsa.map.hashing.FlatHashMap;
 
 /**
  * The HashSet is implemented as a linear probing hash table data structure to
@@ -53,7 +54,12 @@ public class HashSet<E> extends AbstractSet<E> {
         // If isTesting is true, this constructor will use our "development version" of
         // our hash map
         // meaning alpha=1, beta=1, and prime=7
-        map = new LinearProbingHashMap<E, E>(isTesting);
+        FlatHashMap<E, E> hashMap = new FlatHashMap<E, E>(isTesting);
+        if (!isTesting) {
+            // The production version skips the divisions of MAD compression
+            hashMap.setCompression(Compression.MULTIPLY_SHIFT);
+        }
+        map = hashMap;
     }
 
     @Override
@@ -54,6 +54,87 @@ public abstract class AbstractComparisonSorter<E extends Comparable<E>> implemen
 		return comparator.compare(data1, data2);
 	}
 	
+	/**
+	 * Sorts the elements between low and high (both inclusive) using heap sort.
+	 * Used by sorters that need a guaranteed O(nlogn) fallback.
+	 * 
+	 * @param data the data to sort
+	 * @param low the lowest index to sort
+	 * @param high the highest index to sort
+	 */
+	protected void heapSort(E[] data, int low, int high) {
+		int size = high - low + 1;
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			siftDown(data, low, i, size);
+		}
+		for (int end = size - 1; end > 0; end--) {
+			swap(data, low, low + end);
+			siftDown(data, low, 0, end);
+		}
+	}
+	
+	/**
+	 * Moves the element at heap position index down the max-heap stored at
+	 * data[offset, offset + size) until both of its children are no larger
+	 * 
+	 * @param data the array holding the heap
+	 * @param offset the index of the heap's root in data
+	 * @param index the heap position of the element to move down
+	 * @param size the number of elements in the heap
+	 */
+	protected void siftDown(E[] data, int offset, int index, int size) {
+		E value = data[offset + index];
+		int child = 2 * index + 1;
+		while (child < size) {
+			if (child + 1 < size && compare(data[offset + child], data[offset + child + 1]) < 0) {
+				child++;
+			}
+			if (compare(value, data[offset + child]) >= 0) {
+				break;
+			}
+			data[offset + index] = data[offset + child];
+			index = child;
+			child = 2 * index + 1;
+		}
+		data[offset + index] = value;
+	}
+	
+	/**
+	 * Returns whichever of the three indexes holds the median of their elements.
+	 * Used by sorters that choose a pivot from a sample of the data.
+	 * 
+	 * @param data the data being sorted
+	 * @param a the first index
+	 * @param b the second index
+	 * @param c the third index
+	 * @return the index of the median element
+	 */
+	protected int medianOfThree(E[] data, int a, int b, int c) {
+		if (compare(data[a], data[b]) < 0) {
+			if (compare(data[b], data[c]) < 0) {
+				return b;
+			}
+			return compare(data[a], data[c]) < 0 ? c : a;
+		}
+		if (compare(data[a], data[c]) < 0) {
+			return a;
+		}
+		return compare(data[b], data[c]) < 0 ? c : b;
+	}
+	
+	/**
+	 * Swaps two elements of the array
+	 * 
+	 * @param data the data to swap elements in
+	 * @param first the index of the first element to be swapped
+	 * @param second the index of the second element to be swapped
+	 */
+	protected void swap(E[] data, int first, int second) {
+		E temp = data[second];
+		data[second] = data[first];
+		data[first] = temp;
+	}
+	
 	/**
 	 * Private class describes the natural ordering of objects, as described by their class
 	 * Class was used from the Workshop 1 website
@@ -1,45 +1,197 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import java.util.Arrays;
+
 import edu.ncsu.csc316.dsa.data.Identifiable;
 
 /**
  * CountingSorter uses the counting sort algorithm to sort data
+ *
+ * Before sorting, the range of ids is compared to the number of elements so
+ * that memory stays O(n) however the ids are spread out. If the range is small,
+ * each id is counted in an array indexed by id (DENSE). If the range is large
+ * but there are few distinct ids, each id is counted in a hash table and only
+ * the distinct ids are sorted (HASHED). Otherwise, the data is sorted by a
+ * {@link RadixSorter} (RADIX).
+ *
+ * The strategy used by the most recent sort is available from
+ * {@link #getLastStrategy()}. Every strategy is stable.
+ *
  * @author Dr. King
  * @author David Sweasey
  *
  * @param <E> the generic type of data to sort
  */
 public class CountingSorter<E extends Identifiable> implements Sorter<E> {
-	
+
+	/** Ranges up to this many times the number of elements are counted densely */
+	private static final int DENSE_FACTOR = 2;
+
+	/** Ranges up to this size are always counted densely */
+	private static final int DENSE_MINIMUM = 256;
+
+	/** The hashed strategy gives up once there are more than n / DISTINCT_DIVISOR distinct ids */
+	private static final int DISTINCT_DIVISOR = 4;
+
+	/** Multiplier used to spread ids across the hash table (2^32 / golden ratio) */
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	/**
+	 * The ways a CountingSorter can count ids
+	 *
+	 * @author David Sweasey
+	 */
+	public enum Strategy {
+		/** Counts each id in an array indexed by id */
+		DENSE,
+		/** Counts each distinct id in a hash table */
+		HASHED,
+		/** Delegates to a radix sort */
+		RADIX
+	}
+
+	/** The strategy used by the most recent sort, or null if nothing has been sorted */
+	private Strategy lastStrategy;
+
+	/**
+	 * Returns the strategy used by the most recent call to sort, or null if
+	 * sort has not been called
+	 *
+	 * @return the strategy used by the most recent sort
+	 */
+	public Strategy getLastStrategy() {
+		return lastStrategy;
+	}
+
 	@Override
 	public void sort(E[] data) {
+		int n = data.length;
+		lastStrategy = Strategy.DENSE;
+		if (n < 2) {
+			return;
+		}
+		int[] keys = new int[n];
 		int min = data[0].getId();
-		int max = data[0].getId();
-		for (int i = 0; i < data.length; i++) {
-			min = Math.min(data[i].getId(), min);
-			max = Math.max(data[i].getId(), max);
+		int max = min;
+		for (int i = 0; i < n; i++) {
+			int key = data[i].getId();
+			keys[i] = key;
+			min = Math.min(key, min);
+			max = Math.max(key, max);
 		}
-		int range = max - min + 1;
-		int count[] = new int[range];
-		for (int i = 0; i < data.length; i++) {
-			count[data[i].getId() - min] = count[data[i].getId() - min] + 1;
+		long range = (long) max - min + 1;
+
+		if (range <= Math.max(DENSE_MINIMUM, (long) DENSE_FACTOR * n)) {
+			denseSort(data, keys, min, (int) range);
+		} else if (hashedSort(data, keys)) {
+			lastStrategy = Strategy.HASHED;
+		} else {
+			lastStrategy = Strategy.RADIX;
+			new RadixSorter<E>().sort(data);
 		}
-		
-		for (int i = 1; i < range; i++) {
-			count[i] = count[i - 1] + count[i];
+	}
+
+	/**
+	 * Sorts the data by counting each id in an array with one entry per id in the range
+	 *
+	 * @param data the data to sort
+	 * @param keys the id of each element
+	 * @param min the smallest id
+	 * @param range the number of ids from the smallest to the largest
+	 */
+	private void denseSort(E[] data, int[] keys, int min, int range) {
+		int[] count = new int[range];
+		for (int i = 0; i < keys.length; i++) {
+			count[keys[i] - min]++;
 		}
-		
+
+		// Turn the counts into the starting index of each id
+		int next = 0;
+		for (int i = 0; i < range; i++) {
+			int size = count[i];
+			count[i] = next;
+			next += size;
+		}
+
 		@SuppressWarnings("unchecked")
 		E[] sorted = (E[]) (new Identifiable[data.length]);
-		for (int i = data.length - 1; i >= 0; i--) {
-			sorted[ count[ data[i].getId() - min ] - 1 ] = data[i];
-			count[ data[i].getId() - min] = count[ data[i].getId() - min ] - 1;
+		for (int i = 0; i < data.length; i++) {
+			sorted[count[keys[i] - min]++] = data[i];
 		}
-		
+
 		// Puts the sorted elements in the original array
+		System.arraycopy(sorted, 0, data, 0, data.length);
+	}
+
+	/**
+	 * Sorts the data by counting each distinct id in an open-addressing hash table,
+	 * sorting the distinct ids, and placing each element after all smaller ids.
+	 * Gives up without changing the data if there are too many distinct ids.
+	 *
+	 * @param data the data to sort
+	 * @param keys the id of each element
+	 * @return true if the data was sorted, or false if there were too many distinct ids
+	 */
+	private boolean hashedSort(E[] data, int[] keys) {
+		int limit = Math.max(1, keys.length / DISTINCT_DIVISOR);
+		// Keep the table at most half full
+		int bits = 32 - Integer.numberOfLeadingZeros(2 * limit - 1);
+		int capacity = 1 << bits;
+		int[] tableKeys = new int[capacity];
+		int[] tableCounts = new int[capacity];
+		boolean[] used = new boolean[capacity];
+		int[] distinct = new int[limit];
+		int distinctCount = 0;
+
+		for (int i = 0; i < keys.length; i++) {
+			int slot = findSlot(tableKeys, used, keys[i], bits);
+			if (!used[slot]) {
+				if (distinctCount == limit) {
+					return false;
+				}
+				used[slot] = true;
+				tableKeys[slot] = keys[i];
+				distinct[distinctCount++] = keys[i];
+			}
+			tableCounts[slot]++;
+		}
+
+		// Turn the counts into the starting index of each id, in id order
+		Arrays.sort(distinct, 0, distinctCount);
+		int next = 0;
+		for (int i = 0; i < distinctCount; i++) {
+			int slot = findSlot(tableKeys, used, distinct[i], bits);
+			int size = tableCounts[slot];
+			tableCounts[slot] = next;
+			next += size;
+		}
+
+		@SuppressWarnings("unchecked")
+		E[] sorted = (E[]) (new Identifiable[data.length]);
 		for (int i = 0; i < data.length; i++) {
-			data[i] = sorted[i];
+			sorted[tableCounts[findSlot(tableKeys, used, keys[i], bits)]++] = data[i];
+		}
+
+		// Puts the sorted elements in the original array
+		System.arraycopy(sorted, 0, data, 0, data.length);
+		return true;
+	}
+
+	/**
+	 * Returns the slot that holds the given id, or the empty slot where it belongs
+	 *
+	 * @param tableKeys the id stored in each slot
+	 * @param used whether each slot holds an id
+	 * @param key the id to find
+	 * @param bits the base-2 logarithm of the table's capacity
+	 * @return the slot for the id
+	 */
+	private static int findSlot(int[] tableKeys, boolean[] used, int key, int bits) {
+		int mask = (1 << bits) - 1;
+		int slot = (key * HASH_MULTIPLIER) >>> (32 - bits);
+		while (used[slot] && tableKeys[slot] != key) {
+			slot = (slot + 1) & mask;
 		}
+		return slot;
 	}
-	
 }
@@ -30,15 +30,27 @@ public class InsertionSorter<E extends Comparable<E>> extends AbstractComparison
 	
 	@Override
 	public void sort(E[] data) {
-		for (int i = 1; i < data.length; i++) {
+		sort(data, 0, data.length);
+	}
+	
+	/**
+	 * Sorts the elements of data between low (inclusive) and high (exclusive),
+	 * leaving the rest of the array untouched. Equal elements keep their relative
+	 * order. Used by other sorters to finish off small sub-arrays.
+	 * 
+	 * @param data the array containing the elements to sort
+	 * @param low the first index of the range to sort
+	 * @param high one past the last index of the range to sort
+	 */
+	public void sort(E[] data, int low, int high) {
+		for (int i = low + 1; i < high; i++) {
 			E temp = data[i];
 			int j = i - 1;
-			while (j >= 0 && compare(data[j], temp) > 0) {
+			while (j >= low && compare(data[j], temp) > 0) {
 				data[j + 1] = data[j];
 				j--;
 			}
 			data[j + 1] = temp;
 		}
-		
 	}
 }
@@ -0,0 +1,298 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * KeySorter sorts elements by a primitive int, long, or double key without
+ * calling a Comparator for every comparison. Each element's key is read once
+ * into a primitive array alongside the element's index, the primitive array is
+ * sorted, and the resulting permutation is applied to the elements.
+ *
+ * Int keys are packed together with their index into a single long and sorted
+ * as longs; long and double keys are sorted with an LSD radix sort that carries
+ * the indexes along. Double keys are ordered like {@link Double#compare}.
+ * Keys may be sorted in descending order, and elements with equal keys may be
+ * ordered by an optional tie-breaking comparator; otherwise they keep their
+ * original relative order, so the sort is stable.
+ *
+ * Instances are created with {@link #byInt}, {@link #byLong}, and {@link #byDouble}.
+ *
+ * @author David Sweasey
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class KeySorter<E> implements Sorter<E> {
+
+	/** The number of bits in each digit of the radix sort */
+	private static final int BITS_PER_DIGIT = 8;
+
+	/** The number of buckets in each pass of the radix sort */
+	private static final int RADIX = 1 << BITS_PER_DIGIT;
+
+	/** Extracts int keys, or null if the keys are longs */
+	private ToIntFunction<? super E> intKey;
+
+	/** Extracts longs whose unsigned order is the key order, or null if the keys are ints */
+	private ToLongFunction<? super E> longKey;
+
+	/** Whether the keys are sorted from largest to smallest */
+	private boolean descending;
+
+	/** Orders elements with equal keys, or null to keep their original order */
+	private Comparator<? super E> tieBreaker;
+
+	/**
+	 * Constructs a KeySorter. Exactly one of intKey and longKey must be non-null.
+	 *
+	 * @param intKey extracts int keys
+	 * @param longKey extracts longs whose unsigned order is the key order
+	 * @param descending whether to sort from largest to smallest key
+	 * @param tieBreaker orders elements with equal keys; may be null
+	 */
+	private KeySorter(ToIntFunction<? super E> intKey, ToLongFunction<? super E> longKey, boolean descending,
+			Comparator<? super E> tieBreaker) {
+		this.intKey = intKey;
+		this.longKey = longKey;
+		this.descending = descending;
+		this.tieBreaker = tieBreaker;
+	}
+
+	/**
+	 * Returns a sorter that orders elements by an int key
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key extracts the key of an element
+	 * @param descending whether to sort from largest to smallest key
+	 * @param tieBreaker orders elements with equal keys; may be null
+	 * @return the sorter
+	 * @throws IllegalArgumentException if key is null
+	 */
+	public static <E> KeySorter<E> byInt(ToIntFunction<? super E> key, boolean descending,
+			Comparator<? super E> tieBreaker) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key extractor cannot be null");
+		}
+		return new KeySorter<E>(key, null, descending, tieBreaker);
+	}
+
+	/**
+	 * Returns a stable sorter that orders elements by an int key, smallest first
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key extracts the key of an element
+	 * @return the sorter
+	 * @throws IllegalArgumentException if key is null
+	 */
+	public static <E> KeySorter<E> byInt(ToIntFunction<? super E> key) {
+		return byInt(key, false, null);
+	}
+
+	/**
+	 * Returns a sorter that orders elements by a long key
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key extracts the key of an element
+	 * @param descending whether to sort from largest to smallest key
+	 * @param tieBreaker orders elements with equal keys; may be null
+	 * @return the sorter
+	 * @throws IllegalArgumentException if key is null
+	 */
+	public static <E> KeySorter<E> byLong(ToLongFunction<? super E> key, boolean descending,
+			Comparator<? super E> tieBreaker) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key extractor cannot be null");
+		}
+		// Flipping the sign bit maps signed order onto unsigned order
+		return new KeySorter<E>(null, e -> key.applyAsLong(e) ^ Long.MIN_VALUE, descending, tieBreaker);
+	}
+
+	/**
+	 * Returns a stable sorter that orders elements by a long key, smallest first
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key extracts the key of an element
+	 * @return the sorter
+	 * @throws IllegalArgumentException if key is null
+	 */
+	public static <E> KeySorter<E> byLong(ToLongFunction<? super E> key) {
+		return byLong(key, false, null);
+	}
+
+	/**
+	 * Returns a sorter that orders elements by a double key
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key extracts the key of an element
+	 * @param descending whether to sort from largest to smallest key
+	 * @param tieBreaker orders elements with equal keys; may be null
+	 * @return the sorter
+	 * @throws IllegalArgumentException if key is null
+	 */
+	public static <E> KeySorter<E> byDouble(ToDoubleFunction<? super E> key, boolean descending,
+			Comparator<? super E> tieBreaker) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key extractor cannot be null");
+		}
+		return new KeySorter<E>(null, e -> {
+			long bits = Double.doubleToLongBits(key.applyAsDouble(e));
+			// Negative values flip every bit, positive values flip only the sign bit
+			return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+		}, descending, tieBreaker);
+	}
+
+	/**
+	 * Returns a stable sorter that orders elements by a double key, smallest first
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key extracts the key of an element
+	 * @return the sorter
+	 * @throws IllegalArgumentException if key is null
+	 */
+	public static <E> KeySorter<E> byDouble(ToDoubleFunction<? super E> key) {
+		return byDouble(key, false, null);
+	}
+
+	@Override
+	public void sort(E[] data) {
+		int n = data.length;
+		if (n < 2) {
+			return;
+		}
+		int[] order = new int[n];
+		if (intKey != null) {
+			sortIntKeys(data, order);
+		} else {
+			sortLongKeys(data, order);
+		}
+
+		E[] original = data.clone();
+		for (int i = 0; i < n; i++) {
+			data[i] = original[order[i]];
+		}
+	}
+
+	/**
+	 * Fills order with the indexes of the elements sorted by their int keys, then
+	 * applies the tie-breaker to runs of equal keys
+	 *
+	 * @param data the data to sort
+	 * @param order receives the index of the element that belongs at each position
+	 */
+	private void sortIntKeys(E[] data, int[] order) {
+		int n = data.length;
+		// The key goes in the high half and the index in the low half, so equal
+		// keys stay in index order
+		long[] packed = new long[n];
+		for (int i = 0; i < n; i++) {
+			int key = intKey.applyAsInt(data[i]);
+			if (descending) {
+				key = ~key;
+			}
+			packed[i] = ((long) key << 32) | i;
+		}
+		Arrays.sort(packed);
+		int runStart = 0;
+		for (int i = 0; i < n; i++) {
+			order[i] = (int) packed[i];
+			if (i > 0 && (packed[i] >> 32) != (packed[i - 1] >> 32)) {
+				breakTies(data, order, runStart, i);
+				runStart = i;
+			}
+		}
+		breakTies(data, order, runStart, n);
+	}
+
+	/**
+	 * Fills order with the indexes of the elements sorted by their long keys using
+	 * an LSD radix sort, then applies the tie-breaker to runs of equal keys
+	 *
+	 * @param data the data to sort
+	 * @param order receives the index of the element that belongs at each position
+	 */
+	private void sortLongKeys(E[] data, int[] order) {
+		int n = data.length;
+		int passes = Long.SIZE / BITS_PER_DIGIT;
+		long[] keys = new long[n];
+		int[][] counts = new int[passes][RADIX];
+		for (int i = 0; i < n; i++) {
+			long key = longKey.applyAsLong(data[i]);
+			if (descending) {
+				key = ~key;
+			}
+			keys[i] = key;
+			order[i] = i;
+			for (int pass = 0; pass < passes; pass++) {
+				counts[pass][(int) (key >>> (pass * BITS_PER_DIGIT)) & (RADIX - 1)]++;
+			}
+		}
+
+		long[] fromKeys = keys;
+		long[] toKeys = new long[n];
+		int[] from = order;
+		int[] to = new int[n];
+		for (int pass = 0; pass < passes; pass++) {
+			int shift = pass * BITS_PER_DIGIT;
+			int[] count = counts[pass];
+			if (count[(int) (fromKeys[0] >>> shift) & (RADIX - 1)] == n) {
+				continue;
+			}
+			int next = 0;
+			for (int digit = 0; digit < RADIX; digit++) {
+				int size = count[digit];
+				count[digit] = next;
+				next += size;
+			}
+			for (int i = 0; i < n; i++) {
+				long key = fromKeys[i];
+				int index = count[(int) (key >>> shift) & (RADIX - 1)]++;
+				toKeys[index] = key;
+				to[index] = from[i];
+			}
+			long[] tempKeys = fromKeys;
+			fromKeys = toKeys;
+			toKeys = tempKeys;
+			int[] temp = from;
+			from = to;
+			to = temp;
+		}
+		if (from != order) {
+			System.arraycopy(from, 0, order, 0, n);
+		}
+
+		int runStart = 0;
+		for (int i = 1; i < n; i++) {
+			if (fromKeys[i] != fromKeys[i - 1]) {
+				breakTies(data, order, runStart, i);
+				runStart = i;
+			}
+		}
+		breakTies(data, order, runStart, n);
+	}
+
+	/**
+	 * Sorts order[low, high), a run of indexes whose elements have equal keys, by
+	 * the tie-breaker. Does nothing if there is no tie-breaker.
+	 *
+	 * @param data the data being sorted
+	 * @param order the index of the element that belongs at each position
+	 * @param low the first position of the run
+	 * @param high one past the last position of the run
+	 */
+	private void breakTies(E[] data, int[] order, int low, int high) {
+		if (tieBreaker == null || high - low < 2) {
+			return;
+		}
+		Integer[] run = new Integer[high - low];
+		for (int i = low; i < high; i++) {
+			run[i - low] = order[i];
+		}
+		Arrays.sort(run, (one, two) -> tieBreaker.compare(data[one], data[two]));
+		for (int i = low; i < high; i++) {
+			order[i] = run[i - low];
+		}
+	}
+}
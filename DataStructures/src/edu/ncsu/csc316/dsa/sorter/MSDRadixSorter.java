@@ -0,0 +1,272 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+
+/**
+ * MSDRadixSorter sorts elements by one or more String keys using in-place
+ * most-significant-digit radix sort (American flag sort). Elements are
+ * distributed into buckets by the character at the current position of the
+ * key, then each bucket is sorted on the next position, so shared prefixes are
+ * examined only once instead of on every comparison.
+ *
+ * Keys are compared character by character, exactly like
+ * {@link String#compareTo(String)}. When the first key of two elements is equal,
+ * the next key is used, and when every key is equal, the optional tie-breaking
+ * comparator decides. Buckets of at most 16 elements are finished with
+ * insertion sort. Keys must not be null.
+ *
+ * Like other in-place radix sorts, this sort is not stable: elements whose keys
+ * and tie-breaker are all equal may change relative order.
+ *
+ * For example, a roster can be sorted in the same order as
+ * {@link edu.ncsu.csc316.dsa.data.Student#compareTo} with
+ * {@code new MSDRadixSorter<Student>(Comparator.comparingInt(Student::getId),
+ * Student::getLast, Student::getFirst)}.
+ *
+ * @author David Sweasey
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class MSDRadixSorter<E> implements Sorter<E> {
+
+	/** Buckets of at most this many elements are insertion sorted */
+	private static final int INSERTION_CUTOFF = 16;
+
+	/** The key extractors, from most to least significant */
+	private List<Function<E, String>> keys;
+
+	/** Orders elements whose keys are all equal, or null to leave them as is */
+	private Comparator<E> tieBreaker;
+
+	/**
+	 * Constructs an MSDRadixSorter that sorts by the given keys, then by the
+	 * tie-breaking comparator
+	 *
+	 * @param tieBreaker orders elements whose keys are all equal; may be null
+	 * @param keys the key extractors, from most to least significant
+	 * @throws IllegalArgumentException if no key extractors are given
+	 */
+	@SafeVarargs
+	public MSDRadixSorter(Comparator<E> tieBreaker, Function<E, String>... keys) {
+		if (keys == null || keys.length == 0) {
+			throw new IllegalArgumentException("At least one key extractor is required");
+		}
+		// Copy the extractors into a list rather than keeping the varargs array
+		this.keys = new ArrayBasedList<Function<E, String>>();
+		for (Function<E, String> key : keys) {
+			this.keys.addLast(key);
+		}
+		this.tieBreaker = tieBreaker;
+	}
+
+	/**
+	 * Constructs an MSDRadixSorter that sorts by the given keys
+	 *
+	 * @param keys the key extractors, from most to least significant
+	 * @throws IllegalArgumentException if no key extractors are given
+	 */
+	@SafeVarargs
+	public MSDRadixSorter(Function<E, String>... keys) {
+		this(null, keys);
+	}
+
+	@Override
+	public void sort(E[] data) {
+		if (data.length < 2) {
+			return;
+		}
+		String[] current = new String[data.length];
+		for (int i = 0; i < data.length; i++) {
+			current[i] = keys.get(0).apply(data[i]);
+		}
+		sortLevel(data, current, 0, data.length, 0, 0);
+	}
+
+	/**
+	 * Sorts data[low, high) by the current key starting at the given character
+	 * position. Every element in the range shares the same first depth characters
+	 * of the current key and the same values for every earlier key.
+	 *
+	 * @param data the data to sort
+	 * @param current the current key of each element, moved along with the data
+	 * @param low the first index of the range to sort
+	 * @param high one past the last index of the range to sort
+	 * @param depth the character position to distribute on
+	 * @param level the index of the current key extractor
+	 */
+	private void sortLevel(E[] data, String[] current, int low, int high, int depth, int level) {
+		while (high - low > INSERTION_CUTOFF) {
+			// Find the range of characters present so the count array stays small
+			int min = Character.MAX_VALUE;
+			int max = -1;
+			boolean anyEnded = false;
+			for (int i = low; i < high; i++) {
+				String key = current[i];
+				if (depth < key.length()) {
+					char c = key.charAt(depth);
+					min = Math.min(min, c);
+					max = Math.max(max, c);
+				} else {
+					anyEnded = true;
+				}
+			}
+			if (max < 0) {
+				// Every key ended, so the current key is equal across the range
+				nextLevel(data, current, low, high, level);
+				return;
+			}
+			if (!anyEnded && min == max) {
+				// Every key shares this character; move on without permuting
+				depth++;
+				continue;
+			}
+
+			// Bucket 0 holds keys that have ended; bucket c - min + 1 holds character c
+			int buckets = max - min + 2;
+			int[] next = new int[buckets + 1];
+			for (int i = low; i < high; i++) {
+				next[bucket(current[i], depth, min) + 1]++;
+			}
+			next[0] = low;
+			for (int b = 1; b <= buckets; b++) {
+				next[b] += next[b - 1];
+			}
+			int[] end = Arrays.copyOfRange(next, 1, buckets + 1);
+
+			// Swap every element into its bucket, one cycle at a time
+			for (int b = 0; b < buckets; b++) {
+				while (next[b] < end[b]) {
+					int i = next[b];
+					int target = bucket(current[i], depth, min);
+					if (target == b) {
+						next[b]++;
+					} else {
+						swap(data, current, i, next[target]++);
+					}
+				}
+			}
+
+			int start = low;
+			if (end[0] > low) {
+				nextLevel(data, current, low, end[0], level);
+				start = end[0];
+			}
+			for (int b = 1; b < buckets - 1; b++) {
+				if (end[b] - start > 1) {
+					sortLevel(data, current, start, end[b], depth + 1, level);
+				}
+				start = end[b];
+			}
+			// Loop on the last bucket instead of recursing into it
+			low = start;
+			depth++;
+		}
+		insertionSort(data, current, low, high, level);
+	}
+
+	/**
+	 * Sorts data[low, high), whose current keys are all equal, by the next key
+	 * extractor, or by the tie-breaker once every key has been used
+	 *
+	 * @param data the data to sort
+	 * @param current the current key of each element, moved along with the data
+	 * @param low the first index of the range to sort
+	 * @param high one past the last index of the range to sort
+	 * @param level the index of the key extractor that was just exhausted
+	 */
+	private void nextLevel(E[] data, String[] current, int low, int high, int level) {
+		if (high - low < 2) {
+			return;
+		}
+		if (level + 1 < keys.size()) {
+			for (int i = low; i < high; i++) {
+				current[i] = keys.get(level + 1).apply(data[i]);
+			}
+			sortLevel(data, current, low, high, 0, level + 1);
+		} else if (tieBreaker != null) {
+			Arrays.sort(data, low, high, tieBreaker);
+		}
+	}
+
+	/**
+	 * Sorts a small range with insertion sort, comparing the current keys and then
+	 * any later keys and the tie-breaker
+	 *
+	 * @param data the data to sort
+	 * @param current the current key of each element, moved along with the data
+	 * @param low the first index of the range to sort
+	 * @param high one past the last index of the range to sort
+	 * @param level the index of the current key extractor
+	 */
+	private void insertionSort(E[] data, String[] current, int low, int high, int level) {
+		for (int i = low + 1; i < high; i++) {
+			E temp = data[i];
+			String tempKey = current[i];
+			int j = i - 1;
+			while (j >= low && compare(data[j], current[j], temp, tempKey, level) > 0) {
+				data[j + 1] = data[j];
+				current[j + 1] = current[j];
+				j--;
+			}
+			data[j + 1] = temp;
+			current[j + 1] = tempKey;
+		}
+	}
+
+	/**
+	 * Compares two elements by their current keys, then by any later keys, then
+	 * by the tie-breaker
+	 *
+	 * @param one the first element
+	 * @param oneKey the current key of the first element
+	 * @param two the second element
+	 * @param twoKey the current key of the second element
+	 * @param level the index of the current key extractor
+	 * @return a negative integer, zero, or a positive integer as the first element
+	 *         comes before, ties with, or comes after the second
+	 */
+	private int compare(E one, String oneKey, E two, String twoKey, int level) {
+		int result = oneKey.compareTo(twoKey);
+		for (int l = level + 1; result == 0 && l < keys.size(); l++) {
+			result = keys.get(l).apply(one).compareTo(keys.get(l).apply(two));
+		}
+		if (result == 0 && tieBreaker != null) {
+			result = tieBreaker.compare(one, two);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the bucket of a key at the given character position
+	 *
+	 * @param key the key
+	 * @param depth the character position
+	 * @param min the smallest character at this position in the range
+	 * @return 0 if the key has ended, otherwise the character's bucket
+	 */
+	private static int bucket(String key, int depth, int min) {
+		return depth < key.length() ? key.charAt(depth) - min + 1 : 0;
+	}
+
+	/**
+	 * Swaps two elements along with their current keys
+	 *
+	 * @param data the data being sorted
+	 * @param current the current key of each element
+	 * @param first the index of the first element
+	 * @param second the index of the second element
+	 */
+	private static <E> void swap(E[] data, String[] current, int first, int second) {
+		E temp = data[first];
+		data[first] = data[second];
+		data[second] = temp;
+		String tempKey = current[first];
+		current[first] = current[second];
+		current[second] = tempKey;
+	}
+}
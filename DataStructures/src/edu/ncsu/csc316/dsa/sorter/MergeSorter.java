@@ -58,7 +58,7 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
 		int leftIdx = 0;
 		int rightIdx = 0;
 		while (leftIdx + rightIdx < data.length) {
-			if (rightIdx == right.length || leftIdx < left.length && compare(left[leftIdx], right[rightIdx]) < 0) {
+			if (rightIdx == right.length || leftIdx < left.length && compare(left[leftIdx], right[rightIdx]) <= 0) {
 				data[leftIdx + rightIdx] = left[leftIdx];
 				leftIdx++;
 			} else {
@@ -0,0 +1,201 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelMergeSorter sorts arrays of comparable elements using a fork-join
+ * merge sort. Unlike MergeSorter, the halves are sorted in place and a single
+ * scratch array is allocated for the whole sort, so no sub-arrays are copied
+ * at each level of recursion. Sub-arrays at or below the cutoff are finished
+ * with insertion sort, and sub-arrays larger than the parallel threshold are
+ * sorted as separate tasks on a ForkJoinPool.
+ *
+ * The sort is stable and runs in O(nlogn) worst-case time.
+ *
+ * @author David Sweasey
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ParallelMergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** The default size at or below which sub-arrays are insertion sorted */
+	public static final int DEFAULT_CUTOFF = 32;
+
+	/** Sub-arrays smaller than this are sorted on the current thread */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	/** The size at or below which sub-arrays are insertion sorted */
+	private int cutoff;
+
+	/** The pool that runs the sorting tasks */
+	private ForkJoinPool pool;
+
+	/** Sorter used to finish off sub-arrays at or below the cutoff */
+	private InsertionSorter<E> insertionSorter;
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator,
+	 * insertion sort cutoff, and pool to run on
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param cutoff the size at or below which sub-arrays are insertion sorted
+	 * @param pool the ForkJoinPool to run on; if null, the common pool is used
+	 * @throws IllegalArgumentException if the cutoff is less than 1
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator, int cutoff, ForkJoinPool pool) {
+		super(comparator);
+		if (cutoff < 1) {
+			throw new IllegalArgumentException("Cutoff must be at least 1");
+		}
+		this.cutoff = cutoff;
+		this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+		this.insertionSorter = new InsertionSorter<E>(this::compare);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator and
+	 * insertion sort cutoff that runs on the common pool
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param cutoff the size at or below which sub-arrays are insertion sorted
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator, int cutoff) {
+		this(comparator, cutoff, null);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator) {
+		this(comparator, DEFAULT_CUTOFF);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with comparisons based on the element's
+	 * natural ordering
+	 */
+	public ParallelMergeSorter() {
+		this(null);
+	}
+
+	@Override
+	public void sort(E[] data) {
+		if (data.length <= cutoff) {
+			insertionSorter.sort(data);
+			return;
+		}
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		E[] buffer = (E[]) new Comparable[data.length / 2 + 1];
+		pool.invoke(new SortTask(data, buffer, 0, data.length));
+	}
+
+	/**
+	 * Sorts data between low (inclusive) and high (exclusive) on the current
+	 * thread. Helper method for SortTask.
+	 *
+	 * @param data the data to sort
+	 * @param buffer the scratch array shared by the whole sort
+	 * @param low the first index of the range to sort
+	 * @param high one past the last index of the range to sort
+	 */
+	private void mergeSort(E[] data, E[] buffer, int low, int high) {
+		if (high - low <= cutoff) {
+			insertionSorter.sort(data, low, high);
+			return;
+		}
+		int mid = (low + high) >>> 1;
+		mergeSort(data, buffer, low, mid);
+		mergeSort(data, buffer, mid, high);
+		merge(data, buffer, low, mid, high);
+	}
+
+	/**
+	 * Combines the sorted runs data[low, mid) and data[mid, high) into one sorted
+	 * run. The left run is copied into the matching region of the buffer and then
+	 * merged back into data, taking from the left run on ties to keep the sort stable.
+	 * If the runs are already in order, nothing is copied.
+	 *
+	 * @param data the array holding both runs
+	 * @param buffer the scratch array shared by the whole sort
+	 * @param low the first index of the left run
+	 * @param mid the first index of the right run
+	 * @param high one past the last index of the right run
+	 */
+	private void merge(E[] data, E[] buffer, int low, int mid, int high) {
+		if (compare(data[mid - 1], data[mid]) <= 0) {
+			return;
+		}
+		// Each left run [low, mid) maps to buffer[low / 2, low / 2 + mid - low), and
+		// those regions never overlap between runs being merged at the same time
+		int offset = low / 2;
+		int leftLength = mid - low;
+		System.arraycopy(data, low, buffer, offset, leftLength);
+		int leftIdx = offset;
+		int leftEnd = offset + leftLength;
+		int rightIdx = mid;
+		int dest = low;
+		while (leftIdx < leftEnd && rightIdx < high) {
+			if (compare(buffer[leftIdx], data[rightIdx]) <= 0) {
+				data[dest++] = buffer[leftIdx++];
+			} else {
+				data[dest++] = data[rightIdx++];
+			}
+		}
+		// Anything left in the right run is already in place
+		System.arraycopy(buffer, leftIdx, data, dest, leftEnd - leftIdx);
+	}
+
+	/**
+	 * SortTask sorts one range of the array, forking a task for each half while
+	 * the range is larger than the parallel threshold
+	 *
+	 * @author David Sweasey
+	 */
+	private class SortTask extends RecursiveAction {
+
+		/** Serial version UID */
+		private static final long serialVersionUID = 1L;
+
+		/** The data to sort */
+		private final E[] data;
+
+		/** The scratch array shared by the whole sort */
+		private final E[] buffer;
+
+		/** The first index of the range to sort */
+		private final int low;
+
+		/** One past the last index of the range to sort */
+		private final int high;
+
+		/**
+		 * Constructs a task that sorts data[low, high)
+		 *
+		 * @param data the data to sort
+		 * @param buffer the scratch array shared by the whole sort
+		 * @param low the first index of the range to sort
+		 * @param high one past the last index of the range to sort
+		 */
+		SortTask(E[] data, E[] buffer, int low, int high) {
+			this.data = data;
+			this.buffer = buffer;
+			this.low = low;
+			this.high = high;
+		}
+
+		@Override
+		protected void compute() {
+			if (high - low < PARALLEL_THRESHOLD) {
+				mergeSort(data, buffer, low, high);
+				return;
+			}
+			int mid = (low + high) >>> 1;
+			invokeAll(new SortTask(data, buffer, low, mid), new SortTask(data, buffer, mid, high));
+			merge(data, buffer, low, mid, high);
+		}
+	}
+}
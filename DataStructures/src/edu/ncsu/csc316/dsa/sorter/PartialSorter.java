@@ -0,0 +1,45 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+/**
+ * Interface that defines partial sorting and selection behavior: finding the
+ * element at a given rank, or putting only the smallest elements in order,
+ * without sorting the whole array. Ranks are 0-based, so rank 0 is the smallest
+ * element.
+ *
+ * @author David Sweasey
+ * @param <E> the generic type
+ */
+public interface PartialSorter<E> extends Sorter<E> {
+
+	/**
+	 * Returns the element that would be at index k if data were sorted. The
+	 * elements of data are rearranged as described by {@link #nthElement}.
+	 *
+	 * @param data the array to select from
+	 * @param k the rank of the element to return
+	 * @return the element of rank k
+	 * @throws IndexOutOfBoundsException if k is not a valid index of data
+	 */
+	E select(E[] data, int k);
+
+	/**
+	 * Rearranges data so that the element at index k is the one that would be
+	 * there if data were sorted, no element before index k comes after it, and no
+	 * element after index k comes before it
+	 *
+	 * @param data the array to rearrange
+	 * @param k the index to put in its sorted position
+	 * @throws IndexOutOfBoundsException if k is not a valid index of data
+	 */
+	void nthElement(E[] data, int k);
+
+	/**
+	 * Rearranges data so that its first k elements are the k smallest elements, in
+	 * sorted order. The order of the remaining elements is unspecified.
+	 *
+	 * @param data the array to partially sort
+	 * @param k the number of smallest elements to sort, from 0 to data.length
+	 * @throws IndexOutOfBoundsException if k is negative or greater than data.length
+	 */
+	void partialSort(E[] data, int k);
+}
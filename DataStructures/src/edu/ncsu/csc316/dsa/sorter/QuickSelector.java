@@ -0,0 +1,111 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * QuickSelector implements selection and partial sorting. nthElement and
+ * select use quickselect with a median-of-three pivot and three-way
+ * partitioning, so only the side of each partition that holds index k is
+ * examined; if partitioning goes on for more than 2*log2(n) rounds, the
+ * remaining range is heap sorted, which bounds the worst case at O(nlogn)
+ * while the expected case is O(n). partialSort keeps the k smallest elements
+ * seen so far in a bounded max-heap at the front of the array, which takes
+ * O(nlogk) time and no extra space.
+ *
+ * @author David Sweasey
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class QuickSelector<E extends Comparable<E>> extends AbstractComparisonSorter<E> implements PartialSorter<E> {
+
+	/**
+	 * Constructs a new QuickSelector with a specified custom Comparator
+	 *
+	 * @param comparator a custom Comparator to use when comparing
+	 */
+	public QuickSelector(Comparator<E> comparator) {
+		super(comparator);
+	}
+
+	/**
+	 * Constructs a new QuickSelector with comparisons based on the element's
+	 * natural ordering
+	 */
+	public QuickSelector() {
+		this(null);
+	}
+
+	@Override
+	public void sort(E[] data) {
+		partialSort(data, data.length);
+	}
+
+	@Override
+	public E select(E[] data, int k) {
+		nthElement(data, k);
+		return data[k];
+	}
+
+	@Override
+	public void nthElement(E[] data, int k) {
+		if (k < 0 || k >= data.length) {
+			throw new IndexOutOfBoundsException("Index is invalid: " + k + " (size=" + data.length + ")");
+		}
+		int low = 0;
+		int high = data.length - 1;
+		int rounds = 2 * (32 - Integer.numberOfLeadingZeros(data.length));
+		while (low < high) {
+			if (rounds-- == 0) {
+				heapSort(data, low, high);
+				return;
+			}
+			E pivot = data[medianOfThree(data, low, (low + high) >>> 1, high)];
+			// Dijkstra three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+			int lt = low;
+			int gt = high;
+			int i = low;
+			while (i <= gt) {
+				int c = compare(data[i], pivot);
+				if (c < 0) {
+					swap(data, lt++, i++);
+				} else if (c > 0) {
+					swap(data, i, gt--);
+				} else {
+					i++;
+				}
+			}
+			if (k < lt) {
+				high = lt - 1;
+			} else if (k > gt) {
+				low = gt + 1;
+			} else {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void partialSort(E[] data, int k) {
+		if (k < 0 || k > data.length) {
+			throw new IndexOutOfBoundsException("Index is invalid: " + k + " (size=" + data.length + ")");
+		}
+		if (k == 0) {
+			return;
+		}
+		// Build a max-heap of the first k elements, whose root is the largest kept so far
+		for (int i = k / 2 - 1; i >= 0; i--) {
+			siftDown(data, 0, i, k);
+		}
+		for (int i = k; i < data.length; i++) {
+			if (compare(data[i], data[0]) < 0) {
+				swap(data, 0, i);
+				siftDown(data, 0, 0, k);
+			}
+		}
+		// Repeatedly move the largest kept element to the end of the heap
+		for (int end = k - 1; end > 0; end--) {
+			swap(data, 0, end);
+			siftDown(data, 0, 0, end);
+		}
+	}
+}
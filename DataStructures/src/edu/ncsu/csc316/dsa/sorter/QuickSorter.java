@@ -12,6 +12,20 @@ import java.util.Comparator;
  * Using the randomized pivot selection strategy ensures O(nlogn)
  * expected/average case runtime when sorting n elements that are comparable
  * 
+ * In introspective mode (introsort), the chosen pivot is refined with a
+ * median-of-three (or, for large ranges, a ninther) sample, small ranges are
+ * finished with insertion sort, and any range that recurses deeper than
+ * 2*log2(n) levels is heap sorted instead. This ensures O(nlogn) worst-case
+ * runtime regardless of the input order or pivot selection strategy.
+ * 
+ * The client may also choose a partitioning scheme. LOMUTO is the classic single
+ * pivot partition. THREE_WAY (Bentley-McIlroy) and DUAL_PIVOT (Yaroslavskiy)
+ * both keep runs of keys equal to a pivot out of further partitioning, which
+ * avoids quadratic behavior when the comparator has few distinct values.
+ * 
+ * In every mode the sorter recurses only into the smaller side of a partition
+ * and loops on the larger side, so the stack depth is O(logn).
+ * 
  * @author Dr. King
  * @author David Sweasey
  *
@@ -42,10 +56,67 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      */
     public static final PivotSelector RANDOM_ELEMENT_SELECTOR = new RandomElementSelector();
     
+    /**
+     * Ranges of at most this many elements are insertion sorted in introspective mode
+     */
+    private static final int INSERTION_CUTOFF = 16;
+    
+    /**
+     * Ranges of more than this many elements use a ninther instead of a
+     * median-of-three pivot sample in introspective mode
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+    
     /**
      * Tracks the PivotSelector to use for the QuickSort algorithm
      */
     private PivotSelector selector;
+    
+    /**
+     * Tracks the partitioning scheme to use for the QuickSort algorithm
+     */
+    private PartitionScheme partitioning;
+    
+    /**
+     * Whether the sorter runs in introspective (introsort) mode
+     */
+    private boolean introspective;
+    
+    /**
+     * Sorter used to finish off small ranges in introspective mode
+     */
+    private InsertionSorter<E> insertionSorter;
+	
+    /**
+     * Constructs a new QuickSorter with a provided custom Comparator, a specified
+     * PivotSelector strategy, a partitioning scheme, and whether to run in
+     * introspective mode
+     * 
+     * @param comparator    a custom comparator to use when sorting
+     * @param selector      the pivot selection strategy to use when selecting pivots
+     * @param partitioning  the partitioning scheme to use; if null, LOMUTO is used
+     * @param introspective true to bound the worst case with introsort
+     */
+    public QuickSorter(Comparator<E> comparator, PivotSelector selector, PartitionScheme partitioning,
+            boolean introspective) {
+        super(comparator);
+        setSelector(selector);
+        this.partitioning = partitioning == null ? PartitionScheme.LOMUTO : partitioning;
+        this.introspective = introspective;
+        this.insertionSorter = new InsertionSorter<E>(this::compare);
+    }
+    
+    /**
+     * Constructs a new QuickSorter with a provided custom Comparator, a specified
+     * PivotSelector strategy, and whether to run in introspective mode
+     * 
+     * @param comparator    a custom comparator to use when sorting
+     * @param selector      the pivot selection strategy to use when selecting pivots
+     * @param introspective true to bound the worst case with introsort
+     */
+    public QuickSorter(Comparator<E> comparator, PivotSelector selector, boolean introspective) {
+        this(comparator, selector, PartitionScheme.LOMUTO, introspective);
+    }
 	
     /**
      * Constructs a new QuickSorter with a provided custom Comparator and a
@@ -55,8 +126,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * @param selector   the pivot selection strategy to use when selecting pivots
      */
     public QuickSorter(Comparator<E> comparator, PivotSelector selector) {
-        super(comparator);
-        setSelector(selector);
+        this(comparator, selector, false);
     }
 
     /**
@@ -100,26 +170,262 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
         }
     }
 	
+    /**
+     * Returns the partitioning scheme used by this sorter
+     * 
+     * @return the partitioning scheme used by this sorter
+     */
+    public PartitionScheme getPartitionScheme() {
+        return partitioning;
+    }
+	
+    /**
+     * Returns true if this sorter runs in introspective (introsort) mode
+     * 
+     * @return true if this sorter runs in introspective mode
+     */
+    public boolean isIntrospective() {
+        return introspective;
+    }
+	
 	@Override
 	public void sort(E[] data) {
-		quickSort(data, 0, data.length - 1);
+		quickSort(data, 0, data.length - 1, 2 * log2(data.length));
 	}
 	
 	/**
 	 * Private method used for doing quicksort. Because this algorithm is recursive, a
-	 * public-private pair is used. Finds a pivot location within the provided bounds,
-	 * finds its location, and then quick sorts either side of the pivot.
+	 * public-private pair is used. Partitions the provided bounds with the configured
+	 * scheme and then quick sorts each part. Only the smaller parts are sorted
+	 * recursively; the largest part is sorted by the loop.
+	 * 
+	 * In introspective mode, small ranges are insertion sorted and a range is heap
+	 * sorted once the depth limit is used up.
 	 * 
 	 *  @param data the data to sort
 	 *  @param low the lowest index currently being sorted
 	 *  @param high the highest index currently being sorted
+	 *  @param depthLimit the number of partitioning levels left before heap sorting
+	 */
+	private void quickSort(E[] data, int low, int high, int depthLimit) {
+		while (low < high) {
+			if (introspective) {
+				if (high - low + 1 <= INSERTION_CUTOFF) {
+					insertionSorter.sort(data, low, high + 1);
+					return;
+				}
+				if (depthLimit == 0) {
+					heapSort(data, low, high);
+					return;
+				}
+				depthLimit--;
+			}
+			if (partitioning == PartitionScheme.THREE_WAY) {
+				int[] bounds = threeWayPartition(data, low, high);
+				if (bounds[0] - low < high - bounds[1]) {
+					quickSort(data, low, bounds[0], depthLimit);
+					low = bounds[1];
+				} else {
+					quickSort(data, bounds[1], high, depthLimit);
+					high = bounds[0];
+				}
+			} else if (partitioning == PartitionScheme.DUAL_PIVOT) {
+				int[] bounds = dualPivotPartition(data, low, high);
+				int leftSize = bounds[0] - low;
+				int middleSize = bounds[2] - bounds[1];
+				int rightSize = high - bounds[3];
+				if (leftSize >= middleSize && leftSize >= rightSize) {
+					quickSort(data, bounds[1], bounds[2], depthLimit);
+					quickSort(data, bounds[3], high, depthLimit);
+					high = bounds[0];
+				} else if (middleSize >= rightSize) {
+					quickSort(data, low, bounds[0], depthLimit);
+					quickSort(data, bounds[3], high, depthLimit);
+					low = bounds[1];
+					high = bounds[2];
+				} else {
+					quickSort(data, low, bounds[0], depthLimit);
+					quickSort(data, bounds[1], bounds[2], depthLimit);
+					low = bounds[3];
+				}
+			} else {
+				int pivotLoc = partition(data, low, high);
+				if (pivotLoc - low < high - pivotLoc) {
+					quickSort(data, low, pivotLoc - 1, depthLimit);
+					low = pivotLoc + 1;
+				} else {
+					quickSort(data, pivotLoc + 1, high, depthLimit);
+					high = pivotLoc - 1;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns the index of the pivot to use for the range: the selector's choice,
+	 * refined by a median sample in introspective mode
+	 * 
+	 * @param data the data to sort
+	 * @param low the lowest index currently being sorted
+	 * @param high the highest index currently being sorted
+	 * @return the index of the pivot
 	 */
-	private void quickSort(E[] data, int low, int high) {
-		if (low < high) {
-			int pivotLoc = partition(data, low, high);
-			quickSort(data, low, pivotLoc - 1);
-			quickSort(data, pivotLoc + 1, high);
+	private int choosePivot(E[] data, int low, int high) {
+		if (introspective) {
+			return samplePivot(data, low, high);
 		}
+		return selector.selectPivot(low, high);
+	}
+	
+	/**
+	 * Helper method which partitions the range around a single pivot into elements
+	 * less than, equal to, and greater than the pivot (Bentley-McIlroy three-way
+	 * partitioning). Elements equal to the pivot are gathered at both ends during
+	 * the scan and swapped into the middle at the end, so they are never sorted again.
+	 * 
+	 * @param data the data to sort
+	 * @param low the lowest index currently being sorted
+	 * @param high the highest index currently being sorted
+	 * @return a two-element array holding the last index of the less-than part and
+	 *         the first index of the greater-than part
+	 */
+	private int[] threeWayPartition(E[] data, int low, int high) {
+		swap(data, choosePivot(data, low, high), low);
+		E pivot = data[low];
+		int i = low;
+		int j = high + 1;
+		int p = low;
+		int q = high + 1;
+		while (true) {
+			while (compare(data[++i], pivot) < 0) {
+				if (i == high) {
+					break;
+				}
+			}
+			while (compare(pivot, data[--j]) < 0) {
+				if (j == low) {
+					break;
+				}
+			}
+			if (i == j && compare(data[i], pivot) == 0) {
+				swap(data, ++p, i);
+			}
+			if (i >= j) {
+				break;
+			}
+			swap(data, i, j);
+			if (compare(data[i], pivot) == 0) {
+				swap(data, ++p, i);
+			}
+			if (compare(data[j], pivot) == 0) {
+				swap(data, --q, j);
+			}
+		}
+		i = j + 1;
+		for (int k = low; k <= p; k++) {
+			swap(data, k, j--);
+		}
+		for (int k = high; k >= q; k--) {
+			swap(data, k, i++);
+		}
+		return new int[] { j, i };
+	}
+	
+	/**
+	 * Helper method which partitions the range around two pivots p1 &lt;= p2 into
+	 * elements less than p1, elements between p1 and p2, and elements greater than
+	 * p2 (Yaroslavskiy dual-pivot partitioning). One pivot is chosen from each half
+	 * of the range. If the middle part holds more than half of the range, elements
+	 * equal to either pivot are moved to its ends and excluded from it, and if the
+	 * pivots are equal the middle part is left out entirely.
+	 * 
+	 * @param data the data to sort
+	 * @param low the lowest index currently being sorted
+	 * @param high the highest index currently being sorted
+	 * @return a four-element array holding the last index of the left part, the
+	 *         first and last indexes of the middle part, and the first index of the
+	 *         right part
+	 */
+	private int[] dualPivotPartition(E[] data, int low, int high) {
+		int mid = (low + high) >>> 1;
+		int second = choosePivot(data, mid + 1, high);
+		swap(data, choosePivot(data, low, mid), low);
+		swap(data, second, high);
+		if (compare(data[high], data[low]) < 0) {
+			swap(data, low, high);
+		}
+		E pivot1 = data[low];
+		E pivot2 = data[high];
+		int lt = low + 1;
+		int gt = high - 1;
+		int i = low + 1;
+		while (i <= gt) {
+			if (compare(data[i], pivot1) < 0) {
+				swap(data, lt++, i++);
+			} else if (compare(pivot2, data[i]) < 0) {
+				swap(data, i, gt--);
+			} else {
+				i++;
+			}
+		}
+		swap(data, low, --lt);
+		swap(data, high, ++gt);
+		int middleStart = lt + 1;
+		int middleEnd = gt - 1;
+		if (compare(pivot1, pivot2) == 0) {
+			middleEnd = middleStart - 1;
+		} else if (middleEnd - middleStart > (high - low) / 2) {
+			i = middleStart;
+			while (i <= middleEnd) {
+				if (compare(data[i], pivot1) == 0) {
+					swap(data, middleStart++, i++);
+				} else if (compare(data[i], pivot2) == 0) {
+					swap(data, i, middleEnd--);
+				} else {
+					i++;
+				}
+			}
+		}
+		return new int[] { lt - 1, middleStart, middleEnd, gt + 1 };
+	}
+	
+	/**
+	 * Returns the index of the pivot to use in introspective mode. The selector's
+	 * choice is the center of the sample: for small ranges the pivot is the median
+	 * of the first element, the selected element, and the last element; for large
+	 * ranges it is the median of three such medians (Tukey's ninther). If the
+	 * selector picks an end of the range, the middle element is sampled instead.
+	 * 
+	 * @param data the data to sort
+	 * @param low the lowest index currently being sorted
+	 * @param high the highest index currently being sorted
+	 * @return the index of the sampled pivot
+	 */
+	private int samplePivot(E[] data, int low, int high) {
+		int pick = selector.selectPivot(low, high);
+		if (pick == low || pick == high) {
+			pick = (low + high) >>> 1;
+		}
+		int size = high - low + 1;
+		if (size <= NINTHER_THRESHOLD) {
+			return medianOfThree(data, low, pick, high);
+		}
+		int step = size / 8;
+		pick = Math.max(low + 2 * step, Math.min(pick, high - 2 * step));
+		int first = medianOfThree(data, low, low + step, low + 2 * step);
+		int middle = medianOfThree(data, pick - step, pick, pick + step);
+		int last = medianOfThree(data, high - 2 * step, high - step, high);
+		return medianOfThree(data, first, middle, last);
+	}
+	
+	/**
+	 * Returns floor(log2(n)), or 0 if n is less than 2
+	 * 
+	 * @param n the value to take the logarithm of
+	 * @return the base-2 logarithm of n, rounded down
+	 */
+	private static int log2(int n) {
+		return n < 2 ? 0 : 31 - Integer.numberOfLeadingZeros(n);
 	}
 	
 	/**
@@ -132,7 +438,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	 * @return the index of the pivot
 	 */
 	private int partition(E[] data, int low, int high) {
-		int pivotIdx = selector.selectPivot(low, high);
+		int pivotIdx = choosePivot(data, low, high);
 		swap(data, pivotIdx, high);
 		return partitionHelper(data, low, high);
 	}
@@ -159,19 +465,20 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 		swap(data, pivotIdx, high);
 		return pivotIdx;
 	}
-	
+
 	/**
-	 * Helper method which swaps two elements of the inputed array
-	 * 
-	 * @param data the data to swap elements in
-	 * @param first the index of the first element to be swapped
-	 * @param second the index of the second element to be swapped
-	 */
-	private void swap(E[] data, int first, int second) {
-		E temp = data[second];
-		data[second] = data[first];
-		data[first] = temp;
-	}
+     * The partitioning schemes a QuickSorter can use
+     * 
+     * @author David Sweasey
+     */
+    public enum PartitionScheme {
+        /** Single pivot; elements equal to the pivot go to its left */
+        LOMUTO,
+        /** Single pivot; elements equal to the pivot are set aside and never sorted again */
+        THREE_WAY,
+        /** Two pivots splitting each range into three parts */
+        DUAL_PIVOT
+    }
 
 	/**
      * Defines the behaviors of a PivotSelector
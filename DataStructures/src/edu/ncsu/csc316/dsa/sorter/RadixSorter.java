@@ -3,7 +3,16 @@ package edu.ncsu.csc316.dsa.sorter;
 import edu.ncsu.csc316.dsa.data.Identifiable;
 
 /**
- * RadixSorter uses the radix sort algorithm to sort data
+ * RadixSorter uses the least-significant-digit radix sort algorithm to sort data
+ * by id. Each digit is a group of bits, so the radix is a power of two (256 by
+ * default, which sorts any int id in at most 4 passes).
+ *
+ * Ids are read once into a primitive array, flipped so that negative ids sort
+ * before positive ones, and moved together with their elements between two
+ * buffers that are allocated once per sort. A single pass up front counts the
+ * digits for every pass, and any pass whose digit is the same for every element
+ * is skipped. The sort is stable.
+ *
  * @author Dr. King
  * @author David Sweasey
  *
@@ -11,39 +20,102 @@ import edu.ncsu.csc316.dsa.data.Identifiable;
  */
 public class RadixSorter<E extends Identifiable> implements Sorter<E> {
 
+	/** The default number of bits in each digit, for a radix of 256 */
+	public static final int DEFAULT_BITS_PER_DIGIT = 8;
+
+	/** The number of bits in each digit */
+	private int bitsPerDigit;
+
+	/**
+	 * Constructs a RadixSorter that uses a radix of 2^bitsPerDigit
+	 *
+	 * @param bitsPerDigit the number of bits in each digit, from 1 to 16
+	 * @throws IllegalArgumentException if bitsPerDigit is not between 1 and 16
+	 */
+	public RadixSorter(int bitsPerDigit) {
+		if (bitsPerDigit < 1 || bitsPerDigit > 16) {
+			throw new IllegalArgumentException("Bits per digit must be between 1 and 16");
+		}
+		this.bitsPerDigit = bitsPerDigit;
+	}
+
+	/**
+	 * Constructs a RadixSorter that uses a radix of 256
+	 */
+	public RadixSorter() {
+		this(DEFAULT_BITS_PER_DIGIT);
+	}
+
+	/**
+	 * Returns the number of bits in each digit
+	 *
+	 * @return the number of bits in each digit
+	 */
+	public int getBitsPerDigit() {
+		return bitsPerDigit;
+	}
+
 	@Override
 	public void sort(E[] data) {
-		int max = 0;
-		for (int i = 0; i < data.length; i++) {
-			max = Math.max(max, data[i].getId());
+		int n = data.length;
+		if (n < 2) {
+			return;
 		}
-		int place = (int) Math.ceil(Math.log10(max + 1));
-		
-		int currPlace = 1;
-		for (int j = 1; j <= place; j++) {
-			int[] digits = new int[10];
-			for (int i = 0; i < data.length; i++) {
-				digits[ (data[i].getId() / currPlace) % 10 ] = digits[ (data[i].getId() / currPlace) % 10] + 1;
+		int radix = 1 << bitsPerDigit;
+		int mask = radix - 1;
+		int passes = (Integer.SIZE + bitsPerDigit - 1) / bitsPerDigit;
+
+		// Flipping the sign bit maps signed ids onto unsigned values in the same order
+		int[] keys = new int[n];
+		int[][] counts = new int[passes][radix];
+		for (int i = 0; i < n; i++) {
+			int key = data[i].getId() ^ Integer.MIN_VALUE;
+			keys[i] = key;
+			for (int pass = 0; pass < passes; pass++) {
+				counts[pass][(key >>> (pass * bitsPerDigit)) & mask]++;
 			}
-			
-			for (int i = 1; i < 10; i++) {
-				digits[i] = digits[i - 1] + digits[i];
+		}
+
+		int[] keyBuffer = new int[n];
+		@SuppressWarnings("unchecked")
+		E[] buffer = (E[]) (new Identifiable[n]);
+		E[] from = data;
+		E[] to = buffer;
+		int[] fromKeys = keys;
+		int[] toKeys = keyBuffer;
+		for (int pass = 0; pass < passes; pass++) {
+			int shift = pass * bitsPerDigit;
+			int[] count = counts[pass];
+			if (count[(fromKeys[0] >>> shift) & mask] == n) {
+				continue;
 			}
-			
-			@SuppressWarnings("unchecked")
-			E[] sorted = (E[]) (new Identifiable[data.length]);
-			for (int i = data.length - 1; i >= 0; i--) {
-				sorted[ digits[ (data[i].getId() / currPlace) % 10] - 1] = data[i];
-				digits[ (data[i].getId() / currPlace) % 10] = digits[ (data[i].getId() / currPlace) % 10] - 1;
+
+			// Turn the counts into the starting index of each digit
+			int next = 0;
+			for (int digit = 0; digit < radix; digit++) {
+				int size = count[digit];
+				count[digit] = next;
+				next += size;
 			}
-			
-			for (int i = 0; i < data.length; i++) {
-				data[i] = sorted[i];
+
+			for (int i = 0; i < n; i++) {
+				int key = fromKeys[i];
+				int index = count[(key >>> shift) & mask]++;
+				to[index] = from[i];
+				toKeys[index] = key;
 			}
-			
-			currPlace *= 10;
+
+			E[] tempData = from;
+			from = to;
+			to = tempData;
+			int[] tempKeys = fromKeys;
+			fromKeys = toKeys;
+			toKeys = tempKeys;
+		}
+
+		// Puts the sorted elements in the original array
+		if (from != data) {
+			System.arraycopy(from, 0, data, 0, n);
 		}
 	}
-	
-	
 }
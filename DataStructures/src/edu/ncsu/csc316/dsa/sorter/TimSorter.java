@@ -0,0 +1,550 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * TimSorter sorts arrays of comparable elements using an adaptive natural merge
+ * sort in the style of TimSort. The array is scanned for runs that are already
+ * ascending or strictly descending; descending runs are reversed in place, and
+ * runs shorter than a minimum length are extended with binary insertion sort.
+ * Runs are merged as they are found, keeping the pending run lengths balanced,
+ * and merges switch to galloping (exponential search) when one run keeps
+ * winning, so long stretches that are already in place are copied in bulk.
+ *
+ * Already sorted or reverse sorted input is sorted in O(n) time, nearly sorted
+ * input in close to O(n) time, and any input in O(nlogn) worst-case time. The
+ * sort is stable.
+ *
+ * @author David Sweasey
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class TimSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** Arrays shorter than this are sorted with a single binary insertion sort */
+	private static final int MIN_MERGE = 32;
+
+	/** The number of consecutive wins by one run that switches a merge to galloping */
+	private static final int MIN_GALLOP = 7;
+
+	/** The maximum number of pending runs; enough for any array given the run invariants */
+	private static final int MAX_PENDING_RUNS = 49;
+
+	/**
+	 * Constructs a new TimSorter with a specified custom Comparator
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public TimSorter(Comparator<E> comparator) {
+		super(comparator);
+	}
+
+	/**
+	 * Constructs a new TimSorter with comparisons based on the element's natural
+	 * ordering
+	 */
+	public TimSorter() {
+		this(null);
+	}
+
+	@Override
+	public void sort(E[] data) {
+		int n = data.length;
+		if (n < 2) {
+			return;
+		}
+		if (n < MIN_MERGE) {
+			int runLength = countRunAndMakeAscending(data, 0, n);
+			binarySort(data, 0, n, runLength);
+			return;
+		}
+
+		MergeState state = new MergeState(data);
+		int minRun = minRunLength(n);
+		int low = 0;
+		int remaining = n;
+		while (remaining != 0) {
+			int runLength = countRunAndMakeAscending(data, low, low + remaining);
+			if (runLength < minRun) {
+				int forced = Math.min(remaining, minRun);
+				binarySort(data, low, low + forced, low + runLength);
+				runLength = forced;
+			}
+			state.pushRun(low, runLength);
+			state.mergeCollapse();
+			low += runLength;
+			remaining -= runLength;
+		}
+		state.mergeForceCollapse();
+	}
+
+	/**
+	 * Returns the length of the run starting at low, reversing it first if it is
+	 * strictly descending. Only strictly descending runs are reversed so that
+	 * equal elements keep their order.
+	 *
+	 * @param data the data to sort
+	 * @param low the first index of the run
+	 * @param high one past the last index that may be part of the run
+	 * @return the length of the run
+	 */
+	private int countRunAndMakeAscending(E[] data, int low, int high) {
+		int runHigh = low + 1;
+		if (runHigh == high) {
+			return 1;
+		}
+		if (compare(data[runHigh++], data[low]) < 0) {
+			while (runHigh < high && compare(data[runHigh], data[runHigh - 1]) < 0) {
+				runHigh++;
+			}
+			reverse(data, low, runHigh);
+		} else {
+			while (runHigh < high && compare(data[runHigh], data[runHigh - 1]) >= 0) {
+				runHigh++;
+			}
+		}
+		return runHigh - low;
+	}
+
+	/**
+	 * Reverses data[low, high)
+	 *
+	 * @param data the array holding the range
+	 * @param low the first index of the range
+	 * @param high one past the last index of the range
+	 */
+	private void reverse(E[] data, int low, int high) {
+		high--;
+		while (low < high) {
+			E temp = data[low];
+			data[low++] = data[high];
+			data[high--] = temp;
+		}
+	}
+
+	/**
+	 * Sorts data[low, high) with binary insertion sort, given that data[low, start)
+	 * is already sorted. Each element is inserted after any equal elements.
+	 *
+	 * @param data the data to sort
+	 * @param low the first index of the range
+	 * @param high one past the last index of the range
+	 * @param start the first index that is not yet sorted
+	 */
+	private void binarySort(E[] data, int low, int high, int start) {
+		for (int i = Math.max(start, low + 1); i < high; i++) {
+			E pivot = data[i];
+			int left = low;
+			int right = i;
+			while (left < right) {
+				int mid = (left + right) >>> 1;
+				if (compare(pivot, data[mid]) < 0) {
+					right = mid;
+				} else {
+					left = mid + 1;
+				}
+			}
+			System.arraycopy(data, left, data, left + 1, i - left);
+			data[left] = pivot;
+		}
+	}
+
+	/**
+	 * Returns the minimum run length for an array of length n: a value between
+	 * MIN_MERGE / 2 and MIN_MERGE such that n / minRun is a power of two or
+	 * slightly less than one, which keeps the final merges balanced
+	 *
+	 * @param n the length of the array
+	 * @return the minimum run length
+	 */
+	private static int minRunLength(int n) {
+		int extra = 0;
+		while (n >= MIN_MERGE) {
+			extra |= n & 1;
+			n >>= 1;
+		}
+		return n + extra;
+	}
+
+	/**
+	 * Returns the index in sorted data[base, base + length) where key belongs
+	 * before any equal elements, searching outward from base + hint
+	 *
+	 * @param key the element to locate
+	 * @param data the array holding the sorted range
+	 * @param base the first index of the range
+	 * @param length the length of the range
+	 * @param hint the offset from base to start searching at
+	 * @return the number of elements in the range that are less than key
+	 */
+	private int gallopLeft(E key, E[] data, int base, int length, int hint) {
+		int lastOffset = 0;
+		int offset = 1;
+		if (compare(key, data[base + hint]) > 0) {
+			int maxOffset = length - hint;
+			while (offset < maxOffset && compare(key, data[base + hint + offset]) > 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			lastOffset += hint;
+			offset += hint;
+		} else {
+			int maxOffset = hint + 1;
+			while (offset < maxOffset && compare(key, data[base + hint - offset]) <= 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		}
+		// Now data[base + lastOffset] < key <= data[base + offset]; binary search between them
+		lastOffset++;
+		while (lastOffset < offset) {
+			int mid = lastOffset + ((offset - lastOffset) >>> 1);
+			if (compare(key, data[base + mid]) > 0) {
+				lastOffset = mid + 1;
+			} else {
+				offset = mid;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the index in sorted data[base, base + length) where key belongs
+	 * after any equal elements, searching outward from base + hint
+	 *
+	 * @param key the element to locate
+	 * @param data the array holding the sorted range
+	 * @param base the first index of the range
+	 * @param length the length of the range
+	 * @param hint the offset from base to start searching at
+	 * @return the number of elements in the range that are less than or equal to key
+	 */
+	private int gallopRight(E key, E[] data, int base, int length, int hint) {
+		int lastOffset = 0;
+		int offset = 1;
+		if (compare(key, data[base + hint]) < 0) {
+			int maxOffset = hint + 1;
+			while (offset < maxOffset && compare(key, data[base + hint - offset]) < 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		} else {
+			int maxOffset = length - hint;
+			while (offset < maxOffset && compare(key, data[base + hint + offset]) >= 0) {
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if (offset <= 0) {
+					offset = maxOffset;
+				}
+			}
+			offset = Math.min(offset, maxOffset);
+			lastOffset += hint;
+			offset += hint;
+		}
+		// Now data[base + lastOffset] <= key < data[base + offset]; binary search between them
+		lastOffset++;
+		while (lastOffset < offset) {
+			int mid = lastOffset + ((offset - lastOffset) >>> 1);
+			if (compare(key, data[base + mid]) < 0) {
+				offset = mid;
+			} else {
+				lastOffset = mid + 1;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * MergeState holds the stack of pending runs and the scratch array for a
+	 * single call to sort
+	 *
+	 * @author David Sweasey
+	 */
+	private class MergeState {
+
+		/** The data being sorted */
+		private E[] data;
+
+		/** Scratch array holding the smaller run during a merge; grown as needed */
+		private E[] temp;
+
+		/** The first index of each pending run */
+		private int[] runBase = new int[MAX_PENDING_RUNS];
+
+		/** The length of each pending run */
+		private int[] runLength = new int[MAX_PENDING_RUNS];
+
+		/** The number of pending runs */
+		private int size;
+
+		/**
+		 * Constructs the merge state for sorting the given data
+		 *
+		 * @param data the data being sorted
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		MergeState(E[] data) {
+			this.data = data;
+			this.temp = (E[]) new Comparable[Math.min(256, data.length / 2 + 1)];
+		}
+
+		/**
+		 * Pushes a run onto the stack of pending runs
+		 *
+		 * @param base the first index of the run
+		 * @param length the length of the run
+		 */
+		void pushRun(int base, int length) {
+			runBase[size] = base;
+			runLength[size] = length;
+			size++;
+		}
+
+		/**
+		 * Merges pending runs until, for the top runs X, Y, Z, W (W on top),
+		 * length(X) &gt; length(Y) + length(Z), length(Y) &gt; length(Z) + length(W)
+		 * and length(Z) &gt; length(W). This keeps the run lengths growing at least as
+		 * fast as the Fibonacci numbers, so the stack stays short and merges stay balanced.
+		 */
+		void mergeCollapse() {
+			while (size > 1) {
+				int n = size - 2;
+				if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+						|| n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+					if (runLength[n - 1] < runLength[n + 1]) {
+						n--;
+					}
+				} else if (runLength[n] > runLength[n + 1]) {
+					break;
+				}
+				mergeAt(n);
+			}
+		}
+
+		/**
+		 * Merges all pending runs into one
+		 */
+		void mergeForceCollapse() {
+			while (size > 1) {
+				int n = size - 2;
+				if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+					n--;
+				}
+				mergeAt(n);
+			}
+		}
+
+		/**
+		 * Merges pending runs i and i + 1. Elements of the first run that are no
+		 * larger than the start of the second, and elements of the second run that
+		 * are no smaller than the end of the first, are already in place and are
+		 * left out of the merge.
+		 *
+		 * @param i the stack index of the first run
+		 */
+		private void mergeAt(int i) {
+			int base1 = runBase[i];
+			int length1 = runLength[i];
+			int base2 = runBase[i + 1];
+			int length2 = runLength[i + 1];
+
+			runLength[i] = length1 + length2;
+			if (i == size - 3) {
+				runBase[i + 1] = runBase[i + 2];
+				runLength[i + 1] = runLength[i + 2];
+			}
+			size--;
+
+			int skipped = gallopRight(data[base2], data, base1, length1, 0);
+			base1 += skipped;
+			length1 -= skipped;
+			if (length1 == 0) {
+				return;
+			}
+			length2 = gallopLeft(data[base1 + length1 - 1], data, base2, length2, length2 - 1);
+			if (length2 == 0) {
+				return;
+			}
+
+			if (length1 <= length2) {
+				mergeLow(base1, length1, base2, length2);
+			} else {
+				mergeHigh(base1, length1, base2, length2);
+			}
+		}
+
+		/**
+		 * Merges two adjacent runs from left to right, copying the first (shorter)
+		 * run into the scratch array. The first element of the second run must be
+		 * less than the first element of the first run, and the last element of the
+		 * first run must be greater than every element of the second run.
+		 *
+		 * @param base1 the first index of the first run
+		 * @param length1 the length of the first run
+		 * @param base2 the first index of the second run
+		 * @param length2 the length of the second run
+		 */
+		private void mergeLow(int base1, int length1, int base2, int length2) {
+			E[] run1 = ensureCapacity(length1);
+			System.arraycopy(data, base1, run1, 0, length1);
+			int cursor1 = 0;
+			int cursor2 = base2;
+			int dest = base1;
+
+			data[dest++] = data[cursor2++];
+			length2--;
+			while (length1 > 0 && length2 > 0) {
+				int count1 = 0;
+				int count2 = 0;
+				// Take one element at a time until one run wins MIN_GALLOP times in a row
+				while (length1 > 0 && length2 > 0 && (count1 | count2) < MIN_GALLOP) {
+					if (compare(data[cursor2], run1[cursor1]) < 0) {
+						data[dest++] = data[cursor2++];
+						length2--;
+						count2++;
+						count1 = 0;
+					} else {
+						data[dest++] = run1[cursor1++];
+						length1--;
+						count1++;
+						count2 = 0;
+					}
+				}
+				// Gallop while either run keeps contributing long stretches
+				while (length1 > 0 && length2 > 0) {
+					count1 = gallopRight(data[cursor2], run1, cursor1, length1, 0);
+					System.arraycopy(run1, cursor1, data, dest, count1);
+					dest += count1;
+					cursor1 += count1;
+					length1 -= count1;
+					if (length1 == 0) {
+						break;
+					}
+					data[dest++] = data[cursor2++];
+					length2--;
+					if (length2 == 0) {
+						break;
+					}
+					count2 = gallopLeft(run1[cursor1], data, cursor2, length2, 0);
+					System.arraycopy(data, cursor2, data, dest, count2);
+					dest += count2;
+					cursor2 += count2;
+					length2 -= count2;
+					if (length2 == 0) {
+						break;
+					}
+					data[dest++] = run1[cursor1++];
+					length1--;
+					if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) {
+						break;
+					}
+				}
+			}
+			// Anything left in the second run is already in place
+			System.arraycopy(run1, cursor1, data, dest, length1);
+		}
+
+		/**
+		 * Merges two adjacent runs from right to left, copying the second (shorter)
+		 * run into the scratch array. The same conditions as mergeLow apply.
+		 *
+		 * @param base1 the first index of the first run
+		 * @param length1 the length of the first run
+		 * @param base2 the first index of the second run
+		 * @param length2 the length of the second run
+		 */
+		private void mergeHigh(int base1, int length1, int base2, int length2) {
+			E[] run2 = ensureCapacity(length2);
+			System.arraycopy(data, base2, run2, 0, length2);
+			int cursor1 = base1 + length1 - 1;
+			int cursor2 = length2 - 1;
+			int dest = base2 + length2 - 1;
+
+			data[dest--] = data[cursor1--];
+			length1--;
+			while (length1 > 0 && length2 > 0) {
+				int count1 = 0;
+				int count2 = 0;
+				// Take one element at a time until one run wins MIN_GALLOP times in a row
+				while (length1 > 0 && length2 > 0 && (count1 | count2) < MIN_GALLOP) {
+					if (compare(run2[cursor2], data[cursor1]) < 0) {
+						data[dest--] = data[cursor1--];
+						length1--;
+						count1++;
+						count2 = 0;
+					} else {
+						data[dest--] = run2[cursor2--];
+						length2--;
+						count2++;
+						count1 = 0;
+					}
+				}
+				// Gallop while either run keeps contributing long stretches
+				while (length1 > 0 && length2 > 0) {
+					count1 = length1 - gallopRight(run2[cursor2], data, base1, length1, length1 - 1);
+					dest -= count1;
+					cursor1 -= count1;
+					length1 -= count1;
+					System.arraycopy(data, cursor1 + 1, data, dest + 1, count1);
+					if (length1 == 0) {
+						break;
+					}
+					data[dest--] = run2[cursor2--];
+					length2--;
+					if (length2 == 0) {
+						break;
+					}
+					count2 = length2 - gallopLeft(data[cursor1], run2, 0, length2, length2 - 1);
+					dest -= count2;
+					cursor2 -= count2;
+					length2 -= count2;
+					System.arraycopy(run2, cursor2 + 1, data, dest + 1, count2);
+					if (length2 == 0) {
+						break;
+					}
+					data[dest--] = data[cursor1--];
+					length1--;
+					if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) {
+						break;
+					}
+				}
+			}
+			// Anything left in the first run is already in place
+			System.arraycopy(run2, 0, data, dest - length2 + 1, length2);
+		}
+
+		/**
+		 * Returns the scratch array, growing it to hold at least the given number of
+		 * elements if needed
+		 *
+		 * @param capacity the number of elements needed
+		 * @return the scratch array
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private E[] ensureCapacity(int capacity) {
+			if (temp.length < capacity) {
+				int newCapacity = Math.max(capacity, Math.min(2 * temp.length, data.length / 2 + 1));
+				temp = (E[]) new Comparable[newCapacity];
+			}
+			return temp;
+		}
+	}
+}
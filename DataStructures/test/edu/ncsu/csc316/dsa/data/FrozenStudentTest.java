@@ -0,0 +1,166 @@
+package edu.ncsu.csc316.dsa.data;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.sorter.KeySorter;
+
+/**
+ * Test class for FrozenStudent
+ *
+ * @author David Sweasey
+ */
+public class FrozenStudentTest {
+
+	/** A mutable student used for testing */
+	private Student student;
+
+	/** A frozen copy of student */
+	private FrozenStudent frozen;
+
+	/**
+	 * Creates the students used for testing
+	 */
+	@Before
+	public void setUp() {
+		student = new Student("Amber", "Thomas", 4, 12, 3.5, "athomas");
+		frozen = student.freeze();
+	}
+
+	/**
+	 * Tests that a frozen student holds the values of the student it was made from
+	 */
+	@Test
+	public void testFreeze() {
+		assertEquals("Amber", frozen.getFirst());
+		assertEquals("Thomas", frozen.getLast());
+		assertEquals(4, frozen.getId());
+		assertEquals(12, frozen.getCreditHours());
+		assertEquals(3.5, frozen.getGpa(), 0.001);
+		assertEquals("athomas", frozen.getUnityID());
+		assertSame(frozen, frozen.freeze());
+
+		// Later changes to the original do not reach the frozen copy
+		student.setFirst("Alicia");
+		assertEquals("Amber", frozen.getFirst());
+	}
+
+	/**
+	 * Tests that a frozen student cannot be changed
+	 */
+	@Test
+	public void testSetters() {
+		try {
+			frozen.setFirst("Alicia");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals("Amber", frozen.getFirst());
+		}
+		try {
+			frozen.setLast("Smith");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals("Thomas", frozen.getLast());
+		}
+		try {
+			frozen.setId(5);
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(4, frozen.getId());
+		}
+		try {
+			frozen.setCreditHours(15);
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(12, frozen.getCreditHours());
+		}
+		try {
+			frozen.setGpa(4.0);
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(3.5, frozen.getGpa(), 0.001);
+		}
+		try {
+			frozen.setUnityID("asmith");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals("athomas", frozen.getUnityID());
+		}
+	}
+
+	/**
+	 * Tests that frozen and mutable students with the same values are equal and
+	 * have the same hash code
+	 */
+	@Test
+	public void testEqualsAndHashCode() {
+		assertEquals(student, frozen);
+		assertEquals(frozen, student);
+		assertEquals(student.hashCode(), frozen.hashCode());
+
+		Student withNulls = new Student(null, null, 1, 1, 1.0, null);
+		assertEquals(withNulls.hashCode(), withNulls.freeze().hashCode());
+		assertEquals(withNulls, withNulls.freeze());
+
+		assertNotEquals(frozen, new FrozenStudent("Amber", "Thomas", 5, 12, 3.5, "athomas"));
+	}
+
+	/**
+	 * Tests that sort keys order names like String.compareTo whenever they differ
+	 */
+	@Test
+	public void testSortKey() {
+		assertEquals(FrozenStudent.sortKey(""), FrozenStudent.sortKey(null));
+		assertEquals(FrozenStudent.sortKey("Thom"), FrozenStudent.sortKey("Thomas"));
+		assertTrue(FrozenStudent.sortKey("") < FrozenStudent.sortKey("A"));
+		assertTrue(FrozenStudent.sortKey("Tho") < FrozenStudent.sortKey("Thomas"));
+		assertTrue(FrozenStudent.sortKey("Smith") < FrozenStudent.sortKey("Thomas"));
+		assertTrue(FrozenStudent.sortKey("Zed") < FrozenStudent.sortKey("\u00c9mile"));
+		assertTrue(FrozenStudent.sortKey("\u00c9mile") < FrozenStudent.sortKey("\uffffa"));
+	}
+
+	/**
+	 * Tests that frozen students compare exactly like mutable students
+	 */
+	@Test
+	public void testCompareTo() {
+		FrozenStudent same = new FrozenStudent("Amber", "Thomas", 4, 0, 0.0, "other");
+		assertEquals(0, frozen.compareTo(same));
+		assertEquals(-1, frozen.compareTo(new FrozenStudent("Amber", "Thomason", 1, 1, 1.0, "a")));
+		assertEquals(1, frozen.compareTo(new FrozenStudent("Amber", "Thom", 1, 1, 1.0, "a")));
+		assertEquals(1, frozen.compareTo(new FrozenStudent("Amb", "Thomas", 1, 1, 1.0, "a")));
+		assertEquals(-1, frozen.compareTo(new FrozenStudent("Amber", "Thomas", 5, 1, 1.0, "a")));
+		assertEquals(1, frozen.compareTo(new Student("Amber", "Smith", 1, 1, 1.0, "a")));
+
+		// Short alphabets and lengths make shared prefixes and ties common
+		String[] names = { "", "A", "Ab", "Abc", "Abcd", "Abcde", "Abcdf", "Abd", "B", "\u0000", "A\u0000",
+				"\u00c9mile", "\uffff", "\uffffa" };
+		Random random = new Random(316);
+		Student[] mutable = new Student[500];
+		FrozenStudent[] immutable = new FrozenStudent[mutable.length];
+		for (int i = 0; i < mutable.length; i++) {
+			mutable[i] = new Student(names[random.nextInt(names.length)], names[random.nextInt(names.length)],
+					random.nextInt(4), 1, 1.0, "u" + i);
+			immutable[i] = mutable[i].freeze();
+		}
+		for (int i = 0; i < mutable.length; i++) {
+			for (int j = 0; j < mutable.length; j++) {
+				int expected = mutable[i].compareTo(mutable[j]);
+				assertEquals(expected, immutable[i].compareTo(immutable[j]));
+				assertEquals(expected, immutable[i].compareTo(mutable[j]));
+			}
+		}
+
+		// Sorting by last name key with natural order as the tie breaker gives natural order
+		Student[] expected = mutable.clone();
+		Arrays.sort(expected);
+		KeySorter.byLong(FrozenStudent::getLastKey, false, Comparator.naturalOrder()).sort(immutable);
+		assertArrayEquals(expected, immutable);
+	}
+}
@@ -0,0 +1,143 @@
+package edu.ncsu.csc316.dsa.data;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.sorter.CountingSorter;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+import edu.ncsu.csc316.dsa.sorter.RadixSorter;
+
+/**
+ * Test class for StudentTable
+ * 
+ * @author David Sweasey
+ */
+public class StudentTableTest {
+
+	/** The roster the table is built from */
+	private Student[] roster;
+
+	/** The table used for testing */
+	private StudentTable table;
+
+	/**
+	 * Builds a table from the random-order roster
+	 */
+	@Before
+	public void setUp() {
+		roster = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		table = new StudentTable(roster);
+	}
+
+	/**
+	 * Tests adding Students and reading their columns back
+	 */
+	@Test
+	public void testAdd() {
+		assertEquals(16, table.size());
+		assertArrayEquals(roster, table.toArray());
+		assertEquals(roster[3].getFirst(), table.getFirst(3));
+		assertEquals(roster[3].getLast(), table.getLast(3));
+		assertEquals(roster[3].getUnityID(), table.getUnityID(3));
+		assertEquals(roster[3].getId(), table.getId(3));
+		assertEquals(roster[3].getGpa(), table.getGpa(3), 0);
+		assertEquals(roster[3].getCreditHours(), table.getCreditHours(3));
+		assertEquals(roster[3], table.toStudent(3));
+
+		StudentTable names = new StudentTable(0);
+		for (int i = 0; i < 40; i++) {
+			names.add(new Student("Pat", "Smith", i, 10, 3.0, "smith" + i));
+		}
+		assertEquals(40, names.size());
+		assertEquals(2, names.dictionarySize());
+		assertSame(names.getFirst(0), names.getFirst(39));
+		assertEquals("smith39", names.getUnityID(39));
+
+		names.trimToSize();
+		assertEquals(40, names.size());
+		assertEquals("Smith", names.getLast(39));
+		names.add(new Student("Pat", "Jones", 40, 10, 3.0, "jones"));
+		names.add(new Student("Sam", "Smith", 41, 10, 3.0, "smith41"));
+		assertEquals(42, names.size());
+		assertEquals(4, names.dictionarySize());
+		assertSame(names.getFirst(0), names.getFirst(40));
+		assertSame(names.getLast(0), names.getLast(41));
+		assertEquals("jones", names.getUnityID(40));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> table.getId(16));
+		assertThrows(IndexOutOfBoundsException.class, () -> table.row(-1));
+		assertThrows(IllegalArgumentException.class, () -> new StudentTable(-1));
+
+		table.add(roster[0]);
+		assertEquals(17, table.size());
+		assertEquals(roster[0], table.toStudent(16));
+	}
+
+	/**
+	 * Tests that row views read the columns of their position
+	 */
+	@Test
+	public void testRow() {
+		StudentTable.Row row = table.row(5);
+		assertEquals(5, row.getIndex());
+		assertEquals(roster[5].getFirst(), row.getFirst());
+		assertEquals(roster[5].getLast(), row.getLast());
+		assertEquals(roster[5].getUnityID(), row.getUnityID());
+		assertEquals(roster[5].getId(), row.getId());
+		assertEquals(roster[5].getGpa(), row.getGpa(), 0);
+		assertEquals(roster[5].getCreditHours(), row.getCreditHours());
+		assertEquals(0, row.compareTo(table.row(5)));
+		assertEquals(Integer.signum(roster[5].compareTo(roster[6])), Integer.signum(row.compareTo(table.row(6))));
+		assertTrue(row.toString().startsWith("Row [index=5, first=" + roster[5].getFirst()));
+	}
+
+	/**
+	 * Tests sorting the table with comparison sorters and sorters on ids
+	 */
+	@Test
+	public void testSort() {
+		Student[] expected = roster.clone();
+		Arrays.sort(expected);
+		table.sort(new MergeSorter<StudentTable.Row>());
+		assertArrayEquals(expected, table.toArray());
+
+		Arrays.sort(expected, new StudentGPAComparator());
+		table.sort(new QuickSorter<StudentTable.Row>(StudentTable.GPA_ORDER));
+		assertArrayEquals(expected, table.toArray());
+
+		Arrays.sort(expected, new StudentIDComparator());
+		table.sort(new RadixSorter<StudentTable.Row>());
+		assertArrayEquals(expected, table.toArray());
+
+		table.sort(new MergeSorter<StudentTable.Row>(StudentTable.GPA_ORDER));
+		table.sort(new CountingSorter<StudentTable.Row>());
+		assertArrayEquals(expected, table.toArray());
+		table.sort(new MergeSorter<StudentTable.Row>(StudentTable.ID_ORDER));
+		assertArrayEquals(expected, table.toArray());
+	}
+
+	/**
+	 * Tests that the row comparators order rows like the Student comparators
+	 */
+	@Test
+	public void testOrders() {
+		// A GPA of -0.0 ties with 0.0, so natural order decides
+		Student negativeZero = new Student("Pat", "Adams", 1, 10, -0.0, "adams");
+		Student zero = new Student("Pat", "Baker", 2, 10, 0.0, "baker");
+		StudentTable gpas = new StudentTable(new Student[] { negativeZero, zero });
+		assertTrue(new StudentGPAComparator().compare(negativeZero, zero) < 0);
+		assertTrue(StudentTable.GPA_ORDER.compare(gpas.row(0), gpas.row(1)) < 0);
+		assertTrue(StudentTable.GPA_ORDER.compare(gpas.row(1), gpas.row(0)) > 0);
+		assertEquals(0, StudentTable.GPA_ORDER.compare(gpas.row(0), gpas.row(0)));
+
+		assertTrue(StudentTable.ID_ORDER.compare(gpas.row(0), gpas.row(1)) < 0);
+		assertTrue(StudentTable.ID_ORDER.compare(gpas.row(1), gpas.row(0)) > 0);
+		assertEquals(0, StudentTable.ID_ORDER.compare(gpas.row(1), gpas.row(1)));
+	}
+}
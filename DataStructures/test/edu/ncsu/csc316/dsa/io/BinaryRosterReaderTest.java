@@ -0,0 +1,87 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Test class for BinaryRosterReader
+ * 
+ * @author David Sweasey
+ */
+public class BinaryRosterReaderTest {
+
+	/** The binary roster file read by each test */
+	private File file;
+
+	/**
+	 * Writes the ascending roster to a temporary binary file
+	 * 
+	 * @throws IOException if the file cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("roster", ".bin");
+		BinaryRosterWriter.convert("input/student_ascendingID.csv", file.getPath());
+	}
+
+	/**
+	 * Deletes the temporary file
+	 */
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Tests random access to single rows and fields
+	 */
+	@Test
+	public void testGet() {
+		BinaryRosterReader reader = new BinaryRosterReader(file.getPath());
+		assertEquals(16, reader.size());
+		Student last = reader.get(15);
+		assertEquals("Dante", last.getFirst());
+		assertEquals("Dante", reader.getFirst(15));
+		assertEquals(last.getLast(), reader.getLast(15));
+		assertEquals(last.getUnityID(), reader.getUnityID(15));
+		assertEquals(last.getId(), reader.getId(15));
+		assertEquals("Amber", reader.getFirst(0));
+		assertEquals("michaea", reader.getUnityID(0));
+		assertEquals(1, reader.getId(0));
+		assertEquals(1.10, reader.getGpa(0), 0);
+		assertEquals(10, reader.getCreditHours(0));
+
+		Exception e = assertThrows(IndexOutOfBoundsException.class, () -> reader.get(16));
+		assertEquals("Index is invalid: 16 (size=16)", e.getMessage());
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.getId(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.getFirst(16));
+	}
+
+	/**
+	 * Tests that missing files and files that are not binary rosters are rejected
+	 * 
+	 * @throws IOException if the test files cannot be written
+	 */
+	@Test
+	public void testInvalidFile() throws IOException {
+		assertThrows(IllegalArgumentException.class, () -> new BinaryRosterReader("thisfiledoesnotexist.bin"));
+		assertThrows(IllegalArgumentException.class,
+				() -> new BinaryRosterReader("input/student_ascendingID.csv"));
+
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+		assertThrows(IllegalArgumentException.class, () -> new BinaryRosterReader(file.getPath()));
+		Files.write(file.toPath(), new byte[3]);
+		assertThrows(IllegalArgumentException.class, () -> new BinaryRosterReader(file.getPath()));
+	}
+}
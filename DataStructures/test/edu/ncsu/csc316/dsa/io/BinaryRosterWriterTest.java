@@ -0,0 +1,83 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Test class for BinaryRosterWriter
+ * 
+ * @author David Sweasey
+ */
+public class BinaryRosterWriterTest {
+
+	/** The binary roster file written by each test */
+	private File file;
+
+	/**
+	 * Creates a temporary file for the binary roster
+	 * 
+	 * @throws IOException if the file cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("roster", ".bin");
+	}
+
+	/**
+	 * Deletes the temporary file
+	 */
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Tests converting a CSV file and reading every row back
+	 */
+	@Test
+	public void testConvert() {
+		assertEquals(16, BinaryRosterWriter.convert("input/student_randomOrder.csv", file.getPath()));
+		Student[] expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		BinaryRosterReader reader = new BinaryRosterReader(file.getPath());
+		assertEquals(16, reader.size());
+		assertArrayEquals(expected, reader.toArray());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getGpa(), reader.getGpa(i), 0);
+			assertEquals(expected[i].getCreditHours(), reader.getCreditHours(i));
+		}
+		assertThrows(IllegalArgumentException.class,
+				() -> BinaryRosterWriter.convert("thisfiledoesnotexist.txt", file.getPath()));
+	}
+
+	/**
+	 * Tests writing an array of Students, including an empty roster, non-ASCII
+	 * names and empty strings, over an existing file
+	 * 
+	 * @throws IOException if the file cannot be inspected
+	 */
+	@Test
+	public void testWrite() throws IOException {
+		Student[] students = { new Student("Z\u00e9lie", "\u4e2d\ud83d\ude00", 7, 12, 3.75, "zelie"),
+			new Student("", "Last", -1, 0, 0.0, ""), new Student("Amber", "Michael", 1, 10, 1.1, "michaea") };
+		BinaryRosterWriter.write(students, file.getPath());
+		BinaryRosterReader reader = new BinaryRosterReader(file.getPath());
+		assertArrayEquals(students, reader.toArray());
+		assertEquals("\u4e2d\ud83d\ude00", reader.getLast(0));
+		assertEquals("", reader.getFirst(1));
+		assertEquals(-1, reader.getId(1));
+		assertEquals(3.75, reader.getGpa(0), 0);
+
+		BinaryRosterWriter.write(new Student[0], file.getPath());
+		assertEquals(0, new BinaryRosterReader(file.getPath()).size());
+		assertEquals(BinaryRosterReader.heapPosition(0), Files.size(file.toPath()));
+	}
+}
@@ -0,0 +1,149 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+
+/**
+ * Test class for ExternalStudentSorter
+ * 
+ * @author David Sweasey
+ */
+public class ExternalStudentSorterTest {
+
+	/** Directory holding temporary run files and output files */
+	private File directory;
+
+	/**
+	 * Creates an empty directory for temporary files
+	 * 
+	 * @throws IOException if the directory cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("external").toFile();
+	}
+
+	/**
+	 * Deletes the temporary directory and anything left in it
+	 */
+	@After
+	public void tearDown() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	/**
+	 * Tests sorting an input roster into an output CSV file with tiny chunks
+	 */
+	@Test
+	public void testSortToFile() {
+		ExternalStudentSorter external = new ExternalStudentSorter(new MergeSorter<Student>(), null, 3, directory);
+		String output = new File(directory, "sorted.csv").getPath();
+		external.sort("input/student_randomOrder.csv", output);
+
+		Student[] expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		new MergeSorter<Student>().sort(expected);
+		Student[] actual = StudentReader.readInputAsArray(output);
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i]);
+			assertEquals(expected[i].getUnityID(), actual[i].getUnityID());
+			assertEquals(expected[i].getGpa(), actual[i].getGpa(), 0.0001);
+			assertEquals(expected[i].getCreditHours(), actual[i].getCreditHours());
+		}
+		// Only the output file is left behind
+		assertEquals(1, directory.listFiles().length);
+	}
+
+	/**
+	 * Tests iterating over a large input sorted by GPA with more runs than can be
+	 * merged at once
+	 * 
+	 * @throws IOException if the input file cannot be written
+	 */
+	@Test
+	public void testIteratorManyRuns() throws IOException {
+		File input = new File(directory, "roster.csv");
+		Random rand = new Random(316);
+		Student[] expected = new Student[5000];
+		try (PrintWriter out = new PrintWriter(input, "UTF8")) {
+			out.println("FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS");
+			for (int i = 0; i < expected.length; i++) {
+				expected[i] = new Student("First" + rand.nextInt(100), "Last" + rand.nextInt(100), i,
+						rand.nextInt(18), rand.nextInt(400) / 100.0, "unity" + i);
+				Student s = expected[i];
+				out.println(s.getFirst() + "," + s.getLast() + "," + s.getUnityID() + "," + s.getId() + ","
+						+ s.getGpa() + "," + s.getCreditHours());
+			}
+		}
+		StudentGPAComparator comp = new StudentGPAComparator();
+		new MergeSorter<Student>(comp).sort(expected);
+
+		ExternalStudentSorter external = new ExternalStudentSorter(new QuickSorter<Student>(comp), comp, 25,
+				directory);
+		Iterator<Student> it = external.iterator(input.getPath());
+		for (int i = 0; i < expected.length; i++) {
+			assertTrue(it.hasNext());
+			assertEquals(expected[i], it.next());
+		}
+		assertFalse(it.hasNext());
+		assertThrows(NoSuchElementException.class, () -> it.next());
+		assertEquals(1, directory.listFiles().length);
+	}
+
+	/**
+	 * Tests that closing an iterator before it is exhausted deletes the runs it
+	 * has not finished merging
+	 */
+	@Test
+	public void testIteratorClose() {
+		ExternalStudentSorter external = new ExternalStudentSorter(new MergeSorter<Student>(), null, 3, directory);
+		ExternalStudentSorter.MergeIterator it = external.iterator("input/student_randomOrder.csv");
+		assertTrue(directory.listFiles().length > 1);
+		it.next();
+		it.next();
+		it.close();
+		assertEquals(0, directory.listFiles().length);
+		assertFalse(it.hasNext());
+		it.close();
+		assertFalse(it.hasNext());
+	}
+
+	/**
+	 * Tests sorting an input with no students, a missing input, and invalid settings
+	 * 
+	 * @throws IOException if the input file cannot be written
+	 */
+	@Test
+	public void testEdgeCases() throws IOException {
+		File input = new File(directory, "empty.csv");
+		try (PrintWriter out = new PrintWriter(input, "UTF8")) {
+			out.println("FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS");
+		}
+		ExternalStudentSorter external = new ExternalStudentSorter(new MergeSorter<Student>(), null);
+		assertFalse(external.iterator(input.getPath()).hasNext());
+
+		assertThrows(IllegalArgumentException.class, () -> external.iterator("thisfiledoesnotexist.txt"));
+		assertThrows(IllegalArgumentException.class, () -> new ExternalStudentSorter(null, null));
+		assertThrows(IllegalArgumentException.class,
+				() -> new ExternalStudentSorter(new MergeSorter<Student>(), null, 0, null));
+	}
+}
@@ -0,0 +1,58 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Test class for StringTable
+ * 
+ * @author David Sweasey
+ */
+public class StringTableTest {
+
+	/**
+	 * Tests that equal bytes give the same String instance and different bytes
+	 * give different Strings
+	 */
+	@Test
+	public void testIntern() {
+		StringTable table = new StringTable();
+		assertEquals(1, table.getDedupRatio(), 0);
+		byte[] bytes = "xxAmberxxAraAmber".getBytes(StandardCharsets.UTF_8);
+		String amber = table.intern(bytes, 2, 5);
+		assertEquals("Amber", amber);
+		assertSame(amber, table.intern(bytes, 12, 5));
+		assertEquals("Ara", table.intern(bytes, 9, 3));
+		assertEquals("", table.intern(bytes, 0, 0));
+		assertSame(table.intern(bytes, 3, 0), table.intern(bytes, 0, 0));
+		assertEquals(3, table.size());
+		assertEquals(6, table.getLookups());
+		assertEquals(2.0, table.getDedupRatio(), 0);
+
+		byte[] accented = "Z\u00e9lie".getBytes(StandardCharsets.UTF_8);
+		assertEquals("Z\u00e9lie", table.intern(accented, 0, accented.length));
+	}
+
+	/**
+	 * Tests that Strings survive the table growing
+	 */
+	@Test
+	public void testResize() {
+		StringTable table = new StringTable();
+		String[] interned = new String[5000];
+		for (int i = 0; i < interned.length; i++) {
+			byte[] bytes = ("name" + i).getBytes(StandardCharsets.UTF_8);
+			interned[i] = table.intern(bytes, 0, bytes.length);
+		}
+		assertEquals(5000, table.size());
+		for (int i = 0; i < interned.length; i++) {
+			byte[] bytes = ("name" + i).getBytes(StandardCharsets.UTF_8);
+			assertSame(interned[i], table.intern(bytes, 0, bytes.length));
+		}
+		assertEquals(5000, table.size());
+		assertEquals(2.0, table.getDedupRatio(), 0);
+	}
+}
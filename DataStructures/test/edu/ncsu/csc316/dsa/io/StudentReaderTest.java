@@ -2,6 +2,12 @@ package edu.ncsu.csc316.dsa.io;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
@@ -61,4 +67,176 @@ public class StudentReaderTest {
 		assertThrows(IllegalArgumentException.class, 
 				() -> StudentReader.readInputAsArray("thisfiledoesnotexist.txt"));
 	}
+	
+	/**
+	 * Tests reading Windows line endings, blank lines, extra fields, non-ASCII
+	 * names, negative values and GPAs that fall back to Double.parseDouble
+	 * 
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	public void testReadFormats() throws IOException {
+		File file = File.createTempFile("students", ".csv");
+		try {
+			Files.write(file.toPath(), ("FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS\r\n"
+					+ "Amber,Michael,michaela,1,3.5,15\r\n"
+					+ "\r\n"
+					+ "Z\u00e9lie,Fran\u00e7ois,francz,-7,4,12,extra\n"
+					+ "\n"
+					+ "Ara,Roth,rotha,2147483647,2.5e0,0\n"
+					+ "Lacie,Mott,mottl,4,0.123456789012345678,9").getBytes(StandardCharsets.UTF_8));
+			Student[] contents = StudentReader.readInputAsArray(file.getPath());
+			assertEquals(4, contents.length);
+			assertEquals("Amber", contents[0].getFirst());
+			assertEquals("michaela", contents[0].getUnityID());
+			assertEquals(3.5, contents[0].getGpa(), 0);
+			assertEquals(15, contents[0].getCreditHours());
+			assertEquals("Z\u00e9lie", contents[1].getFirst());
+			assertEquals("Fran\u00e7ois", contents[1].getLast());
+			assertEquals(-7, contents[1].getId());
+			assertEquals(4.0, contents[1].getGpa(), 0);
+			assertEquals(12, contents[1].getCreditHours());
+			assertEquals(Integer.MAX_VALUE, contents[2].getId());
+			assertEquals(2.5, contents[2].getGpa(), 0);
+			assertEquals(0.123456789012345678, contents[3].getGpa(), 0);
+			assertEquals(9, contents[3].getCreditHours());
+		} finally {
+			file.delete();
+		}
+	}
+	
+	/**
+	 * Tests that GPAs parsed by hand match Double.parseDouble exactly
+	 */
+	@Test
+	public void testProcessLineGpa() {
+		String[] gpas = { "0", "0.1", "2.72", "3.999999", "1.0000000000001", ".5", "7.", "-0.3", "123456.789012345" };
+		for (String gpa : gpas) {
+			Student s = StudentReader.processLine("A,B,c,1," + gpa + ",2");
+			assertEquals(Double.parseDouble(gpa), s.getGpa(), 0);
+		}
+	}
+	
+	/**
+	 * Tests that malformed records are rejected
+	 * 
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	public void testInvalidRecord() throws IOException {
+		String[] lines = { "A,B,c", "A,B,c,x,3.0,2", "A,B,c,1,3.0", "A,B,c,1,three,2", "A,B,c,99999999999,3.0,2",
+			"A,B,c,1,3.0,2x", "A,B,c,1,.,2" };
+		for (String line : lines) {
+			Exception e = assertThrows(IllegalArgumentException.class, () -> StudentReader.processLine(line));
+			assertEquals("Invalid student record: " + line, e.getMessage());
+		}
+		File file = File.createTempFile("students", ".csv");
+		try {
+			Files.write(file.toPath(), "HEADER\nA,B,c,1,3.0,2\nA,B,c,one,3.0,2\n".getBytes(StandardCharsets.UTF_8));
+			assertThrows(IllegalArgumentException.class, () -> StudentReader.readInputAsArray(file.getPath()));
+			Files.write(file.toPath(), new byte[0]);
+			assertEquals(0, StudentReader.readInputAsArray(file.getPath()).length);
+		} finally {
+			file.delete();
+		}
+	}
+	
+	/**
+	 * Tests that parsing in parallel gives the same Students in the same order as
+	 * parsing on one thread, and that the throughput counters add up
+	 * 
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	public void testReadParallel() throws IOException {
+		File file = File.createTempFile("students", ".csv");
+		try {
+			StringBuilder csv = new StringBuilder("FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS\n");
+			Random random = new Random(316);
+			for (int i = 0; i < 20000; i++) {
+				csv.append("First").append(random.nextInt(100)).append(",Last").append(random.nextInt(1000))
+						.append(",unity").append(i).append(',').append(i).append(',')
+						.append(random.nextInt(400) / 100.0).append(',').append(random.nextInt(20)).append('\n');
+			}
+			Files.write(file.toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+			
+			StudentReader.resetCounters();
+			Student[] expected = StudentReader.readInputAsArray(file.getPath());
+			assertEquals(20000, expected.length);
+			for (int parallelism : new int[] { 2, 3, 8 }) {
+				Student[] actual = StudentReader.readInputAsArray(file.getPath(), parallelism);
+				assertArrayEquals(expected, actual);
+				for (int i = 0; i < actual.length; i++) {
+					assertEquals(i, actual[i].getId());
+				}
+			}
+			assertEquals(80000, StudentReader.getRowsRead());
+			assertEquals(4 * file.length(), StudentReader.getBytesRead());
+			assertTrue(StudentReader.getRowsPerSecond() > 0);
+			
+			StudentReader.resetCounters();
+			assertEquals(0, StudentReader.getRowsRead());
+			assertEquals(0, StudentReader.getRowsPerSecond(), 0);
+			assertEquals(16, StudentReader.readInputAsArray("input/student_ascendingID.csv", 4).length);
+			assertThrows(IllegalArgumentException.class,
+					() -> StudentReader.readInputAsArray("input/student_ascendingID.csv", 0));
+			assertThrows(IllegalArgumentException.class,
+					() -> StudentReader.readInputAsArray("thisfiledoesnotexist.txt", 2));
+			
+			Files.write(file.toPath(), (csv + "A,B,c,one,3.0,2\n").getBytes(StandardCharsets.UTF_8));
+			assertThrows(IllegalArgumentException.class, () -> StudentReader.readInputAsArray(file.getPath(), 4));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	/**
+	 * Tests streaming students one at a time in file order
+	 */
+	@Test
+	public void testReadInput() {
+		Student[] expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		int[] index = { 0 };
+		long count = StudentReader.readInput("input/student_randomOrder.csv", s -> {
+			assertEquals(expected[index[0]], s);
+			index[0]++;
+		});
+		assertEquals(16, count);
+		assertEquals(16, index[0]);
+		assertThrows(IllegalArgumentException.class,
+				() -> StudentReader.readInput("thisfiledoesnotexist.txt", s -> fail()));
+	}
+	
+	/**
+	 * Tests that reading with a StringTable shares repeated names
+	 * 
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	public void testReadDeduplicated() throws IOException {
+		File file = File.createTempFile("students", ".csv");
+		try {
+			StringBuilder csv = new StringBuilder("FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS\n");
+			for (int i = 0; i < 1000; i++) {
+				csv.append("First").append(i % 10).append(",Last").append(i % 50).append(",unity").append(i)
+						.append(',').append(i).append(",3.0,12\n");
+			}
+			Files.write(file.toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+			StringTable names = new StringTable();
+			Student[] contents = StudentReader.readInputAsArray(file.getPath(), names);
+			assertArrayEquals(StudentReader.readInputAsArray(file.getPath()), contents);
+			assertSame(contents[0].getFirst(), contents[10].getFirst());
+			assertSame(contents[0].getLast(), contents[50].getLast());
+			assertNotSame(contents[0].getUnityID(), contents[1].getUnityID());
+			assertEquals(60, names.size());
+			assertEquals(2000, names.getLookups());
+			assertEquals(2000.0 / 60, names.getDedupRatio(), 1e-9);
+			
+			assertEquals(16, StudentReader.readInputAsArray("input/student_randomOrder.csv", names).length);
+			assertThrows(IllegalArgumentException.class,
+					() -> StudentReader.readInputAsArray("thisfiledoesnotexist.txt", names));
+		} finally {
+			file.delete();
+		}
+	}
 }
@@ -2,7 +2,9 @@ package edu.ncsu.csc316.dsa.manager;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -10,7 +12,14 @@ import org.junit.Test;
 import edu.ncsu.csc316.dsa.data.Student;
 import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
 import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.data.StudentTable;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+import edu.ncsu.csc316.dsa.sorter.RadixSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
 
 /**
  * Test class for StudentManager
@@ -108,4 +117,258 @@ public class StudentManagerTest {
 		assertEquals("Tanner", sorted[14].getFirst());
 		assertEquals("Dante", sorted[15].getFirst());
 	}
+	
+	/**
+	 * Tests that sorting by id on primitive keys matches the ID comparator
+	 */
+	@Test
+	public void testSortByID() {
+		StudentManager smID = new StudentManager("input/student_randomOrder.csv");
+		Student[] sorted = smID.sortByID();
+		Student[] expected = new StudentManager("input/student_randomOrder.csv",
+				new InsertionSorter<Student>(new StudentIDComparator())).sort();
+		assertArrayEquals(expected, sorted);
+		assertEquals("Amber", sorted[0].getFirst());
+		assertEquals("Dante", sorted[15].getFirst());
+	}
+	
+	/**
+	 * Tests that sorting by GPA on primitive keys matches the GPA comparator
+	 */
+	@Test
+	public void testSortByGPA() {
+		Student[] sorted = sm.sortByGPA();
+		Student[] expected = new StudentManager("input/student_ascendingID.csv",
+				new InsertionSorter<Student>(new StudentGPAComparator())).sort();
+		assertArrayEquals(expected, sorted);
+		assertEquals("Nichole", sorted[0].getFirst());
+		assertEquals("Lewis", sorted[15].getFirst());
+
+		// GPAs of -0.0 and 0.0 are equal, so they are ordered by name
+		sm.add(new Student("Zed", "Zebra", 100, 12, 0.0, "zebraz"));
+		sm.add(new Student("Ann", "Aardvark", 101, 12, -0.0, "aardvarka"));
+		sorted = sm.sortByGPA();
+		assertEquals("Aardvark", sorted[16].getLast());
+		assertEquals("Zebra", sorted[17].getLast());
+		Student[] copy = sorted.clone();
+		new InsertionSorter<Student>(new StudentGPAComparator()).sort(copy);
+		assertArrayEquals(copy, sorted);
+	}
+
+	/**
+	 * Tests top returns the first students of a full sort
+	 */
+	@Test
+	public void testTop() {
+		Student[] top = sm.top(3, new StudentGPAComparator());
+		Student[] expected = new StudentManager("input/student_ascendingID.csv",
+				new InsertionSorter<Student>(new StudentGPAComparator())).sort();
+		assertEquals(3, top.length);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(expected[i], top[i]);
+		}
+		assertEquals("Nichole", top[0].getFirst());
+		assertEquals("Tanner", sm.top(1, null)[0].getFirst());
+		assertEquals(0, sm.top(0, null).length);
+		assertEquals(16, sm.top(16, null).length);
+		assertThrows(IndexOutOfBoundsException.class, () -> sm.top(17, null));
+	}
+
+	/**
+	 * Tests indexed lookups by id, unity id, and last name
+	 */
+	@Test
+	public void testIndexes() {
+		assertEquals(0, sm.getIndexBuildTime());
+		assertEquals(0, sm.getAverageQueryTime(), 0);
+		
+		assertEquals("Lacie", sm.findByID(4).getFirst());
+		assertTrue(sm.getIndexBuildTime() > 0);
+		assertNull(sm.findByID(2));
+		assertEquals("Dante", sm.findByUnityID("falcond").getFirst());
+		assertNull(sm.findByUnityID("nobody"));
+		
+		assertLastNames(sm.findByLastNamePrefix("M"), "Marsh", "Matheson", "Mclendon", "Michael", "Mott");
+		assertLastNames(sm.findByLastNamePrefix("Ma"), "Marsh", "Matheson");
+		assertLastNames(sm.findByLastNamePrefix("Pease"), "Pease");
+		assertLastNames(sm.findByLastNamePrefix("Peasey"));
+		assertLastNames(sm.findByLastNamePrefix("\uffff"));
+		assertLastNames(sm.findByLastName("Mc", "P"), "Mclendon", "Michael", "Mott");
+		assertLastNames(sm.findByLastName("Terrell", null), "Terrell", "Woodbury", "Worth");
+		assertLastNames(sm.findByLastName(null, "Dick"), "Bauman", "Carrion");
+		assertLastNames(sm.findByLastName("N", "O"));
+		
+		// Sorting the roster does not disturb the indexes
+		Student[] sorted = sm.sort();
+		assertArrayEquals(sorted, sm.findByLastNamePrefix(""));
+		assertArrayEquals(sorted, sm.findByLastName(null, null));
+		assertEquals("Lacie", sm.findByID(4).getFirst());
+		
+		assertEquals(16, sm.getQueryCount());
+		assertTrue(sm.getAverageQueryTime() > 0);
+	}
+	
+	/**
+	 * Tests adding, updating, and removing students between sorts
+	 */
+	@Test
+	public void testIncrementalUpdates() {
+		StudentManager quick = new StudentManager("input/student_randomOrder.csv", new QuickSorter<Student>());
+		Student[] sorted = quick.sort();
+		assertSame(sorted, quick.sort());
+		
+		Student added = new Student("Zed", "Aaron", 40, 12, 3.0, "aaronz");
+		quick.add(added);
+		assertEquals(17, quick.size());
+		assertEquals(added, quick.sort()[0]);
+		assertEquals("Bauman", quick.sort()[1].getLast());
+		
+		assertTrue(quick.remove(new Student("Tanner", "Bauman", 30, 0, 0, "")));
+		assertFalse(quick.remove(new Student("Tanner", "Bauman", 30, 0, 0, "")));
+		Student replacement = new Student("Nichole", "Zimmer", 23, 11, 3.63, "zimmern");
+		assertTrue(quick.update(new Student("Nichole", "Worth", 23, 0, 0, ""), replacement));
+		assertFalse(quick.update(new Student("Nobody", "Here", 99, 0, 0, ""), replacement));
+		sorted = quick.sort();
+		assertEquals(16, sorted.length);
+		assertEquals(added, sorted[0]);
+		assertEquals("Carrion", sorted[1].getLast());
+		assertEquals(replacement, sorted[15]);
+		
+		// The indexes follow the changes
+		assertSame(replacement, quick.findByID(23));
+		assertNull(quick.findByUnityID("worthn"));
+		assertNull(quick.findByUnityID("baumant"));
+		quick.add(new Student("Tanner", "Bauman", 30, 16, 1.23, "baumant"));
+		assertEquals("Bauman", quick.findByUnityID("baumant").getLast());
+		assertLastNames(quick.findByLastNamePrefix("W"), "Woodbury");
+		
+		// A Student sharing an id and unity id with another hides it from the
+		// indexes only until it is removed
+		StudentManager shared = new StudentManager("input/student_randomOrder.csv");
+		Student original = shared.findByID(23);
+		assertEquals("worthn", original.getUnityID());
+		Student clash = new Student("Other", "Person", 23, 3, 2.0, "worthn");
+		shared.add(clash);
+		assertSame(clash, shared.findByID(23));
+		assertSame(clash, shared.findByUnityID("worthn"));
+		assertTrue(shared.remove(clash));
+		assertEquals(16, shared.size());
+		assertSame(original, shared.findByID(23));
+		assertSame(original, shared.findByUnityID("worthn"));
+		Student twin = new Student(original.getFirst(), original.getLast(), 23, 1, 1.0, "twin");
+		shared.add(twin);
+		assertTrue(shared.update(twin, new Student("Twin", "Replaced", 24, 1, 1.0, "replaced")));
+		assertSame(original, shared.findByID(23));
+		assertLastNames(shared.findByLastNamePrefix("Worth"), "Worth");
+		assertSame(original, shared.findByLastNamePrefix("Worth")[0]);
+		assertTrue(shared.remove(original));
+		assertNull(shared.findByID(23));
+		assertNull(shared.findByUnityID("worthn"));
+		
+		// A lookup applies pending changes without leaving the roster out of order
+		List<Sorter<Student>> sorters = new ArrayBasedList<Sorter<Student>>();
+		sorters.addLast(new MergeSorter<Student>());
+		sorters.addLast(new RadixSorter<Student>());
+		for (Sorter<Student> sorter : sorters) {
+			StudentManager manager = new StudentManager("input/student_randomOrder.csv", sorter);
+			Student[] before = manager.sort().clone();
+			Student early = new Student("Ann", "Aardvark", 0, 12, 3.0, "aardvarka");
+			manager.add(early);
+			assertSame(early, manager.findByID(0));
+			sorted = manager.sort();
+			// The new Student comes first both by name and by id
+			assertEquals(17, sorted.length);
+			assertSame(early, sorted[0]);
+			assertArrayEquals(before, Arrays.copyOfRange(sorted, 1, sorted.length));
+		}
+		
+		// Random changes keep every kind of sorter in order
+		Random random = new Random(316);
+		StudentManager[] managers = { new StudentManager("input/student_randomOrder.csv", new QuickSorter<Student>()),
+			new StudentManager("input/student_randomOrder.csv",
+					new InsertionSorter<Student>(new StudentGPAComparator())),
+			new StudentManager("input/student_randomOrder.csv", new RadixSorter<Student>()) };
+		Comparator<Student> gpaOrder = new StudentGPAComparator();
+		Comparator<Student> idOrder = new StudentIDComparator();
+		Comparator<?>[] orders = { Comparator.naturalOrder(), gpaOrder, idOrder };
+		for (int m = 0; m < managers.length; m++) {
+			StudentManager manager = managers[m];
+			java.util.List<Student> expected = new java.util.ArrayList<Student>(Arrays.asList(manager.sort()));
+			for (int round = 0; round < 50; round++) {
+				int changes = random.nextInt(4);
+				for (int c = 0; c < changes; c++) {
+					int op = random.nextInt(3);
+					if (op == 0 || expected.isEmpty()) {
+						Student s = new Student("F" + random.nextInt(5), "L" + random.nextInt(5), 100 + round * 10 + c,
+								random.nextInt(19), random.nextInt(5), "u" + round + c);
+						manager.add(s);
+						expected.add(s);
+					} else if (op == 1) {
+						Student s = expected.remove(random.nextInt(expected.size()));
+						assertTrue(manager.remove(s));
+					} else {
+						int i = random.nextInt(expected.size());
+						Student s = new Student("F" + random.nextInt(5), "L" + random.nextInt(5),
+								expected.get(i).getId(), random.nextInt(19), random.nextInt(5), "v" + round + c);
+						assertTrue(manager.update(expected.get(i), s));
+						expected.set(i, s);
+					}
+				}
+				@SuppressWarnings("unchecked")
+				Comparator<Student> order = (Comparator<Student>) orders[m];
+				expected.sort(order);
+				assertEquals(expected.size(), manager.size());
+				assertArrayEquals(expected.toArray(new Student[0]), manager.sort());
+			}
+		}
+	}
+	
+	/**
+	 * Checks that an array of students has exactly the given last names, in order
+	 *
+	 * @param students the students to check
+	 * @param lastNames the expected last names
+	 */
+	private void assertLastNames(Student[] students, String... lastNames) {
+		assertEquals(lastNames.length, students.length);
+		for (int i = 0; i < lastNames.length; i++) {
+			assertEquals(lastNames[i], students[i].getLast());
+		}
+	}
+
+	/**
+	 * Tests the streaming queries over a student CSV file
+	 */
+	@Test
+	public void testStreamingQueries() {
+		String file = "input/student_ascendingID.csv";
+		assertEquals(16, StudentManager.count(file));
+		
+		List<Student> matches = new ArrayBasedList<Student>();
+		assertEquals(6, StudentManager.filterByCreditHours(file, 10, 11, matches::addLast));
+		assertEquals(6, matches.size());
+		for (Student s : matches) {
+			assertTrue(s.getCreditHours() == 10 || s.getCreditHours() == 11);
+		}
+		assertEquals("Amber", matches.get(0).getFirst());
+		assertEquals(0, StudentManager.filterByCreditHours(file, 19, 30, s -> fail()));
+		
+		assertEquals("Lewis", StudentManager.minGPA(file).getFirst());
+		assertEquals("Nichole", StudentManager.maxGPA(file).getFirst());
+		assertThrows(IllegalArgumentException.class, () -> StudentManager.count("thisfiledoesnotexist.txt"));
+	}
+
+	/**
+	 * Tests reading and sorting a columnar table of students
+	 */
+	@Test
+	public void testSortTable() {
+		StudentTable table = StudentManager.sortTable("input/student_ascendingID.csv",
+				new QuickSorter<StudentTable.Row>(StudentTable.GPA_ORDER));
+		Student[] expected = new StudentManager("input/student_ascendingID.csv",
+				new InsertionSorter<Student>(new StudentGPAComparator())).sort();
+		assertArrayEquals(expected, table.toArray());
+		assertEquals("Nichole", table.getFirst(0));
+		assertEquals(16, StudentManager.readTable("input/student_descendingID.csv").size());
+	}
 }
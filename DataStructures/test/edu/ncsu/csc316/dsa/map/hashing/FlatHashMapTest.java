@@ -0,0 +1,178 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for FlatHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a flat hash map data structure
+ *
+ * @author David Sweasey
+ */
+public class FlatHashMapTest {
+
+    /** Flat hash map used for testing */
+    private FlatHashMap<Integer, String> map;
+
+    /**
+     * Create a new instance of a flat hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        // When testing, h(k) = ((k + 1) % 7) % 7 for integer keys, so keys 6, 13,
+        // and 20 all have home bucket 0
+        map = new FlatHashMap<Integer, String>(7, true);
+    }
+
+    /**
+     * Test the output of the put(k,v) behavior, which places entries exactly as
+     * LinearProbingHashMap does
+     */
+    @Test
+    public void testPut() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(3, "string3"));
+        assertEquals(1, map.size());
+        assertKeys(3);
+        assertNull(map.put(4, "string4"));
+        assertNull(map.put(7, "string7"));
+        assertKeys(7, 3, 4);
+        assertNull(map.put(24, "string24"));
+        assertEquals("string24", map.put(24, "string24-2"));
+        assertNull(map.put(10, "string10"));
+        assertEquals(5, map.size());
+        assertKeys(7, 3, 4, 24, 10);
+    }
+
+    /**
+     * Test the output of the get(k) behavior
+     */
+    @Test
+    public void testGet() {
+        assertNull(map.get(7));
+        map.put(7, "string7");
+        map.put(14, "string14");
+        map.put(0, "string0");
+        map.put(3, "string3");
+        assertEquals("string7", map.get(7));
+        assertEquals("string14", map.get(14));
+        assertEquals("string0", map.get(0));
+        assertNull(map.get(21));
+        map.put(14, "string14-2");
+        assertEquals("string14-2", map.get(14));
+    }
+
+    /**
+     * Test the output of the remove(k) behavior, including shifting later
+     * entries back into the removed slot
+     */
+    @Test
+    public void testRemove() {
+        assertNull(map.remove(3));
+        map.put(6, "string6");
+        map.put(13, "string13");
+        map.put(20, "string20");
+        map.put(1, "string1");
+        assertEquals("string13", map.remove(13));
+        assertNull(map.remove(13));
+        assertEquals(3, map.size());
+        // 20 and 1 both move back a slot
+        assertKeys(6, 20, 1);
+        assertEquals("string20", map.get(20));
+        assertEquals("string1", map.get(1));
+
+        // Shifting wraps around the end of the table, and leaves an entry in
+        // its home bucket alone
+        map = new FlatHashMap<Integer, String>(7, true);
+        map.put(5, "string5");
+        map.put(12, "string12");
+        map.put(0, "string0");
+        assertKeys(12, 0, 5);
+        assertEquals("string5", map.remove(5));
+        assertKeys(0, 12);
+        assertEquals("string12", map.get(12));
+        assertEquals("string0", map.remove(0));
+        assertEquals("string12", map.remove(12));
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Tests that entries are copies of the table's contents
+     */
+    @Test
+    public void testEntrySet() {
+        map.put(6, "string6");
+        map.put(13, "string13");
+        Iterator<Map.Entry<Integer, String>> it = map.entrySet().iterator();
+        Map.Entry<Integer, String> entry = it.next();
+        assertEquals(6, (int) entry.getKey());
+        assertEquals("string6", entry.getValue());
+        assertEquals("string13", it.next().getValue());
+        assertFalse(it.hasNext());
+        map.put(6, "string6-2");
+        assertEquals("string6", entry.getValue());
+    }
+
+    /**
+     * Tests the probe length histograms
+     */
+    @Test
+    public void testProbeHistograms() {
+        assertArrayEquals(new int[] { 0 }, map.getProbeHistogram());
+        assertArrayEquals(new int[] { 7 }, map.getMissProbeHistogram());
+        map.put(6, "string6");
+        map.put(13, "string13");
+        map.put(20, "string20");
+        // The fourth put grows the table to 15 slots, with the same home buckets
+        map.put(1, "string1");
+        assertArrayEquals(new int[] { 1, 2, 1 }, map.getProbeHistogram());
+        map.remove(13);
+        // No deleted slot is left behind to lengthen misses
+        assertArrayEquals(new int[] { 2, 1 }, map.getProbeHistogram());
+        assertArrayEquals(new int[] { 12, 1, 1, 1 }, map.getMissProbeHistogram());
+    }
+
+    /**
+     * Tests a long random series of operations against java.util.HashMap, with
+     * and without incremental resizing
+     */
+    @Test
+    public void testChurn() {
+        for (boolean incremental : new boolean[] { false, true }) {
+            FlatHashMap<Integer, Integer> flat = new FlatHashMap<Integer, Integer>();
+            flat.setIncrementalResize(incremental);
+            java.util.Map<Integer, Integer> expected = HashMapTests.checkRandomOperations(HashMapTests.of(flat),
+                    50000, 4000, contents -> { });
+            HashMapTests.assertEntries(expected, flat);
+        }
+    }
+
+    /**
+     * Checks that the map holds exactly the given keys, in table order
+     *
+     * @param keys the expected keys
+     */
+    private void assertKeys(int... keys) {
+        Iterator<Integer> it = map.iterator();
+        for (int key : keys) {
+            assertEquals(key, (int) it.next());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    /**
+     * Tests switching to multiply-shift compression, which keeps the capacity a
+     * power of two, and back
+     */
+    @Test
+    public void testMultiplyShiftCompression() {
+        HashMapTests.checkMultiplyShiftCompression(FlatHashMap::new);
+    }
+}
@@ -0,0 +1,338 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Checks shared by the hash map test classes: a random series of operations
+ * checked against java.util.HashMap, and the behaviors every AbstractHashMap
+ * inherits
+ *
+ * @author David Sweasey
+ */
+final class HashMapTests {
+
+    /**
+     * The operations of a hash map with int keys and Integer values, so that
+     * maps with boxed and primitive keys can be checked the same way
+     */
+    interface IntKeyMap {
+
+        /**
+         * Associates a value with a key
+         *
+         * @param key   the key
+         * @param value the value
+         * @return the value previously associated with the key, or null
+         */
+        Integer put(int key, Integer value);
+
+        /**
+         * Returns the value associated with a key
+         *
+         * @param key the key
+         * @return the value associated with the key, or null
+         */
+        Integer get(int key);
+
+        /**
+         * Removes a key and its value
+         *
+         * @param key the key
+         * @return the value that was associated with the key, or null
+         */
+        Integer remove(int key);
+
+        /**
+         * Returns the number of entries
+         *
+         * @return the number of entries
+         */
+        int size();
+    }
+
+    /**
+     * Prevents instantiation
+     */
+    private HashMapTests() {
+    }
+
+    /**
+     * Returns the operations of a Map with Integer keys
+     *
+     * @param map the map
+     * @return the map's operations
+     */
+    static IntKeyMap of(Map<Integer, Integer> map) {
+        return new IntKeyMap() {
+            @Override
+            public Integer put(int key, Integer value) {
+                return map.put(key, value);
+            }
+
+            @Override
+            public Integer get(int key) {
+                return map.get(key);
+            }
+
+            @Override
+            public Integer remove(int key) {
+                return map.remove(key);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the operations of an IntObjectHashMap
+     *
+     * @param map the map
+     * @return the map's operations
+     */
+    static IntKeyMap of(IntObjectHashMap<Integer> map) {
+        return new IntKeyMap() {
+            @Override
+            public Integer put(int key, Integer value) {
+                return map.put(key, value);
+            }
+
+            @Override
+            public Integer get(int key) {
+                return map.get(key);
+            }
+
+            @Override
+            public Integer remove(int key) {
+                return map.remove(key);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the operations of an IntIntHashMap, reporting its missing value
+     * as null
+     *
+     * @param map the map, whose missing value is never put
+     * @return the map's operations
+     */
+    static IntKeyMap of(IntIntHashMap map) {
+        return new IntKeyMap() {
+            @Override
+            public Integer put(int key, Integer value) {
+                return box(map.put(key, value));
+            }
+
+            @Override
+            public Integer get(int key) {
+                return box(map.get(key));
+            }
+
+            @Override
+            public Integer remove(int key) {
+                return box(map.remove(key));
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            /**
+             * Returns a value, or null if it is the missing value
+             *
+             * @param value the value returned by the map
+             * @return the value, or null
+             */
+            private Integer box(int value) {
+                return value == map.getMissingValue() ? null : value;
+            }
+        };
+    }
+
+    /**
+     * Returns the operations of a LongObjectHashMap, with each int key k spread
+     * into a long key whose high 32 bits are k / 8 and whose low bits are k % 8,
+     * so that many keys differ only in their high bits
+     *
+     * @param map the map
+     * @return the map's operations
+     */
+    static IntKeyMap of(LongObjectHashMap<Integer> map) {
+        return new IntKeyMap() {
+            @Override
+            public Integer put(int key, Integer value) {
+                return map.put(spread(key), value);
+            }
+
+            @Override
+            public Integer get(int key) {
+                return map.get(spread(key));
+            }
+
+            @Override
+            public Integer remove(int key) {
+                return map.remove(spread(key));
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            /**
+             * Spreads an int key into a long key
+             *
+             * @param key the int key
+             * @return the long key
+             */
+            private long spread(int key) {
+                return ((long) (key / 8) << 32) + key % 8;
+            }
+        };
+    }
+
+    /**
+     * Applies a repeatable random series of puts, gets, and removes of keys
+     * between -keys / 2 and keys / 2 to a map and to a java.util.HashMap,
+     * checking that every result and size agree
+     *
+     * @param map        the map to check
+     * @param operations the number of operations
+     * @param keys       the number of distinct keys
+     * @param afterEach  further checks to make after each operation, given the
+     *                   expected contents
+     * @return the expected contents of the map afterwards
+     */
+    static java.util.Map<Integer, Integer> checkRandomOperations(IntKeyMap map, int operations, int keys,
+            Consumer<java.util.Map<Integer, Integer>> afterEach) {
+        java.util.Map<Integer, Integer> expected = new java.util.HashMap<Integer, Integer>();
+        Random random = new Random(316);
+        for (int i = 0; i < operations; i++) {
+            int key = random.nextInt(keys) - keys / 2;
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else if (op == 1) {
+                assertEquals(expected.get(key), map.get(key));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+            afterEach.accept(expected);
+        }
+        return expected;
+    }
+
+    /**
+     * Checks that the entries of a map are exactly the expected contents
+     *
+     * @param expected the expected contents
+     * @param map      the map to check
+     */
+    static void assertEntries(java.util.Map<Integer, Integer> expected, Map<Integer, Integer> map) {
+        int entries = 0;
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            entries++;
+        }
+        assertEquals(expected.size(), entries);
+    }
+
+    /**
+     * Checks that an incrementally resized map behaves like a map resized all
+     * at once, including while a resize is in progress, and that turning
+     * incremental resizing off finishes the resize in progress
+     *
+     * @param incremental an empty map
+     */
+    static void checkIncrementalResize(AbstractHashMap<Integer, Integer> incremental) {
+        incremental.setIncrementalResize(true);
+        boolean[] resized = { false };
+        java.util.Map<Integer, Integer> expected = checkRandomOperations(of(incremental), 20000, 5000, contents -> {
+            if (incremental.isResizing()) {
+                resized[0] = true;
+                assertEntries(contents, incremental);
+            }
+        });
+        assertTrue(resized[0]);
+
+        while (!incremental.isResizing()) {
+            incremental.put(incremental.size() + 5000, 0);
+            expected.put(expected.size() + 5000, 0);
+        }
+        incremental.setIncrementalResize(false);
+        assertFalse(incremental.isResizing());
+        assertEntries(expected, incremental);
+    }
+
+    /**
+     * Checks switching a map to multiply-shift compression, which keeps the
+     * capacity a power of two, and back, including while resizing incrementally
+     *
+     * @param maps creates an empty map with the given capacity, in testing mode
+     *             if the flag is true
+     */
+    static void checkMultiplyShiftCompression(BiFunction<Integer, Boolean, AbstractHashMap<Integer, Integer>> maps) {
+        AbstractHashMap<Integer, Integer> shifting = maps.apply(7, true);
+        assertEquals(AbstractHashMap.Compression.MAD, shifting.getCompression());
+        shifting.put(1, 1);
+        shifting.put(2, 2);
+        shifting.put(3, 3);
+        shifting.setCompression(AbstractHashMap.Compression.MULTIPLY_SHIFT);
+        assertEquals(AbstractHashMap.Compression.MULTIPLY_SHIFT, shifting.getCompression());
+        assertEquals(8, shifting.capacity());
+        // When testing the multiplier is 0x9E3779B9, so the top 3 bits of the
+        // products put 1, 2, and 3 in buckets 4, 1, and 6
+        assertEquals(4, shifting.compress(1));
+        assertEquals(1, shifting.compress(2));
+        assertEquals(6, shifting.compress(3));
+        Iterator<Integer> it = shifting.iterator();
+        assertEquals(2, (int) it.next());
+        assertEquals(1, (int) it.next());
+        assertEquals(3, (int) it.next());
+        assertFalse(it.hasNext());
+        shifting.put(4, 4);
+        shifting.put(5, 5);
+        assertEquals(16, shifting.capacity());
+        assertEquals(3, (int) shifting.get(3));
+        try {
+            shifting.setCompression(null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(AbstractHashMap.Compression.MULTIPLY_SHIFT, shifting.getCompression());
+        }
+
+        // Random operations agree with java.util.HashMap while resizing
+        // incrementally and switching strategy part way through
+        AbstractHashMap<Integer, Integer> switching = maps.apply(16, false);
+        switching.setCompression(AbstractHashMap.Compression.MULTIPLY_SHIFT);
+        switching.setIncrementalResize(true);
+        int[] operations = { 0 };
+        java.util.Map<Integer, Integer> expected = checkRandomOperations(of(switching), 20000, 5000, contents -> {
+            operations[0]++;
+            if (operations[0] <= 15000) {
+                assertEquals(1, Integer.bitCount(switching.capacity()));
+            }
+            if (operations[0] == 15000) {
+                switching.setCompression(AbstractHashMap.Compression.MAD);
+            }
+        });
+        assertEquals(AbstractHashMap.Compression.MAD, switching.getCompression());
+        assertEntries(expected, switching);
+    }
+}
@@ -0,0 +1,76 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for IntIntHashMap
+ *
+ * @author David Sweasey
+ */
+public class IntIntHashMapTest {
+
+    /** Map used for testing, whose missing value is -1 */
+    private IntIntHashMap map;
+
+    /**
+     * Create a new instance of a map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        map = new IntIntHashMap(4, -1);
+    }
+
+    /**
+     * Test the output of the put(k,v), get(k), and remove(k) behaviors,
+     * including the missing value
+     */
+    @Test
+    public void testPutGetRemove() {
+        assertEquals(-1, map.getMissingValue());
+        assertEquals(0, new IntIntHashMap().getMissingValue());
+        assertTrue(map.isEmpty());
+        assertEquals(-1, map.get(0));
+        assertEquals(-1, map.put(0, 10));
+        assertEquals(-1, map.put(7, -1));
+        assertEquals(10, map.put(0, 20));
+        assertEquals(2, map.size());
+        assertEquals(20, map.get(0));
+        // The missing value can be stored; containsKey tells them apart
+        assertEquals(-1, map.get(7));
+        assertTrue(map.containsKey(7));
+        assertFalse(map.containsKey(8));
+        assertEquals(-1, map.remove(8));
+        assertEquals(20, map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Tests adding to the values of keys in and not in the map
+     */
+    @Test
+    public void testIncrement() {
+        assertEquals(3, map.increment(5, 3));
+        assertEquals(5, map.increment(5, 2));
+        assertEquals(-4, map.increment(6, -4));
+        assertEquals(5, map.get(5));
+        assertEquals(2, map.size());
+    }
+
+    /**
+     * Tests a long random series of operations against java.util.HashMap,
+     * through several resizes
+     */
+    @Test
+    public void testChurn() {
+        IntIntHashMap churned = new IntIntHashMap(16, -1);
+        java.util.Map<Integer, Integer> expected = HashMapTests.checkRandomOperations(HashMapTests.of(churned),
+                50000, 4000, contents -> { });
+        for (java.util.Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertTrue(churned.containsKey(entry.getKey()));
+        }
+    }
+}
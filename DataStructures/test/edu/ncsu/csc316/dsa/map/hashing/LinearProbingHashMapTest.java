@@ -248,4 +248,40 @@ public class LinearProbingHashMapTest {
     	assertEquals("string5", map.get(5));
     	assertEquals("string5", map.remove(5));
     }
-}
\ No newline at end of file
+    
+    /**
+     * Tests the probe length histograms, including the lengthening of misses by
+     * deleted slots
+     */
+    @Test
+    public void testProbeHistograms() {
+    	LinearProbingHashMap<Integer, String> probing = new LinearProbingHashMap<Integer, String>(7, true);
+    	assertArrayEquals(new int[] { 0 }, probing.getProbeHistogram());
+    	assertArrayEquals(new int[] { 7 }, probing.getMissProbeHistogram());
+    	probing.put(6, "string6");
+    	probing.put(13, "string13");
+    	probing.put(20, "string20");
+    	assertArrayEquals(new int[] { 1, 1, 1 }, probing.getProbeHistogram());
+    	probing.remove(13);
+    	assertArrayEquals(new int[] { 1, 0, 1 }, probing.getProbeHistogram());
+    	assertArrayEquals(new int[] { 4, 1, 1, 1 }, probing.getMissProbeHistogram());
+    }
+    
+    /**
+     * Tests that an incrementally resized map behaves like a map resized all at
+     * once, including while a resize is in progress
+     */
+    @Test
+    public void testIncrementalResize() {
+    	HashMapTests.checkIncrementalResize(new LinearProbingHashMap<Integer, Integer>());
+    }
+
+    /**
+     * Tests switching to multiply-shift compression, which keeps the capacity a
+     * power of two, and back
+     */
+    @Test
+    public void testMultiplyShiftCompression() {
+        HashMapTests.checkMultiplyShiftCompression(LinearProbingHashMap::new);
+    }
+}
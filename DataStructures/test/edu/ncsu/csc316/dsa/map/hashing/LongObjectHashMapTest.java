@@ -0,0 +1,110 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for LongObjectHashMap
+ *
+ * @author David Sweasey
+ */
+public class LongObjectHashMapTest {
+
+    /** Map used for testing */
+    private LongObjectHashMap<String> map;
+
+    /**
+     * Create a new instance of a map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        map = new LongObjectHashMap<String>();
+    }
+
+    /**
+     * Tests the constructors, including rounding the capacity up to a power of
+     * two
+     */
+    @Test
+    public void testConstructors() {
+        assertEquals(16, map.capacity());
+        assertEquals(2, new LongObjectHashMap<String>(0).capacity());
+        assertEquals(128, new LongObjectHashMap<String>(100).capacity());
+        assertEquals(128, new LongObjectHashMap<String>(128).capacity());
+        try {
+            new LongObjectHashMap<String>(-1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Capacity must not be negative.", e.getMessage());
+        }
+    }
+
+    /**
+     * Test the output of the put(k,v), get(k), and remove(k) behaviors,
+     * including keys that hash to the same bucket
+     */
+    @Test
+    public void testPutGetRemove() {
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertNull(map.put(0, "zero"));
+        assertNull(map.put(-1, "minus one"));
+        assertNull(map.put(Long.MIN_VALUE, "min"));
+        assertEquals("zero", map.put(0, "zero-2"));
+        assertEquals(3, map.size());
+        assertEquals("zero-2", map.get(0));
+        assertEquals("minus one", map.get(-1));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+        assertNull(map.get(1));
+
+        // Keys that share a home bucket form one cluster, and removing from the
+        // middle of it must leave the rest reachable
+        LongObjectHashMap<String> colliding = new LongObjectHashMap<String>(32);
+        long[] keys = new long[6];
+        int found = 0;
+        for (long key = 1; found < keys.length; key++) {
+            if (colliding.bucket(key) == colliding.bucket(0L)) {
+                keys[found++] = key;
+            }
+        }
+        for (long key : keys) {
+            assertNull(colliding.put(key, "v" + key));
+        }
+        assertEquals("v" + keys[2], colliding.remove(keys[2]));
+        assertNull(colliding.remove(keys[2]));
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i == 2 ? null : "v" + keys[i], colliding.get(keys[i]));
+        }
+        assertEquals(5, colliding.size());
+        assertEquals(32, colliding.capacity());
+
+        assertEquals("zero-2", map.remove(0));
+        assertEquals(2, map.size());
+
+        try {
+            map.put(5L, null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Values must not be null.", e.getMessage());
+        }
+    }
+
+    /**
+     * Tests a long random series of operations against java.util.HashMap,
+     * through several resizes
+     */
+    @Test
+    public void testChurn() {
+        LongObjectHashMap<Integer> churned = new LongObjectHashMap<Integer>();
+        java.util.Map<Integer, Integer> expected = HashMapTests.checkRandomOperations(HashMapTests.of(churned),
+                50000, 4000, contents -> { });
+        for (java.util.Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertTrue(churned.containsKey(((long) (entry.getKey() / 8) << 32) + entry.getKey() % 8));
+        }
+        assertTrue(churned.capacity() >= 2 * churned.size());
+    }
+}
@@ -0,0 +1,170 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for RobinHoodHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a Robin Hood hash map data structure
+ *
+ * @author David Sweasey
+ */
+public class RobinHoodHashMapTest {
+
+	/** Robin Hood hash map used for testing */
+    private RobinHoodHashMap<Integer, String> map;
+
+    /**
+     * Create a new instance of a Robin Hood hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        // When testing, h(k) = ((k + 1) % 7) % 7 for integer keys, so for
+        // example 6, 13, and 20 all have home bucket 0
+        map = new RobinHoodHashMap<Integer, String>(7, true);
+    }
+
+    /**
+     * Test the output of the put(k,v) behavior, including entries displaced by
+     * entries further from home
+     */
+    @Test
+    public void testPut() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(6, "string6"));
+        assertNull(map.put(13, "string13"));
+        assertNull(map.put(1, "string1"));
+        // 7 has home bucket 1 but is two slots from home at slot 2, so it takes
+        // slot 2 from 1, which is in its home bucket, and 1 moves to slot 3
+        assertNull(map.put(7, "string7"));
+        assertEquals("string7", map.put(7, "string7-2"));
+        assertEquals(4, map.size());
+        assertKeys(6, 13, 7, 1);
+        assertArrayEquals(new int[] { 1, 3 }, map.getProbeHistogram());
+        assertArrayEquals(new int[] { 3, 1, 3 }, map.getMissProbeHistogram());
+    }
+
+    /**
+     * Test the output of the get(k) behavior
+     */
+    @Test
+    public void testGet() {
+        map.put(6, "string6");
+        map.put(13, "string13");
+        map.put(1, "string1");
+        map.put(7, "string7");
+        assertEquals("string6", map.get(6));
+        assertEquals("string13", map.get(13));
+        assertEquals("string7", map.get(7));
+        assertEquals("string1", map.get(1));
+        assertNull(map.get(20));
+        assertNull(map.get(8));
+        assertNull(map.get(3));
+    }
+
+    /**
+     * Test the output of the remove(k) behavior, which shifts entries back
+     * instead of leaving deleted slots
+     */
+    @Test
+    public void testRemove() {
+        assertNull(map.remove(6));
+        map.put(6, "string6");
+        map.put(13, "string13");
+        map.put(1, "string1");
+        map.put(7, "string7");
+        assertEquals("string13", map.remove(13));
+        assertNull(map.remove(13));
+        assertEquals(3, map.size());
+        // 7 and 1 shift back into their home buckets
+        assertKeys(6, 7, 1);
+        assertArrayEquals(new int[] { 3 }, map.getProbeHistogram());
+        assertArrayEquals(new int[] { 4, 3 }, map.getMissProbeHistogram());
+        assertEquals("string7", map.get(7));
+        assertEquals("string6", map.remove(6));
+        assertEquals("string7", map.remove(7));
+        assertEquals("string1", map.remove(1));
+        assertTrue(map.isEmpty());
+        assertArrayEquals(new int[] { 7 }, map.getMissProbeHistogram());
+    }
+
+    /**
+     * Tests that the map behaves like java.util.HashMap through heavy churn, at
+     * high load, and while resizing incrementally, and that removals do not
+     * lengthen probes
+     */
+    @Test
+    public void testChurn() {
+        for (boolean incremental : new boolean[] { false, true }) {
+            RobinHoodHashMap<Integer, Integer> robinHood = new RobinHoodHashMap<Integer, Integer>();
+            robinHood.setIncrementalResize(incremental);
+            java.util.Map<Integer, Integer> expected = HashMapTests.checkRandomOperations(
+                    HashMapTests.of(robinHood), 50000, 4000, contents -> { });
+            HashMapTests.assertEntries(expected, robinHood);
+            robinHood.setIncrementalResize(false);
+            int entries = 0;
+            for (int count : robinHood.getProbeHistogram()) {
+                entries += count;
+            }
+            assertEquals(robinHood.size(), entries);
+        }
+
+        // Filled to just under the load limit, then churned, misses stay short.
+        // Multiplying a counter by an odd constant gives distinct scattered keys.
+        // The testing hash function keeps the probe lengths repeatable.
+        RobinHoodHashMap<Integer, String> full = new RobinHoodHashMap<Integer, String>(16384, true);
+        full.setCompression(AbstractHashMap.Compression.MULTIPLY_SHIFT);
+        Random random = new Random(316);
+        int next = 0;
+        int[] keys = new int[14000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = next++ * 0x9E3779B9;
+            full.put(keys[i], "v");
+        }
+        for (int round = 0; round < 100000; round++) {
+            int i = random.nextInt(keys.length);
+            assertEquals("v", full.remove(keys[i]));
+            keys[i] = next++ * 0x9E3779B9;
+            full.put(keys[i], "v");
+        }
+        assertEquals(14000, full.size());
+        assertEquals(16384, full.capacity());
+        assertTrue(mean(full.getMissProbeHistogram()) < 20);
+        assertTrue(mean(full.getProbeHistogram()) < 10);
+    }
+
+    /**
+     * Returns the mean number of slots inspected according to a probe histogram
+     *
+     * @param histogram the histogram
+     * @return the mean probe length
+     */
+    private double mean(int[] histogram) {
+        long total = 0;
+        long count = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            total += (long) (i + 1) * histogram[i];
+            count += histogram[i];
+        }
+        return (double) total / count;
+    }
+
+    /**
+     * Checks that the map holds exactly the given keys, in table order
+     *
+     * @param keys the expected keys
+     */
+    private void assertKeys(int... keys) {
+        Iterator<Integer> it = map.iterator();
+        for (int key : keys) {
+            assertEquals(key, (int) it.next());
+        }
+        assertFalse(it.hasNext());
+    }
+}
@@ -242,5 +242,22 @@ public class SeparateChainingHashMapTest {
     	assertEquals("string5", map.get(5));
     	assertEquals("string5", map.remove(5));
     }
-}
+    
+    /**
+     * Tests that an incrementally resized map behaves like a map resized all at
+     * once, including while a resize is in progress
+     */
+    @Test
+    public void testIncrementalResize() {
+    	HashMapTests.checkIncrementalResize(new SeparateChainingHashMap<Integer, Integer>());
+    }
 
+    /**
+     * Tests switching to multiply-shift compression, which keeps the capacity a
+     * power of two, and back
+     */
+    @Test
+    public void testMultiplyShiftCompression() {
+        HashMapTests.checkMultiplyShiftCompression(SeparateChainingHashMap::new);
+    }
+}
@@ -147,6 +147,45 @@ public class BinarySearchTreeMapTest {
     	assertFalse(it.hasNext());
     }
     
+    /**
+     * Tests the subMap behavior
+     */
+    @Test
+    public void testSubMap() {
+    	assertFalse(tree.subMap(null, null).iterator().hasNext());
+    	int[] keys = { 50, 20, 80, 10, 30, 70, 90, 25, 35, 60 };
+    	for (int key : keys) {
+    		tree.put(key, "v" + key);
+    	}
+    	assertSubMap(tree.subMap(25, 70), 25, 30, 35, 50, 60);
+    	assertSubMap(tree.subMap(26, 71), 30, 35, 50, 60, 70);
+    	assertSubMap(tree.subMap(null, 25), 10, 20);
+    	assertSubMap(tree.subMap(80, null), 80, 90);
+    	assertSubMap(tree.subMap(null, null), 10, 20, 25, 30, 35, 50, 60, 70, 80, 90);
+    	assertSubMap(tree.subMap(36, 50));
+    	assertSubMap(tree.subMap(70, 70));
+    	assertSubMap(tree.subMap(95, null));
+    	
+    	Iterator<Entry<Integer, String>> it = tree.subMap(60, 61).iterator();
+    	assertEquals("v60", it.next().getValue());
+    	assertFalse(it.hasNext());
+    }
+    
+    /**
+     * Checks that a range of entries holds exactly the given keys, in order
+     *
+     * @param range the entries to check
+     * @param keys the expected keys
+     */
+    private void assertSubMap(Iterable<Entry<Integer, String>> range, int... keys) {
+    	Iterator<Entry<Integer, String>> it = range.iterator();
+    	for (int key : keys) {
+    		assertTrue(it.hasNext());
+    		assertEquals(key, (int) it.next().getKey());
+    	}
+    	assertFalse(it.hasNext());
+    }
+    
     /**
      * Tests toString
      */
@@ -1,6 +1,9 @@
 package edu.ncsu.csc316.dsa.sorter;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -88,5 +91,58 @@ public class CountingSorterTest {
 		assertEquals(sFour, descending[3]);
 		assertEquals(sFive, descending[4]);
 	}
-
+	
+	/**
+	 * Tests that CountingSorter counts densely when the range of ids is small
+	 */
+	@Test
+	public void testSortDense() {
+		assertNull(sorter.getLastStrategy());
+		Student[] original = { sTwo, sOne, sFour, sThree, sFive };
+		sorter.sort(original);
+		assertEquals(CountingSorter.Strategy.DENSE, sorter.getLastStrategy());
+		assertArrayEquals(new Student[] { sOne, sTwo, sThree, sFour, sFive }, original);
+		
+		Student[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+	
+	/**
+	 * Tests that CountingSorter uses a hash table when the range of ids is huge
+	 * but few ids are distinct, and keeps equal ids in their original order
+	 */
+	@Test
+	public void testSortHashed() {
+		int[] ids = { Integer.MAX_VALUE, -5, 1000000, Integer.MIN_VALUE, 7 };
+		Student[] data = new Student[1000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = new Student("First" + i, "Last", ids[i % ids.length], 1, 1.0, "unity" + i);
+		}
+		Student[] expected = data.clone();
+		Arrays.sort(expected, (one, two) -> Integer.compare(one.getId(), two.getId()));
+		sorter.sort(data);
+		assertEquals(CountingSorter.Strategy.HASHED, sorter.getLastStrategy());
+		assertArrayEquals(expected, data);
+	}
+	
+	/**
+	 * Tests that CountingSorter delegates to a radix sort when the range of ids is
+	 * huge and most ids are distinct
+	 */
+	@Test
+	public void testSortRadix() {
+		Random rand = new Random(316);
+		Student[] data = new Student[1000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = new Student("First" + i, "Last", rand.nextInt(), 1, 1.0, "unity" + i);
+		}
+		data[0].setId(Integer.MAX_VALUE);
+		data[1].setId(Integer.MIN_VALUE);
+		Student[] expected = data.clone();
+		Arrays.sort(expected, (one, two) -> Integer.compare(one.getId(), two.getId()));
+		sorter.sort(data);
+		assertEquals(CountingSorter.Strategy.RADIX, sorter.getLastStrategy());
+		assertArrayEquals(expected, data);
+	}
 }
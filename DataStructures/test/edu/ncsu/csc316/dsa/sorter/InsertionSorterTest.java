@@ -103,4 +103,20 @@ public class InsertionSorterTest {
 		assertEquals(0, s5.compareTo(studentRandom[4]));
 		
 	}
+	
+	/**
+	 * Tests InsertionSorter on a sub-range of an array
+	 */
+	@Test
+	public void testSortRange() {
+		Integer[] data = { 9, 5, 4, 3, 2, 1, 0 };
+		new InsertionSorter<Integer>().sort(data, 1, 6);
+		assertEquals(0, Integer.compare(9, data[0]));
+		assertEquals(0, Integer.compare(1, data[1]));
+		assertEquals(0, Integer.compare(2, data[2]));
+		assertEquals(0, Integer.compare(3, data[3]));
+		assertEquals(0, Integer.compare(4, data[4]));
+		assertEquals(0, Integer.compare(5, data[5]));
+		assertEquals(0, Integer.compare(0, data[6]));
+	}
 }
@@ -0,0 +1,118 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+
+/**
+ * Test class for KeySorter
+ * 
+ * @author David Sweasey
+ */
+public class KeySorterTest {
+
+	/**
+	 * Tests sorting students by an int key in both directions, including negative
+	 * and extreme ids, and that equal ids keep their original order
+	 */
+	@Test
+	public void testSortByInt() {
+		Student[] roster = randomRoster(5000);
+		roster[0].setId(Integer.MIN_VALUE);
+		roster[1].setId(Integer.MAX_VALUE);
+		roster[2].setId(-1);
+
+		Student[] expected = roster.clone();
+		Arrays.sort(expected, Comparator.comparingInt(Student::getId));
+		Student[] data = roster.clone();
+		KeySorter.byInt(Student::getId).sort(data);
+		assertArrayEquals(expected, data);
+
+		Arrays.sort(expected, Comparator.comparingInt(Student::getId).reversed());
+		data = roster.clone();
+		KeySorter.byInt(Student::getId, true, null).sort(data);
+		assertArrayEquals(expected, data);
+	}
+
+	/**
+	 * Tests sorting students by a long key in both directions
+	 */
+	@Test
+	public void testSortByLong() {
+		Student[] roster = randomRoster(5000);
+		ToLongFunction<Student> key = s -> (long) s.getId() * s.getCreditHours() - Integer.MAX_VALUE;
+
+		Student[] expected = roster.clone();
+		Arrays.sort(expected, Comparator.comparingLong(key));
+		Student[] data = roster.clone();
+		KeySorter.byLong(key).sort(data);
+		assertArrayEquals(expected, data);
+
+		Arrays.sort(expected, Comparator.comparingLong(key).reversed());
+		data = roster.clone();
+		KeySorter.byLong(key, true, null).sort(data);
+		assertArrayEquals(expected, data);
+	}
+
+	/**
+	 * Tests that sorting by descending GPA with a natural order tie-breaker matches
+	 * StudentGPAComparator, and that double keys follow Double.compare
+	 */
+	@Test
+	public void testSortByDouble() {
+		Student[] roster = randomRoster(5000);
+		Student[] expected = roster.clone();
+		Arrays.sort(expected, new StudentGPAComparator());
+		Student[] data = roster.clone();
+		KeySorter.byDouble(Student::getGpa, true, Comparator.<Student>naturalOrder()).sort(data);
+		assertArrayEquals(expected, data);
+
+		Double[] values = { 2.5, -0.5, Double.NaN, 0.0, Double.NEGATIVE_INFINITY, -3.0, Double.MAX_VALUE };
+		Double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		KeySorter.<Double>byDouble(Double::doubleValue).sort(values);
+		assertArrayEquals(sorted, values);
+	}
+
+	/**
+	 * Tests sorting empty and single element arrays and a null key extractor
+	 */
+	@Test
+	public void testSortEdgeCases() {
+		Student[] empty = {};
+		KeySorter.byInt(Student::getId).sort(empty);
+		assertEquals(0, empty.length);
+		Student[] single = randomRoster(1);
+		Student only = single[0];
+		KeySorter.byInt(Student::getId).sort(single);
+		assertSame(only, single[0]);
+
+		assertThrows(IllegalArgumentException.class, () -> KeySorter.byInt(null));
+		assertThrows(IllegalArgumentException.class, () -> KeySorter.byLong(null));
+		assertThrows(IllegalArgumentException.class, () -> KeySorter.byDouble(null));
+	}
+
+	/**
+	 * Returns a roster of students with few distinct ids, credit hours, and GPAs
+	 * 
+	 * @param n the number of students
+	 * @return the roster
+	 */
+	private Student[] randomRoster(int n) {
+		Random rand = new Random(316);
+		Student[] roster = new Student[n];
+		for (int i = 0; i < n; i++) {
+			roster[i] = new Student("First" + rand.nextInt(20), "Last" + rand.nextInt(20), rand.nextInt(500) - 250,
+					rand.nextInt(18), rand.nextInt(41) / 10.0, "unity" + i);
+		}
+		return roster;
+	}
+}
@@ -0,0 +1,120 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Test class for MSDRadixSorter
+ * 
+ * @author David Sweasey
+ */
+public class MSDRadixSorterTest {
+
+	/** Sorter object that sorts students in their natural order */
+	private Sorter<Student> studentSorter;
+
+	/**
+	 * Creates the sorter used for testing
+	 */
+	@Before
+	public void setUp() {
+		studentSorter = new MSDRadixSorter<Student>(Comparator.comparingInt(Student::getId),
+				Student::getLast, Student::getFirst);
+	}
+
+	/**
+	 * Tests MSDRadixSorter with varying lists of students
+	 */
+	@Test
+	public void testSortStudent() {
+		Student s1 = new Student("Jason", "Alastair", 4410, 13, 3.45, "jalastair");
+		Student s2 = new Student("Alfred", "Smith", 4404, 15, 3.82, "asmith");
+		Student s3 = new Student("Colby", "Smith", 4392, 14, 2.99, "csmith");
+		Student s4 = new Student("Colby", "Smith", 4399, 16, 4.00, "csmith2");
+		Student s5 = new Student("David", "Sweasey", 4400, 13, 4.00, "dbswease");
+
+		Student[] studentDescending = { s5, s4, s3, s2, s1 };
+		Student[] studentRandom = {s3, s5, s2, s1, s4};
+
+		studentSorter.sort(studentDescending);
+		assertArrayEquals(new Student[] { s1, s2, s3, s4, s5 }, studentDescending);
+
+		studentSorter.sort(studentRandom);
+		assertArrayEquals(new Student[] { s1, s2, s3, s4, s5 }, studentRandom);
+
+		Student[] empty = {};
+		studentSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests that MSDRadixSorter sorts the input rosters in their natural order
+	 */
+	@Test
+	public void testSortRoster() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>().sort(expected);
+		studentSorter.sort(roster);
+		assertArrayEquals(expected, roster);
+	}
+
+	/**
+	 * Tests MSDRadixSorter on large inputs with shared prefixes, empty keys,
+	 * duplicate names, and characters outside of ASCII
+	 */
+	@Test
+	public void testSortLarge() {
+		Random rand = new Random(316);
+		String[] prefixes = { "", "Mc", "Mac", "Van der ", "O'", "\u00c9", "\u4e2d" };
+		Student[] roster = new Student[20000];
+		for (int i = 0; i < roster.length; i++) {
+			String last = prefixes[rand.nextInt(prefixes.length)] + randomName(rand, rand.nextInt(4));
+			String first = randomName(rand, 1 + rand.nextInt(2));
+			roster[i] = new Student(first, last, rand.nextInt(1000), 12, 3.0, "unity" + i);
+		}
+		Student[] expected = roster.clone();
+		Arrays.sort(expected);
+		studentSorter.sort(roster);
+		assertArrayEquals(expected, roster);
+
+		Sorter<Student> unitySorter = new MSDRadixSorter<Student>(Student::getUnityID);
+		unitySorter.sort(roster);
+		for (int i = 1; i < roster.length; i++) {
+			assertTrue(roster[i - 1].getUnityID().compareTo(roster[i].getUnityID()) <= 0);
+		}
+	}
+
+	/**
+	 * Tests that a sorter needs at least one key
+	 */
+	@Test
+	public void testNoKeys() {
+		assertThrows(IllegalArgumentException.class, () -> new MSDRadixSorter<Student>());
+	}
+
+	/**
+	 * Returns a random name made of the given number of short syllables
+	 * 
+	 * @param rand the random number generator to use
+	 * @param syllables the number of syllables
+	 * @return the random name
+	 */
+	private String randomName(Random rand, int syllables) {
+		String[] parts = { "a", "an", "ber", "Bo", "de", "Li", "li", "son", "z" };
+		StringBuilder name = new StringBuilder();
+		for (int i = 0; i < syllables; i++) {
+			name.append(parts[rand.nextInt(parts.length)]);
+		}
+		return name.toString();
+	}
+}
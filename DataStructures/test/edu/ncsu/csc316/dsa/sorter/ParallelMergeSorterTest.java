@@ -0,0 +1,122 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+
+/**
+ * Test class for ParallelMergeSorter
+ *
+ * @author David Sweasey
+ */
+public class ParallelMergeSorterTest {
+
+	/** Integer data used for testing in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+
+	/** Integer data used for testing in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+
+	/** Integer data used for testing in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+
+	/** Sorter object used to sort integers */
+	private Sorter<Integer> integerSorter;
+
+	/** Sorter object used to sort students */
+	private Sorter<Student> studentSorter;
+
+	/**
+	 * Creates the sorters used for testing
+	 */
+	@Before
+	public void setUp() {
+		integerSorter = new ParallelMergeSorter<Integer>(null, 1);
+		studentSorter = new ParallelMergeSorter<Student>(null, 1);
+	}
+
+	/**
+	 * Tests ParallelMergeSorter with varying lists of integers
+	 */
+	@Test
+	public void testSortIntegers() {
+		integerSorter.sort(dataAscending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataAscending);
+
+		integerSorter.sort(dataDescending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataDescending);
+
+		integerSorter.sort(dataRandom);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataRandom);
+
+		Integer[] empty = {};
+		integerSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests ParallelMergeSorter with varying lists of students
+	 */
+	@Test
+	public void testSortStudent() {
+		Student s1 = new Student("Jason", "Alastair", 4410, 13, 3.45, "jalastair");
+		Student s2 = new Student("Alfred", "Smith", 4404, 15, 3.82, "asmith");
+		Student s3 = new Student("Colby", "Smith", 4392, 14, 2.99, "csmith");
+		Student s4 = new Student("Colby", "Smith", 4399, 16, 4.00, "csmith2");
+		Student s5 = new Student("David", "Sweasey", 4400, 13, 4.00, "dbswease");
+
+		Student[] studentDescending = { s5, s4, s3, s2, s1 };
+		Student[] studentRandom = {s3, s5, s2, s1, s4};
+
+		studentSorter.sort(studentDescending);
+		assertArrayEquals(new Student[] { s1, s2, s3, s4, s5 }, studentDescending);
+
+		studentSorter.sort(studentRandom);
+		assertArrayEquals(new Student[] { s1, s2, s3, s4, s5 }, studentRandom);
+	}
+
+	/**
+	 * Tests that large arrays, which are split across tasks, are sorted exactly
+	 * like MergeSorter and that equal elements keep their original order
+	 */
+	@Test
+	public void testSortLargeStable() {
+		Random random = new Random(316);
+		Student[] roster = new Student[50000];
+		for (int i = 0; i < roster.length; i++) {
+			// Few distinct GPAs so that many students tie under the comparator
+			double gpa = random.nextInt(40) / 10.0;
+			roster[i] = new Student("First" + i, "Last", i, 12, gpa, "unity" + i);
+		}
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>((one, two) -> Double.compare(one.getGpa(), two.getGpa())).sort(expected);
+
+		Sorter<Student> sorter = new ParallelMergeSorter<Student>((one, two) -> Double.compare(one.getGpa(), two.getGpa()));
+		sorter.sort(roster);
+		assertArrayEquals(expected, roster);
+		for (int i = 1; i < roster.length; i++) {
+			if (roster[i - 1].getGpa() == roster[i].getGpa()) {
+				assertTrue(roster[i - 1].getId() < roster[i].getId());
+			}
+		}
+
+		Student[] byGPA = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(byGPA);
+		new ParallelMergeSorter<Student>(new StudentGPAComparator(), 8).sort(roster);
+		assertArrayEquals(byGPA, roster);
+	}
+
+	/**
+	 * Tests that an invalid cutoff is rejected
+	 */
+	@Test
+	public void testInvalidCutoff() {
+		assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSorter<Integer>(null, 0));
+	}
+}
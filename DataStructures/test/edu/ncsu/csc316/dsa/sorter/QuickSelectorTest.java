@@ -0,0 +1,148 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Test class for QuickSelector
+ * 
+ * @author David Sweasey
+ */
+public class QuickSelectorTest {
+
+	/** Integer data used for testing in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+
+	/** Integer data used for testing in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+
+	/** Integer data used for testing in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+
+	/** Selector used to select integers */
+	private PartialSorter<Integer> integerSelector;
+
+	/**
+	 * Creates the selector used for testing
+	 */
+	@Before
+	public void setUp() {
+		integerSelector = new QuickSelector<Integer>();
+	}
+
+	/**
+	 * Tests sorting integers, which partially sorts the whole array
+	 */
+	@Test
+	public void testSortIntegers() {
+		integerSelector.sort(dataAscending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataAscending);
+		integerSelector.sort(dataDescending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataDescending);
+		integerSelector.sort(dataRandom);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataRandom);
+		Integer[] empty = {};
+		integerSelector.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests select returns the element of each rank
+	 */
+	@Test
+	public void testSelect() {
+		for (int k = 0; k < 5; k++) {
+			Integer[] data = dataRandom.clone();
+			assertEquals(Integer.valueOf(k + 1), integerSelector.select(data, k));
+			assertEquals(Integer.valueOf(k + 1), data[k]);
+		}
+		assertEquals(Integer.valueOf(5), integerSelector.select(dataDescending, 4));
+		assertEquals(Integer.valueOf(1), integerSelector.select(new Integer[] { 1 }, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> integerSelector.select(dataRandom, 5));
+		assertThrows(IndexOutOfBoundsException.class, () -> integerSelector.select(dataRandom, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> integerSelector.select(new Integer[0], 0));
+	}
+
+	/**
+	 * Tests nthElement partitions random data, data with many duplicates, and
+	 * data crafted against median-of-three pivots around index k
+	 */
+	@Test
+	public void testNthElement() {
+		Random random = new Random(316);
+		for (int trial = 0; trial < 50; trial++) {
+			int n = 1 + random.nextInt(500);
+			int bound = trial % 2 == 0 ? 10 : 1000000;
+			Integer[] data = new Integer[n];
+			for (int i = 0; i < n; i++) {
+				data[i] = random.nextInt(bound);
+			}
+			Integer[] expected = data.clone();
+			Arrays.sort(expected);
+			int k = random.nextInt(n);
+			integerSelector.nthElement(data, k);
+			assertEquals(expected[k], data[k]);
+			for (int i = 0; i < k; i++) {
+				assertTrue(data[i] <= data[k]);
+			}
+			for (int i = k + 1; i < n; i++) {
+				assertTrue(data[i] >= data[k]);
+			}
+			Arrays.sort(data);
+			assertArrayEquals(expected, data);
+		}
+
+		Integer[] organPipe = new Integer[1000];
+		for (int i = 0; i < organPipe.length; i++) {
+			organPipe[i] = Math.min(i, organPipe.length - 1 - i);
+		}
+		integerSelector.nthElement(organPipe, 500);
+		assertEquals(Integer.valueOf(250), organPipe[500]);
+	}
+
+	/**
+	 * Tests partialSort puts the k smallest elements first in sorted order
+	 */
+	@Test
+	public void testPartialSort() {
+		Integer[] data = { 9, 3, 7, 1, 8, 2, 6, 4, 5, 0 };
+		integerSelector.partialSort(data, 3);
+		assertArrayEquals(new Integer[] { 0, 1, 2 }, Arrays.copyOf(data, 3));
+		Integer[] rest = Arrays.copyOfRange(data, 3, data.length);
+		Arrays.sort(rest);
+		assertArrayEquals(new Integer[] { 3, 4, 5, 6, 7, 8, 9 }, rest);
+
+		integerSelector.partialSort(dataDescending, 0);
+		assertArrayEquals(new Integer[] { 5, 4, 3, 2, 1 }, dataDescending);
+		integerSelector.partialSort(dataDescending, 5);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataDescending);
+		assertThrows(IndexOutOfBoundsException.class, () -> integerSelector.partialSort(dataRandom, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> integerSelector.partialSort(dataRandom, -1));
+
+		Integer[] descending = { 5, 4, 3, 2, 1 };
+		new QuickSelector<Integer>(Comparator.reverseOrder()).partialSort(descending, 2);
+		assertArrayEquals(new Integer[] { 5, 4 }, Arrays.copyOf(descending, 2));
+	}
+
+	/**
+	 * Tests finding the students with the highest GPAs
+	 */
+	@Test
+	public void testPartialSortStudent() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_ascendingID.csv");
+		Student[] expected = roster.clone();
+		Arrays.sort(expected, new StudentGPAComparator());
+		new QuickSelector<Student>(new StudentGPAComparator()).partialSort(roster, 4);
+		assertArrayEquals(Arrays.copyOf(expected, 4), Arrays.copyOf(roster, 4));
+	}
+}
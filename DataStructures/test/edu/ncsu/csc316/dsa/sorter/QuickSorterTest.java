@@ -2,10 +2,15 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
 
 /**
  * Test class for QuickSorter
@@ -219,4 +224,174 @@ public class QuickSorterTest {
 		assertEquals(0, s4.compareTo(studentRandom[3]));
 		assertEquals(0, s5.compareTo(studentRandom[4]));
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Tests QuickSorter in introspective mode with every pivot selector on small
+	 * inputs, which are finished with insertion sort
+	 */
+	@Test
+	public void testSortIntrospectiveSmall() {
+		assertFalse(new QuickSorter<Integer>().isIntrospective());
+		QuickSorter<Integer> sorter = new QuickSorter<Integer>(null, QuickSorter.FIRST_ELEMENT_SELECTOR, true);
+		assertTrue(sorter.isIntrospective());
+		sorter.sort(dataDescending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataDescending);
+		
+		Integer[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+	
+	/**
+	 * Tests QuickSorter in introspective mode on large ascending, descending,
+	 * all-equal, and random inputs that would be quadratic for plain quicksort
+	 */
+	@Test
+	public void testSortIntrospectiveLarge() {
+		int n = 100000;
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		Integer[] equal = new Integer[n];
+		Integer[] random = new Integer[n];
+		Random rand = new Random(316);
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+			equal[i] = 7;
+			random[i] = rand.nextInt(n);
+		}
+		Integer[][] inputs = { ascending, descending, equal, random };
+		
+		for (Integer[] input : inputs) {
+			for (int s = 0; s < 4; s++) {
+				Integer[] data = input.clone();
+				Integer[] expected = input.clone();
+				Arrays.sort(expected);
+				QuickSorter<Integer> sorter;
+				if (s == 0) {
+					sorter = new QuickSorter<Integer>(null, QuickSorter.FIRST_ELEMENT_SELECTOR, true);
+				} else if (s == 1) {
+					sorter = new QuickSorter<Integer>(null, QuickSorter.LAST_ELEMENT_SELECTOR, true);
+				} else if (s == 2) {
+					sorter = new QuickSorter<Integer>(null, QuickSorter.MIDDLE_ELEMENT_SELECTOR, true);
+				} else {
+					sorter = new QuickSorter<Integer>(null, QuickSorter.RANDOM_ELEMENT_SELECTOR, true);
+				}
+				sorter.sort(data);
+				assertArrayEquals(expected, data);
+			}
+		}
+	}
+	
+	/**
+	 * Tests that plain quicksort with the first element selector no longer
+	 * overflows the stack on a large sorted input
+	 */
+	@Test
+	public void testSortFirstElementSelectorSortedInput() {
+		Integer[] data = new Integer[20000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = i;
+		}
+		integerSorter = new QuickSorter<Integer>(QuickSorter.FIRST_ELEMENT_SELECTOR);
+		integerSorter.sort(data);
+		for (int i = 0; i < data.length; i++) {
+			assertEquals(i, (int) data[i]);
+		}
+	}
+	
+	/**
+	 * Tests every partitioning scheme, with and without introspective mode, on
+	 * inputs with many, few, and one distinct value
+	 */
+	@Test
+	public void testSortPartitionSchemes() {
+		Random rand = new Random(316);
+		int[] sizes = { 0, 1, 2, 3, 10, 17, 100, 1000, 5000 };
+		int[] distinct = { 1, 2, 5, 100, Integer.MAX_VALUE };
+		for (QuickSorter.PartitionScheme scheme : QuickSorter.PartitionScheme.values()) {
+			for (int introspective = 0; introspective < 2; introspective++) {
+				QuickSorter<Integer> sorter = new QuickSorter<Integer>(null, null, scheme, introspective == 1);
+				assertEquals(scheme, sorter.getPartitionScheme());
+				for (int n : sizes) {
+					for (int d : distinct) {
+						Integer[] data = new Integer[n];
+						for (int i = 0; i < n; i++) {
+							data[i] = rand.nextInt(d);
+						}
+						Integer[] expected = data.clone();
+						Arrays.sort(expected);
+						sorter.sort(data);
+						assertArrayEquals(expected, data);
+					}
+				}
+			}
+		}
+		assertEquals(QuickSorter.PartitionScheme.LOMUTO, new QuickSorter<Integer>().getPartitionScheme());
+	}
+	
+	/**
+	 * Tests the partitioning schemes on students ordered by GPA with every pivot selector
+	 */
+	@Test
+	public void testSortPartitionSchemesGPA() {
+		Random rand = new Random(316);
+		Student[] roster = new Student[5000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last" + rand.nextInt(50), i, 12, rand.nextInt(5) / 2.0, "unity" + i);
+		}
+		Comparator<Student> comp = new StudentGPAComparator();
+		Student[] expected = roster.clone();
+		Arrays.sort(expected, comp);
+		
+		Student[] data = roster.clone();
+		new QuickSorter<Student>(comp, QuickSorter.FIRST_ELEMENT_SELECTOR, QuickSorter.PartitionScheme.THREE_WAY, false).sort(data);
+		assertArrayEquals(expected, data);
+		data = roster.clone();
+		new QuickSorter<Student>(comp, QuickSorter.LAST_ELEMENT_SELECTOR, QuickSorter.PartitionScheme.DUAL_PIVOT, false).sort(data);
+		assertArrayEquals(expected, data);
+		data = roster.clone();
+		new QuickSorter<Student>(comp, QuickSorter.MIDDLE_ELEMENT_SELECTOR, QuickSorter.PartitionScheme.THREE_WAY, true).sort(data);
+		assertArrayEquals(expected, data);
+		data = roster.clone();
+		new QuickSorter<Student>(comp, QuickSorter.RANDOM_ELEMENT_SELECTOR, QuickSorter.PartitionScheme.DUAL_PIVOT, true).sort(data);
+		assertArrayEquals(expected, data);
+	}
+	
+	/**
+	 * Tests that the three-way and dual-pivot schemes make far fewer comparisons
+	 * than the single pivot scheme when there are few distinct keys
+	 */
+	@Test
+	public void testFewDistinctKeysComparisons() {
+		Random rand = new Random(316);
+		Integer[] input = new Integer[20000];
+		for (int i = 0; i < input.length; i++) {
+			input[i] = rand.nextInt(20);
+		}
+		long lomuto = countComparisons(QuickSorter.PartitionScheme.LOMUTO, input);
+		long threeWay = countComparisons(QuickSorter.PartitionScheme.THREE_WAY, input);
+		long dualPivot = countComparisons(QuickSorter.PartitionScheme.DUAL_PIVOT, input);
+		assertTrue(threeWay * 10 < lomuto);
+		assertTrue(dualPivot * 10 < lomuto);
+	}
+	
+	/**
+	 * Sorts a copy of the input with the given partitioning scheme and returns the
+	 * number of comparisons made
+	 * 
+	 * @param scheme the partitioning scheme to use
+	 * @param input the data to sort
+	 * @return the number of comparisons made while sorting
+	 */
+	private long countComparisons(QuickSorter.PartitionScheme scheme, Integer[] input) {
+		long[] count = new long[1];
+		Comparator<Integer> counting = (one, two) -> {
+			count[0]++;
+			return one.compareTo(two);
+		};
+		Integer[] data = input.clone();
+		new QuickSorter<Integer>(counting, QuickSorter.MIDDLE_ELEMENT_SELECTOR, scheme, false).sort(data);
+		return count[0];
+	}
+}
@@ -1,6 +1,9 @@
 package edu.ncsu.csc316.dsa.sorter;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -88,5 +91,57 @@ public class RadixSorterTest {
 		assertEquals(sFour, descending[3]);
 		assertEquals(sFive, descending[4]);
 	}
-
+	
+	/**
+	 * Tests RadixSorter on students with negative, zero, and very large ids
+	 */
+	@Test
+	public void testSortNegativeIds() {
+		Student min = new Student("Min", "Min", Integer.MIN_VALUE, 1, 1.0, "min");
+		Student negative = new Student("Neg", "Neg", -316, 1, 1.0, "neg");
+		Student zero = new Student("Zero", "Zero", 0, 1, 1.0, "zero");
+		Student max = new Student("Max", "Max", Integer.MAX_VALUE, 1, 1.0, "max");
+		Student[] data = { max, sTwo, zero, negative, sOne, min };
+		sorter.sort(data);
+		assertArrayEquals(new Student[] { min, negative, zero, sOne, sTwo, max }, data);
+	}
+	
+	/**
+	 * Tests that RadixSorter with every digit size sorts large inputs stably
+	 */
+	@Test
+	public void testSortDigitSizes() {
+		Random rand = new Random(316);
+		Student[] roster = new Student[10000];
+		for (int i = 0; i < roster.length; i++) {
+			int id = i % 2 == 0 ? rand.nextInt(1000) - 500 : rand.nextInt();
+			roster[i] = new Student("First" + i, "Last", id, 12, 3.0, "unity" + i);
+		}
+		Student[] expected = roster.clone();
+		Arrays.sort(expected, (one, two) -> Integer.compare(one.getId(), two.getId()));
+		for (int bits = 1; bits <= 16; bits++) {
+			RadixSorter<Student> radix = new RadixSorter<Student>(bits);
+			assertEquals(bits, radix.getBitsPerDigit());
+			Student[] data = roster.clone();
+			radix.sort(data);
+			assertArrayEquals(expected, data);
+		}
+	}
+	
+	/**
+	 * Tests RadixSorter on empty and single element arrays and invalid digit sizes
+	 */
+	@Test
+	public void testSortEdgeCases() {
+		Student[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+		Student[] single = { sOne };
+		sorter.sort(single);
+		assertEquals(sOne, single[0]);
+		assertEquals(RadixSorter.DEFAULT_BITS_PER_DIGIT, sorter.getBitsPerDigit());
+		
+		assertThrows(IllegalArgumentException.class, () -> new RadixSorter<Student>(0));
+		assertThrows(IllegalArgumentException.class, () -> new RadixSorter<Student>(17));
+	}
 }
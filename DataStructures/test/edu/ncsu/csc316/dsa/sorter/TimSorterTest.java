@@ -0,0 +1,152 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Test class for TimSorter
+ * 
+ * @author David Sweasey
+ */
+public class TimSorterTest {
+
+	/** Integer data used for testing in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+
+	/** Integer data used for testing in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+
+	/** Integer data used for testing in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+
+	/** Sorter object used to sort integers */
+	private Sorter<Integer> integerSorter;
+
+	/** Sorter object used to sort students */
+	private Sorter<Student> studentSorter;
+
+	/**
+	 * Creates the sorters used for testing
+	 */
+	@Before
+	public void setUp() {
+		integerSorter = new TimSorter<Integer>();
+		studentSorter = new TimSorter<Student>();
+	}
+
+	/**
+	 * Tests TimSorter with varying lists of integers
+	 */
+	@Test
+	public void testSortIntegers() {
+		integerSorter.sort(dataAscending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataAscending);
+
+		integerSorter.sort(dataDescending);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataDescending);
+
+		integerSorter.sort(dataRandom);
+		assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, dataRandom);
+
+		Integer[] empty = {};
+		integerSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Tests TimSorter on the input rosters with the natural order and the GPA comparator
+	 */
+	@Test
+	public void testSortStudent() {
+		String[] files = { "input/student_ascendingID.csv", "input/student_descendingID.csv",
+				"input/student_randomOrder.csv" };
+		for (String file : files) {
+			Student[] roster = StudentReader.readInputAsArray(file);
+			Student[] expected = roster.clone();
+			new MergeSorter<Student>().sort(expected);
+			studentSorter.sort(roster);
+			assertArrayEquals(expected, roster);
+
+			new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+			new TimSorter<Student>(new StudentGPAComparator()).sort(roster);
+			assertArrayEquals(expected, roster);
+		}
+	}
+
+	/**
+	 * Tests that TimSorter is stable on large inputs of many shapes
+	 */
+	@Test
+	public void testSortLargeStable() {
+		Random rand = new Random(316);
+		int[] sizes = { 31, 32, 33, 64, 1000, 65536, 100003 };
+		Comparator<Student> byGPA = (one, two) -> Double.compare(one.getGpa(), two.getGpa());
+		for (int n : sizes) {
+			for (int shape = 0; shape < 5; shape++) {
+				Student[] roster = new Student[n];
+				for (int i = 0; i < n; i++) {
+					double gpa;
+					if (shape == 0) {
+						gpa = rand.nextInt(n);
+					} else if (shape == 1) {
+						gpa = i;
+					} else if (shape == 2) {
+						gpa = n - i;
+					} else if (shape == 3) {
+						gpa = rand.nextInt(5);
+					} else {
+						// Sorted runs of random lengths, some ascending and some descending
+						gpa = (i / 50) % 2 == 0 ? i % 50 : 50 - i % 50;
+					}
+					roster[i] = new Student("First", "Last", i, 12, gpa, "unity" + i);
+				}
+				if (shape == 1) {
+					for (int i = 0; i < 10; i++) {
+						roster[rand.nextInt(n)].setGpa(rand.nextInt(n));
+					}
+				}
+				Student[] expected = roster.clone();
+				Arrays.sort(expected, byGPA);
+				new TimSorter<Student>(byGPA).sort(roster);
+				assertArrayEquals(expected, roster);
+			}
+		}
+	}
+
+	/**
+	 * Tests that sorted and reverse sorted inputs are sorted with a linear number of comparisons
+	 */
+	@Test
+	public void testSortLinearOnRuns() {
+		int n = 100000;
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+		}
+		long[] count = new long[1];
+		Comparator<Integer> counting = (one, two) -> {
+			count[0]++;
+			return one.compareTo(two);
+		};
+		new TimSorter<Integer>(counting).sort(ascending);
+		assertEquals(n - 1, count[0]);
+		count[0] = 0;
+		new TimSorter<Integer>(counting).sort(descending);
+		assertEquals(n - 1, count[0]);
+		for (int i = 0; i < n; i++) {
+			assertEquals(i + 1, (int) descending[i]);
+		}
+	}
+}